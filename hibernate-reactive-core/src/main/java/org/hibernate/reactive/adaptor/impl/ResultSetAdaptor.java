@@ -37,6 +37,8 @@
 import java.time.LocalTime;
 import java.time.OffsetDateTime;
 import java.util.Calendar;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -50,9 +52,38 @@ public class ResultSetAdaptor implements ResultSet {
 	private Row row;
 	private boolean wasNull;
 
+	/**
+	 * The position of each column, by label, resolved the first time the
+	 * column is read, since Hibernate reads every value by label, and the
+	 * Vert.x client searches the list of column names for each label.
+	 * Every row of the result has the same columns.
+	 */
+	private final Map<String, Integer> positions;
+
 	public ResultSetAdaptor(RowSet<Row> rows) {
 		this.iterator = rows.iterator();
 		this.rows = rows;
+		List<String> columnNames = rows.columnsNames();
+		this.positions = new HashMap<>( columnNames == null ? 16 : columnNames.size() * 2 );
+	}
+
+	/**
+	 * @return the zero-based position of the column with the given label,
+	 *         or -1 if there is no such column
+	 */
+	private int position(String columnLabel) {
+		Integer position = positions.get( columnLabel );
+		if ( position == null ) {
+			if ( row == null ) {
+				// next() was not called yet, so there's no row
+				// which could resolve the label
+				List<String> columnNames = rows.columnsNames();
+				return columnNames == null ? -1 : columnNames.indexOf( columnLabel );
+			}
+			position = row.getColumnIndex( columnLabel );
+			positions.put( columnLabel, position );
+		}
+		return position;
 	}
 
 	@Override
@@ -104,7 +135,7 @@ public int getInt(int columnIndex) {
 
 	@Override
 	public long getLong(int columnIndex) {
-		Long integer = row.getLong(columnIndex);
+		Long integer = row.getLong( columnIndex );
 		return (wasNull=integer==null) ? 0 : integer;
 	}
 
@@ -166,49 +197,57 @@ public InputStream getBinaryStream(int columnIndex) {
 
 	@Override
 	public String getString(String columnLabel) {
-		String string = row.getString(columnLabel);
+		int position = position( columnLabel );
+		String string = position < 0 ? null : row.getString( position );
 		return (wasNull=string==null) ? null : string;
 	}
 
 	@Override
 	public boolean getBoolean(String columnLabel) {
-		Boolean bool = row.getBoolean(columnLabel);
+		int position = position( columnLabel );
+		Boolean bool = position < 0 ? null : row.getBoolean( position );
 		return (wasNull=bool==null) ? false : bool;
 	}
 
 	@Override
 	public byte getByte(String columnLabel) {
-		Integer integer = row.getInteger( columnLabel );
+		int position = position( columnLabel );
+		Integer integer = position < 0 ? null : row.getInteger( position );
 		return (wasNull=integer==null) ? 0 : integer.byteValue();
 	}
 
 	@Override
 	public short getShort(String columnLabel) {
-		Short integer = row.getShort(columnLabel);
+		int position = position( columnLabel );
+		Short integer = position < 0 ? null : row.getShort( position );
 		return (wasNull=integer==null) ? 0 : integer;
 	}
 
 	@Override
 	public int getInt(String columnLabel) {
-		Integer integer = row.getInteger( columnLabel );
+		int position = position( columnLabel );
+		Integer integer = position < 0 ? null : row.getInteger( position );
 		return (wasNull=integer==null) ? 0 : integer;
 	}
 
 	@Override
 	public long getLong(String columnLabel) {
-		Long integer = row.getLong(columnLabel);
+		int position = position( columnLabel );
+		Long integer = position < 0 ? null : row.getLong( position );
 		return (wasNull=integer==null) ? 0 : integer;
 	}
 
 	@Override
 	public float getFloat(String columnLabel) {
-		Float real = row.getFloat(columnLabel);
+		int position = position( columnLabel );
+		Float real = position < 0 ? null : row.getFloat( position );
 		return (wasNull=real==null) ? 0 : real;
 	}
 
 	@Override
 	public double getDouble(String columnLabel) {
-		Double real = row.getDouble(columnLabel);
+		int position = position( columnLabel );
+		Double real = position < 0 ? null : row.getDouble( position );
 		return (wasNull=real==null) ? 0 : real;
 	}
 
@@ -219,31 +258,36 @@ public BigDecimal getBigDecimal(String columnLabel, int scale) {
 
 	@Override
 	public byte[] getBytes(String columnLabel) {
-		Buffer buffer = row.getBuffer(columnLabel);
+		int position = position( columnLabel );
+		Buffer buffer = position < 0 ? null : row.getBuffer( position );
 		return (wasNull=buffer==null) ? null : buffer.getBytes();
 	}
 
 	@Override
 	public Date getDate(String columnLabel) {
-		LocalDate localDate = row.getLocalDate(columnLabel);
+		int position = position( columnLabel );
+		LocalDate localDate = position < 0 ? null : row.getLocalDate( position );
 		return (wasNull=localDate==null) ? null : java.sql.Date.valueOf(localDate);
 	}
 
 	@Override
 	public Time getTime(String columnLabel) {
-		LocalTime localTime = row.getLocalTime(columnLabel);
+		int position = position( columnLabel );
+		LocalTime localTime = position < 0 ? null : row.getLocalTime( position );
 		return (wasNull=localTime==null) ? null : Time.valueOf(localTime);
 	}
 
 	@Override
 	public Timestamp getTimestamp(String columnLabel) {
-		Object rawValue = row.getValue(columnLabel);
+		int position = position( columnLabel );
+		Object rawValue = position < 0 ? null : row.getValue( position );
 		return (wasNull=rawValue==null) ? null : Timestamp.valueOf( toLocalDateTime(rawValue) );
 	}
 
 	@Override
 	public Timestamp getTimestamp(String columnLabel, Calendar cal) {
-		Object rawValue = row.getValue(columnLabel);
+		int position = position( columnLabel );
+		Object rawValue = position < 0 ? null : row.getValue( position );
 		return (wasNull=rawValue==null) ? null : Timestamp.from( toOffsetDateTime(rawValue, cal).toInstant() );
 	}
 
@@ -289,7 +333,8 @@ public <T> T getObject(int columnIndex, Class<T> type) {
 
 	@Override
 	public <T> T getObject(String columnLabel, Class<T> type) {
-		T object = row.get( type, row.getColumnIndex(columnLabel) );
+		int position = position( columnLabel );
+		T object = position < 0 ? null : row.get( type, position );
 		return (wasNull=object==null) ? null : object;
 	}
 
@@ -445,7 +490,8 @@ public Object getObject(int columnIndex) {
 
 	@Override
 	public Object getObject(String columnLabel) {
-		Object object = row.getValue( columnLabel );
+		int position = position( columnLabel );
+		Object object = position < 0 ? null : row.getValue( position );
 		return (wasNull=object==null) ? null : object;
 	}
 
@@ -463,7 +509,8 @@ public BigDecimal getBigDecimal(int columnIndex) {
 
 	@Override
 	public BigDecimal getBigDecimal(String columnLabel) {
-		BigDecimal decimal = row.getBigDecimal(columnLabel);
+		int position = position( columnLabel );
+		BigDecimal decimal = position < 0 ? null : row.getBigDecimal( position );
 		return (wasNull=decimal==null) ? null : decimal;
 	}
 
@@ -670,7 +717,8 @@ public Ref getRef(String columnLabel) {
 
 	@Override
 	public Blob getBlob(String columnLabel) {
-		Buffer buffer = (Buffer) row.getValue( columnLabel );
+		int position = position( columnLabel );
+		Buffer buffer = position < 0 ? null : (Buffer) row.getValue( position );
 		return ( wasNull = buffer == null )
 				? null
 				: BlobProxy.generateProxy( buffer.getBytes() );
@@ -0,0 +1,53 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.cache;
+
+import org.hibernate.Incubating;
+
+import java.util.concurrent.CompletionStage;
+
+/**
+ * A named region of an asynchronous second-level cache, obtained from a
+ * {@link ReactiveRegionFactory}.
+ * <p>
+ * Every operation returns a {@link CompletionStage}, and so a region may
+ * be backed by a remote or off-heap store without blocking the Vert.x
+ * event loop. An in-process implementation may simply return a stage
+ * which is already completed.
+ * <p>
+ * A region holds entries with nonstrict read-write semantics: an entry
+ * is {@link #evict evicted} after the database is updated, and again
+ * after the transaction completes, and is never locked.
+ */
+@Incubating
+public interface ReactiveCacheRegion {
+
+	/**
+	 * The name of the region.
+	 */
+	String getName();
+
+	/**
+	 * Obtain the value cached for the given key, or {@code null} if there
+	 * is no entry for the key.
+	 */
+	CompletionStage<Object> get(Object key);
+
+	/**
+	 * Cache the given value, replacing any existing entry for the key.
+	 */
+	CompletionStage<Void> put(Object key, Object value);
+
+	/**
+	 * Remove the entry for the given key, if any.
+	 */
+	CompletionStage<Void> evict(Object key);
+
+	/**
+	 * Remove every entry of the region.
+	 */
+	CompletionStage<Void> evictAll();
+}
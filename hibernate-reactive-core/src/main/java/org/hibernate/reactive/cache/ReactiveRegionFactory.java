@@ -0,0 +1,45 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.cache;
+
+import org.hibernate.Incubating;
+import org.hibernate.service.Service;
+
+/**
+ * A Hibernate {@link Service} that provides the
+ * {@link ReactiveCacheRegion asynchronous cache regions} consulted by
+ * Hibernate Reactive in place of the regions of the ORM
+ * {@link org.hibernate.cache.spi.RegionFactory}.
+ * <p>
+ * An implementation may be selected by setting the configuration property
+ * {@link org.hibernate.reactive.provider.Settings#CACHE_REGION_FACTORY}
+ * to either {@code local}, for the bundled in-process implementation,
+ * or to the name of a class implementing this interface. By default,
+ * there is no asynchronous cache.
+ * <p>
+ * The ORM second-level cache must also be enabled, since it still
+ * determines which entities are cacheable, the names of their regions,
+ * and the keys of their entries, and it still holds the update
+ * timestamps of the query cache.
+ */
+@Incubating
+public interface ReactiveRegionFactory extends Service {
+
+	/**
+	 * If this method returns {@code false}, {@link #getRegion} is never
+	 * called, and the ORM second-level cache is used as usual.
+	 */
+	default boolean isEnabled() {
+		return true;
+	}
+
+	/**
+	 * Obtain the region with the given name, creating it if necessary.
+	 *
+	 * @param regionName the qualified name of an entity or query cache region
+	 */
+	ReactiveCacheRegion getRegion(String regionName);
+}
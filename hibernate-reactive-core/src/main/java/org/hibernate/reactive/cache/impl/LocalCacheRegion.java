@@ -0,0 +1,90 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.cache.impl;
+
+import org.hibernate.reactive.cache.ReactiveCacheRegion;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+
+import static org.hibernate.reactive.util.impl.CompletionStages.completedFuture;
+import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
+
+/**
+ * A {@link ReactiveCacheRegion} held in memory, which evicts its least
+ * recently used entry when it reaches its maximum size. Every operation
+ * completes before it returns, since it never waits for anything but
+ * the monitor of the region.
+ */
+public class LocalCacheRegion implements ReactiveCacheRegion {
+
+	private final String name;
+	private final int maxEntries;
+	private final Map<Object, Object> entries;
+
+	public LocalCacheRegion(String name, int maxEntries) {
+		this.name = name;
+		this.maxEntries = maxEntries;
+		// in access order, so that the eldest entry is the least recently used
+		this.entries = new LinkedHashMap<Object, Object>( 16, 0.75f, true ) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Object, Object> eldest) {
+				return size() > LocalCacheRegion.this.maxEntries;
+			}
+		};
+	}
+
+	@Override
+	public String getName() {
+		return name;
+	}
+
+	@Override
+	public CompletionStage<Object> get(Object key) {
+		synchronized (entries) {
+			return completedFuture( entries.get( key ) );
+		}
+	}
+
+	@Override
+	public CompletionStage<Void> put(Object key, Object value) {
+		synchronized (entries) {
+			entries.put( key, value );
+		}
+		return voidFuture();
+	}
+
+	@Override
+	public CompletionStage<Void> evict(Object key) {
+		synchronized (entries) {
+			entries.remove( key );
+		}
+		return voidFuture();
+	}
+
+	@Override
+	public CompletionStage<Void> evictAll() {
+		synchronized (entries) {
+			entries.clear();
+		}
+		return voidFuture();
+	}
+
+	/**
+	 * The number of entries currently held by the region.
+	 */
+	public int size() {
+		synchronized (entries) {
+			return entries.size();
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "LocalCacheRegion(" + name + ")";
+	}
+}
@@ -0,0 +1,44 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.cache.impl;
+
+import org.hibernate.reactive.cache.ReactiveCacheRegion;
+import org.hibernate.reactive.cache.ReactiveRegionFactory;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * The bundled in-process {@link ReactiveRegionFactory}, whose regions
+ * each hold at most a configured number of entries, evicting the least
+ * recently used entry when full.
+ *
+ * @see LocalCacheRegion
+ * @see org.hibernate.reactive.provider.Settings#CACHE_MAX_ENTRIES
+ */
+public class LocalReactiveRegionFactory implements ReactiveRegionFactory {
+
+	public static final int DEFAULT_MAX_ENTRIES = 10_000;
+
+	private final int maxEntries;
+	private final ConcurrentMap<String, LocalCacheRegion> regions = new ConcurrentHashMap<>();
+
+	public LocalReactiveRegionFactory() {
+		this( DEFAULT_MAX_ENTRIES );
+	}
+
+	public LocalReactiveRegionFactory(int maxEntries) {
+		if ( maxEntries <= 0 ) {
+			throw new IllegalArgumentException( "maximum number of entries must be positive" );
+		}
+		this.maxEntries = maxEntries;
+	}
+
+	@Override
+	public ReactiveCacheRegion getRegion(String regionName) {
+		return regions.computeIfAbsent( regionName, name -> new LocalCacheRegion( name, maxEntries ) );
+	}
+}
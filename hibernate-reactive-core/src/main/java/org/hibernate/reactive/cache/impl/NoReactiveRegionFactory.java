@@ -0,0 +1,28 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.cache.impl;
+
+import org.hibernate.reactive.cache.ReactiveCacheRegion;
+import org.hibernate.reactive.cache.ReactiveRegionFactory;
+
+/**
+ * The default {@link ReactiveRegionFactory}, which provides no regions,
+ * so that only the ORM second-level cache is used.
+ */
+public final class NoReactiveRegionFactory implements ReactiveRegionFactory {
+
+	public static final NoReactiveRegionFactory INSTANCE = new NoReactiveRegionFactory();
+
+	@Override
+	public boolean isEnabled() {
+		return false;
+	}
+
+	@Override
+	public ReactiveCacheRegion getRegion(String regionName) {
+		throw new UnsupportedOperationException( "no reactive cache region factory" );
+	}
+}
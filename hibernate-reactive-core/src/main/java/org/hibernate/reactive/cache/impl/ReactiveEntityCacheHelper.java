@@ -0,0 +1,228 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.cache.impl;
+
+import org.hibernate.LockMode;
+import org.hibernate.cache.spi.entry.CacheEntry;
+import org.hibernate.cache.spi.entry.StandardCacheEntryImpl;
+import org.hibernate.engine.internal.TwoPhaseLoad;
+import org.hibernate.engine.internal.Versioning;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.engine.spi.Status;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.LoadEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.proxy.HibernateProxy;
+import org.hibernate.reactive.cache.ReactiveCacheRegion;
+import org.hibernate.reactive.cache.ReactiveRegionFactory;
+import org.hibernate.reactive.session.ReactiveSession;
+import org.hibernate.type.TypeHelper;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
+
+import static org.hibernate.reactive.util.impl.CompletionStages.loop;
+import static org.hibernate.reactive.util.impl.CompletionStages.nullFuture;
+import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
+
+/**
+ * Reads and writes the entries for entities in the
+ * {@link ReactiveCacheRegion asynchronous cache regions}. An entry holds
+ * the same structured {@link CacheEntry} as an entry of the ORM
+ * second-level cache, and has the same key.
+ */
+public final class ReactiveEntityCacheHelper {
+
+	private ReactiveEntityCacheHelper() {
+	}
+
+	/**
+	 * Determine if entities of the given persister are cached in an
+	 * asynchronous region.
+	 */
+	public static boolean isReactiveCacheEnabled(EntityPersister persister) {
+		return persister.canWriteToCache()
+				&& regionFactory( persister.getFactory() ).isEnabled();
+	}
+
+	/**
+	 * Obtain the asynchronous region which holds entities of the given
+	 * persister.
+	 */
+	public static ReactiveCacheRegion region(EntityPersister persister) {
+		return regionFactory( persister.getFactory() )
+				.getRegion( persister.getCacheAccessStrategy().getRegion().getName() );
+	}
+
+	public static Object cacheKey(Serializable id, EntityPersister persister, SharedSessionContractImplementor session) {
+		return persister.getCacheAccessStrategy()
+				.generateCacheKey( id, persister, session.getFactory(), session.getTenantIdentifier() );
+	}
+
+	/**
+	 * Attempt to resolve the entity requested by the given event from the
+	 * asynchronous region, adding it to the persistence context.
+	 *
+	 * @return the entity, or {@code null} if it was not cached
+	 */
+	public static CompletionStage<Object> loadFromCache(LoadEvent event, EntityPersister persister, EntityKey entityKey) {
+		final EventSource session = event.getSession();
+		final boolean useCache = persister.canReadFromCache()
+				&& session.getCacheMode().isGetEnabled()
+				&& event.getLockMode().lessThan( LockMode.READ );
+		if ( !useCache ) {
+			return nullFuture();
+		}
+
+		return region( persister )
+				.get( cacheKey( event.getEntityId(), persister, session ) )
+				.thenApply( cached -> {
+					if ( cached == null ) {
+						return null;
+					}
+					final CacheEntry entry = (CacheEntry) persister.getCacheEntryStructure()
+							.destructure( cached, session.getFactory() );
+					return assemble( entry, event, entityKey );
+				} );
+	}
+
+	/**
+	 * Put the state of an entity which was just loaded from the database in
+	 * the asynchronous region.
+	 */
+	public static CompletionStage<Void> putLoadedEntity(Object entity, EntityPersister persister, SharedSessionContractImplementor session) {
+		if ( entity == null || !session.getCacheMode().isPutEnabled() ) {
+			return voidFuture();
+		}
+		final EntityEntry entry = session.getPersistenceContextInternal().getEntry( entity );
+		if ( entry == null || entry.getLoadedState() == null ) {
+			return voidFuture();
+		}
+
+		final CacheEntry cacheEntry = persister.buildCacheEntry( entity, entry.getLoadedState(), entry.getVersion(), session );
+		if ( cacheEntry.isReferenceEntry() ) {
+			// a reference entry holds the instance itself
+			return voidFuture();
+		}
+		return region( persister ).put(
+				cacheKey( entry.getId(), persister, session ),
+				persister.getCacheEntryStructure().structure( cacheEntry )
+		);
+	}
+
+	/**
+	 * Remove the entry for an entity which was updated or deleted, and
+	 * remove it again after the transaction completes, since another
+	 * session might have cached the state it read in the meantime, just
+	 * like ORM's nonstrict read-write access does.
+	 */
+	public static CompletionStage<Void> evict(Object cacheKey, EntityPersister persister, SharedSessionContractImplementor session) {
+		( (ReactiveSession) session ).getReactiveActionQueue()
+				.registerProcess( (boolean success, ReactiveSession s) -> region( persister ).evict( cacheKey ) );
+		return region( persister ).evict( cacheKey );
+	}
+
+	/**
+	 * Remove every entry from the asynchronous regions of the entities
+	 * affected by a bulk operation on the given query spaces, just like
+	 * {@link org.hibernate.action.internal.BulkOperationCleanupAction}
+	 * does for the ORM regions. If there are no query spaces, every
+	 * entity is affected.
+	 */
+	public static CompletionStage<Void> evictAll(Collection<? extends Serializable> querySpaces, SessionFactoryImplementor factory) {
+		if ( !regionFactory( factory ).isEnabled() ) {
+			return voidFuture();
+		}
+		final Set<String> regionNames = new LinkedHashSet<>();
+		for ( EntityPersister persister : factory.getMetamodel().entityPersisters().values() ) {
+			if ( persister.canWriteToCache() && isAffected( querySpaces, persister.getQuerySpaces() ) ) {
+				regionNames.add( persister.getCacheAccessStrategy().getRegion().getName() );
+			}
+		}
+		return loop( regionNames, name -> regionFactory( factory ).getRegion( name ).evictAll() );
+	}
+
+	private static boolean isAffected(Collection<? extends Serializable> querySpaces, Serializable[] entitySpaces) {
+		if ( querySpaces.isEmpty() ) {
+			return true;
+		}
+		for ( Serializable space : entitySpaces ) {
+			if ( querySpaces.contains( space ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * @see org.hibernate.loader.entity.CacheEntityLoaderHelper
+	 */
+	private static Object assemble(CacheEntry entry, LoadEvent event, EntityKey entityKey) {
+		final EventSource session = event.getSession();
+		final Serializable id = event.getEntityId();
+		final EntityPersister subclassPersister = session.getFactory().getMetamodel()
+				.entityPersister( entry.getSubclass() );
+		final Object entity = event.getInstanceToLoad() == null
+				? session.instantiate( subclassPersister, id )
+				: event.getInstanceToLoad();
+
+		// make it circular-reference safe
+		TwoPhaseLoad.addUninitializedCachedEntity(
+				entityKey,
+				entity,
+				subclassPersister,
+				LockMode.NONE,
+				entry.getVersion(),
+				session
+		);
+
+		final StandardCacheEntryImpl standardEntry = (StandardCacheEntryImpl) entry;
+		final Object[] values = standardEntry.assemble( entity, id, subclassPersister, session.getInterceptor(), session );
+		if ( standardEntry.isDeepCopyNeeded() ) {
+			TypeHelper.deepCopy(
+					values,
+					subclassPersister.getPropertyTypes(),
+					subclassPersister.getPropertyUpdateability(),
+					values,
+					session
+			);
+		}
+		final Object version = Versioning.getVersion( values, subclassPersister );
+
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		final Object proxy = persistenceContext.getProxy( entityKey );
+		final boolean readOnly = proxy != null
+				// only read-only if the existing proxy is read-only
+				? ( (HibernateProxy) proxy ).getHibernateLazyInitializer().isReadOnly()
+				: session.isDefaultReadOnly();
+
+		persistenceContext.addEntry(
+				entity,
+				readOnly ? Status.READ_ONLY : Status.MANAGED,
+				values,
+				null,
+				id,
+				version,
+				LockMode.NONE,
+				true,
+				subclassPersister,
+				false
+		);
+		subclassPersister.afterInitialize( entity, session );
+		return entity;
+	}
+
+	private static ReactiveRegionFactory regionFactory(SessionFactoryImplementor factory) {
+		return factory.getServiceRegistry().getService( ReactiveRegionFactory.class );
+	}
+}
@@ -0,0 +1,284 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.cache.impl;
+
+import org.hibernate.cache.spi.QueryKey;
+import org.hibernate.engine.spi.QueryParameters;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.CoreLogging;
+import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.persister.entity.OuterJoinLoadable;
+import org.hibernate.reactive.cache.ReactiveCacheRegion;
+import org.hibernate.reactive.cache.ReactiveRegionFactory;
+import org.hibernate.reactive.event.impl.UnexpectedAccessToTheDatabase;
+import org.hibernate.reactive.loader.entity.impl.InternalMultiLoadOptions;
+import org.hibernate.reactive.loader.entity.impl.ReactiveDynamicBatchingEntityLoaderBuilder;
+import org.hibernate.reactive.session.ReactiveSession;
+import org.hibernate.type.EntityType;
+import org.hibernate.type.Type;
+import org.hibernate.type.TypeHelper;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
+
+import static org.hibernate.reactive.util.impl.CompletionStages.completedFuture;
+import static org.hibernate.reactive.util.impl.CompletionStages.loop;
+import static org.hibernate.reactive.util.impl.CompletionStages.nullFuture;
+import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
+
+/**
+ * Reads and writes the results of cacheable queries in the
+ * {@link ReactiveCacheRegion asynchronous cache regions}. The results
+ * are disassembled and assembled just like the results held by the ORM
+ * {@link org.hibernate.cache.spi.QueryResultsCache}, and are validated
+ * against the update timestamps held by the ORM
+ * {@link org.hibernate.cache.spi.TimestampsCache}.
+ * <p>
+ * Entities in the cached results are {@link #resolveEntities resolved}
+ * reactively, so that assembling the results never hits the database.
+ */
+public final class ReactiveQueryCacheHelper {
+
+	private static final CoreMessageLogger LOG = CoreLogging.messageLogger( ReactiveQueryCacheHelper.class );
+
+	private ReactiveQueryCacheHelper() {
+	}
+
+	/**
+	 * Determine if the results of cacheable queries executed by the given
+	 * session are held in an asynchronous region.
+	 */
+	public static boolean isReactiveQueryCacheEnabled(SharedSessionContractImplementor session) {
+		return session instanceof ReactiveSession
+				&& regionFactory( session ).isEnabled();
+	}
+
+	/**
+	 * Obtain the cached results of a query, assembled.
+	 *
+	 * @param returnTypes the types of the cached results
+	 *
+	 * @return the results, or {@code null} if there are no up-to-date
+	 *         cached results
+	 */
+	public static CompletionStage<List<Object>> get(
+			QueryKey key,
+			Set<Serializable> querySpaces,
+			Type[] returnTypes,
+			QueryParameters queryParameters,
+			SharedSessionContractImplementor session) {
+		if ( !session.getCacheMode().isGetEnabled() || queryParameters.isForceCacheRefresh() ) {
+			return nullFuture();
+		}
+
+		return region( queryParameters, session )
+				.get( key )
+				.thenCompose( cached -> {
+					if ( cached == null ) {
+						return nullFuture();
+					}
+					final CachedQueryResults results = (CachedQueryResults) cached;
+					if ( !session.getFactory().getCache().getTimestampsCache()
+							.isUpToDate( querySpaces, results.timestamp, session ) ) {
+						return nullFuture();
+					}
+					final List<Object> rows = assemble(
+							results.rows,
+							identifierTypes( returnTypes, session.getFactory() ),
+							session
+					);
+					if ( rows == null ) {
+						return nullFuture();
+					}
+					return resolveEntities( rows, returnTypes, session );
+				} );
+	}
+
+	/**
+	 * Cache the results of a query, disassembled.
+	 *
+	 * @param returnTypes the types of the cacheable results
+	 */
+	public static CompletionStage<Void> put(
+			QueryKey key,
+			Type[] returnTypes,
+			List<Object> results,
+			QueryParameters queryParameters,
+			SharedSessionContractImplementor session) {
+		if ( !session.getCacheMode().isPutEnabled() ) {
+			return voidFuture();
+		}
+
+		final ArrayList<Object> rows = new ArrayList<>( results.size() );
+		for ( Object result : results ) {
+			rows.add( returnTypes.length == 1
+					? returnTypes[0].disassemble( result, session, null )
+					: TypeHelper.disassemble( (Object[]) result, returnTypes, null, session, null ) );
+		}
+		return region( queryParameters, session )
+				.put( key, new CachedQueryResults( session.getTransactionStartTimestamp(), rows ) );
+	}
+
+	/**
+	 * Replace each type of entity referenced by its primary key with the
+	 * type of its identifier, so that cached query results are assembled
+	 * without resolving the entities they refer to, which might hit the
+	 * database.
+	 *
+	 * @see #resolveEntities
+	 */
+	public static Type[] identifierTypes(Type[] types, SessionFactoryImplementor factory) {
+		final Type[] identifierTypes = types.clone();
+		for ( int i = 0; i < types.length; i++ ) {
+			if ( isReferenceToPrimaryKey( types[i] ) ) {
+				identifierTypes[i] = ( (EntityType) types[i] ).getIdentifierOrUniqueKeyType( factory );
+			}
+		}
+		return identifierTypes;
+	}
+
+	/**
+	 * Replace the ids in cached query results, assembled using the
+	 * {@link #identifierTypes identifier types}, with the entities they
+	 * identify. The entities which are not already in the persistence
+	 * context are loaded with one batched fetch per entity type.
+	 *
+	 * @param rows the assembled results
+	 * @param types the types of the results
+	 *
+	 * @return the results, or {@code null} if one of the entities no
+	 *         longer exists, in which case the cached results are stale
+	 */
+	public static CompletionStage<List<Object>> resolveEntities(List<Object> rows, Type[] types, SharedSessionContractImplementor session) {
+		final Map<String, Set<Serializable>> idsByEntityName = new LinkedHashMap<>();
+		for ( int column = 0; column < types.length; column++ ) {
+			if ( isReferenceToPrimaryKey( types[column] ) ) {
+				final String entityName = ( (EntityType) types[column] ).getAssociatedEntityName();
+				for ( Object row : rows ) {
+					final Object id = value( row, column, types.length );
+					if ( id != null ) {
+						idsByEntityName.computeIfAbsent( entityName, name -> new LinkedHashSet<>() )
+								.add( (Serializable) id );
+					}
+				}
+			}
+		}
+
+		if ( idsByEntityName.isEmpty() ) {
+			return completedFuture( rows );
+		}
+		return loadEntities( idsByEntityName, (SessionImplementor) session )
+				.thenApply( found -> {
+					if ( !found ) {
+						return null;
+					}
+					final List<Object> result = new ArrayList<>( rows.size() );
+					for ( Object row : rows ) {
+						if ( types.length == 1 ) {
+							result.add( types[0].resolve( row, session, null ) );
+						}
+						else {
+							final Object[] columns = (Object[]) row;
+							for ( int column = 0; column < types.length; column++ ) {
+								if ( isReferenceToPrimaryKey( types[column] ) ) {
+									columns[column] = types[column].resolve( columns[column], session, null );
+								}
+							}
+							result.add( columns );
+						}
+					}
+					return result;
+				} );
+	}
+
+	/**
+	 * @return {@code false} if one of the entities no longer exists
+	 */
+	private static CompletionStage<Boolean> loadEntities(Map<String, Set<Serializable>> idsByEntityName, SessionImplementor session) {
+		final boolean[] found = { true };
+		return loop( idsByEntityName.entrySet(), entry -> {
+			final OuterJoinLoadable persister = (OuterJoinLoadable) session.getFactory().getMetamodel()
+					.entityPersister( entry.getKey() );
+			final Serializable[] ids = entry.getValue().toArray( new Serializable[0] );
+			return ReactiveDynamicBatchingEntityLoaderBuilder.INSTANCE
+					.multiLoad( persister, ids, session, new InternalMultiLoadOptions( session.getCacheMode() ) )
+					.thenAccept( entities -> {
+						// the result contains only the entities which exist
+						if ( entities.size() < ids.length ) {
+							found[0] = false;
+						}
+					} );
+		} )
+		.thenApply( v -> found[0] );
+	}
+
+	private static boolean isReferenceToPrimaryKey(Type type) {
+		return type.isEntityType() && ( (EntityType) type ).isReferenceToPrimaryKey();
+	}
+
+	private static Object value(Object row, int column, int columns) {
+		return columns == 1 ? row : ( (Object[]) row )[column];
+	}
+
+	private static List<Object> assemble(List<Object> rows, Type[] returnTypes, SharedSessionContractImplementor session) {
+		try {
+			for ( Object row : rows ) {
+				if ( returnTypes.length == 1 ) {
+					returnTypes[0].beforeAssemble( (Serializable) row, session );
+				}
+				else {
+					TypeHelper.beforeAssemble( (Serializable[]) row, returnTypes, session );
+				}
+			}
+			final List<Object> result = new ArrayList<>( rows.size() );
+			for ( Object row : rows ) {
+				result.add( returnTypes.length == 1
+						? returnTypes[0].assemble( (Serializable) row, session, null )
+						: TypeHelper.assemble( (Serializable[]) row, returnTypes, session, null ) );
+			}
+			return result;
+		}
+		catch (UnexpectedAccessToTheDatabase e) {
+			// an association embedded in a component could not
+			// be resolved without hitting the database
+			LOG.debug( "Some of the entities are not in the cache. The cached query results will be ignored" );
+			return null;
+		}
+	}
+
+	private static ReactiveCacheRegion region(QueryParameters queryParameters, SharedSessionContractImplementor session) {
+		// the qualified name of the ORM region
+		final String regionName = session.getFactory().getCache()
+				.getQueryResultsCache( queryParameters.getCacheRegion() )
+				.getRegion().getName();
+		return regionFactory( session ).getRegion( regionName );
+	}
+
+	private static ReactiveRegionFactory regionFactory(SharedSessionContractImplementor session) {
+		return session.getFactory().getServiceRegistry().getService( ReactiveRegionFactory.class );
+	}
+
+	/**
+	 * The value of an entry for a query in an asynchronous region.
+	 */
+	public static final class CachedQueryResults implements Serializable {
+		private final long timestamp;
+		private final ArrayList<Object> rows;
+
+		CachedQueryResults(long timestamp, ArrayList<Object> rows) {
+			this.timestamp = timestamp;
+			this.rows = rows;
+		}
+	}
+}
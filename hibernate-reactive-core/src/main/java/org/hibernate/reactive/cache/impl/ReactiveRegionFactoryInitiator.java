@@ -0,0 +1,67 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.cache.impl;
+
+import org.hibernate.HibernateException;
+import org.hibernate.boot.registry.StandardServiceInitiator;
+import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
+import org.hibernate.internal.CoreLogging;
+import org.hibernate.reactive.cache.ReactiveRegionFactory;
+import org.hibernate.reactive.provider.Settings;
+import org.hibernate.service.spi.ServiceRegistryImplementor;
+
+import java.util.Map;
+
+import static org.hibernate.internal.util.config.ConfigurationHelper.getInt;
+
+/**
+ * A Hibernate {@link StandardServiceInitiator service initiator} that
+ * allows the user to select a {@link ReactiveRegionFactory}.
+ */
+public class ReactiveRegionFactoryInitiator implements StandardServiceInitiator<ReactiveRegionFactory> {
+
+	public static final ReactiveRegionFactoryInitiator INSTANCE = new ReactiveRegionFactoryInitiator();
+
+	/**
+	 * The value of {@link Settings#CACHE_REGION_FACTORY} which selects
+	 * the {@link LocalReactiveRegionFactory}.
+	 */
+	public static final String LOCAL = "local";
+
+	@Override
+	public ReactiveRegionFactory initiateService(Map configurationValues, ServiceRegistryImplementor registry) {
+		String factoryName = (String) configurationValues.get( Settings.CACHE_REGION_FACTORY );
+		if ( factoryName == null ) {
+			return NoReactiveRegionFactory.INSTANCE;
+		}
+
+		CoreLogging.messageLogger( ReactiveRegionFactoryInitiator.class )
+				.infof( "HRX000025: Using reactive cache region factory [%s]", factoryName );
+		if ( LOCAL.equalsIgnoreCase( factoryName ) ) {
+			return new LocalReactiveRegionFactory( getInt(
+					Settings.CACHE_MAX_ENTRIES,
+					configurationValues,
+					LocalReactiveRegionFactory.DEFAULT_MAX_ENTRIES
+			) );
+		}
+		else {
+			final ClassLoaderService classLoaderService = registry.getService( ClassLoaderService.class );
+			try {
+				return (ReactiveRegionFactory) classLoaderService.classForName( factoryName ).newInstance();
+			}
+			catch (Exception e) {
+				throw new HibernateException(
+						"Could not instantiate reactive cache region factory [" + factoryName + "]", e
+				);
+			}
+		}
+	}
+
+	@Override
+	public Class<ReactiveRegionFactory> getServiceInitiated() {
+		return ReactiveRegionFactory.class;
+	}
+}
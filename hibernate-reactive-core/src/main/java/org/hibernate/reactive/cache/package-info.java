@@ -0,0 +1,6 @@
+/**
+ * An asynchronous second-level cache SPI, defined by
+ * {@link org.hibernate.reactive.cache.ReactiveRegionFactory}
+ * and {@link org.hibernate.reactive.cache.ReactiveCacheRegion}.
+ */
+package org.hibernate.reactive.cache;
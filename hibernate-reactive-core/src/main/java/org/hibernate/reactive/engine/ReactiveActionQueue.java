@@ -534,7 +534,8 @@ private AfterTransactionCompletionProcessQueue afterTransactionProcesses() {
 	 */
 	public CompletionStage<Void> executeInserts() {
 		if ( insertions != null && !insertions.isEmpty() ) {
-			return executeActions( insertions );
+			return executeActions( insertions )
+					.thenCompose( v -> session.getReactiveConnection().executeBatch() );
 		}
 		return voidFuture();
 	}
@@ -557,7 +558,9 @@ public CompletionStage<Void> executeActions() {
 				ret = ret.thenCompose( v -> executeActions( l ) );
 			}
 		}
-		return ret;
+		// session.getJdbcCoordinator().executeBatch();
+		// when pipelining, this is where we wait for the results
+		return ret.thenCompose( v -> session.getReactiveConnection().executeBatch() );
 	}
 
 	/**
@@ -674,9 +677,7 @@ private <E extends ReactiveExecutable> CompletionStage<Void> executeActions(
 				invalidateSpaces( convertTimestampSpaces( list.getQuerySpaces() ) );
 			}
 		} )
-		.thenRun(list::clear)
-		// session.getJdbcCoordinator().executeBatch();
-		.thenCompose( v -> session.getReactiveConnection().executeBatch() );
+		.thenRun(list::clear);
 	}
 
 	/**
@@ -15,6 +15,7 @@
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.reactive.cache.impl.ReactiveEntityCacheHelper;
 import org.hibernate.reactive.engine.ReactiveExecutable;
 import org.hibernate.reactive.persister.entity.impl.ReactiveEntityPersister;
 import org.hibernate.stat.spi.StatisticsImplementor;
@@ -22,6 +23,7 @@
 import java.io.Serializable;
 import java.util.concurrent.CompletionStage;
 
+import static org.hibernate.reactive.cache.impl.ReactiveEntityCacheHelper.isReactiveCacheEnabled;
 import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
 
 /**
@@ -107,7 +109,10 @@ public CompletionStage<Void> reactiveExecute() throws HibernateException {
 			if ( statistics.isStatisticsEnabled() && !veto ) {
 				statistics.deleteEntity( getPersister().getEntityName() );
 			}
-		} );
+		} )
+		.thenCompose( v -> isReactiveCacheEnabled( persister )
+				? ReactiveEntityCacheHelper.evict( ck, persister, session )
+				: voidFuture() );
 	}
 
 }
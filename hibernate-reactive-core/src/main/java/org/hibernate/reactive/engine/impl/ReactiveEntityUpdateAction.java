@@ -12,6 +12,7 @@
 import org.hibernate.cache.spi.entry.CacheEntry;
 import org.hibernate.engine.spi.*;
 import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.reactive.cache.impl.ReactiveEntityCacheHelper;
 import org.hibernate.reactive.engine.ReactiveExecutable;
 import org.hibernate.reactive.persister.entity.impl.ReactiveEntityPersister;
 import org.hibernate.stat.internal.StatsHelper;
@@ -21,6 +22,7 @@
 import java.io.Serializable;
 import java.util.concurrent.CompletionStage;
 
+import static org.hibernate.reactive.cache.impl.ReactiveEntityCacheHelper.isReactiveCacheEnabled;
 import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
 import static org.hibernate.reactive.util.impl.CompletionStages.completedFuture;
 
@@ -174,7 +176,10 @@ else if ( session.getCacheMode().isPutEnabled() ) {
 				if ( statistics.isStatisticsEnabled() && !veto ) {
 					statistics.updateEntity( getPersister().getEntityName() );
 				}
-			} );
+			} )
+			.thenCompose( v -> isReactiveCacheEnabled( persister )
+					? ReactiveEntityCacheHelper.evict( ck, persister, session )
+					: voidFuture() );
 		}
 
 	private CompletionStage<Void> processGeneratedProperties(
@@ -12,17 +12,25 @@
 import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.persister.collection.QueryableCollection;
 import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.reactive.loader.collection.impl.ReactiveDynamicBatchingCollectionInitializerBuilder;
 import org.hibernate.reactive.persister.entity.impl.ReactiveEntityPersister;
 import org.hibernate.reactive.session.ReactiveSession;
 import org.hibernate.reactive.util.impl.CompletionStages;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletionStage;
 import java.util.function.Consumer;
 
 import static org.hibernate.pretty.MessageHelper.infoString;
+import static org.hibernate.reactive.util.impl.CompletionStages.loop;
 import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
 
 /**
@@ -44,21 +52,58 @@ public ReactivePersistenceContextAdapter(SharedSessionContractImplementor sessio
 	public CompletionStage<Void> reactiveInitializeNonLazyCollections() throws HibernateException {
 		final NonLazyCollectionInitializer initializer = new NonLazyCollectionInitializer();
 		initializeNonLazyCollections( initializer );
-		return initializer.stage;
+		return initializer.initialize();
 	}
 
+	/**
+	 * Collects the uninitialized non-lazy collections, grouped by role,
+	 * so that all the collections belonging to a role may be loaded by
+	 * a single query, instead of one query per owner.
+	 */
 	private class NonLazyCollectionInitializer implements Consumer<PersistentCollection> {
-		CompletionStage<Void> stage = voidFuture();
+		final Map<String, List<PersistentCollection>> collectionsByRole = new LinkedHashMap<>();
 
 		@Override
 		public void accept(PersistentCollection nonLazyCollection) {
 			if ( !nonLazyCollection.wasInitialized() ) {
-				stage = stage.thenCompose(
-						v -> ( (ReactiveSession) getSession() )
-								.reactiveInitializeCollection( nonLazyCollection, false )
-				);
+				collectionsByRole.computeIfAbsent( nonLazyCollection.getRole(), role -> new ArrayList<>() )
+						.add( nonLazyCollection );
+			}
+		}
+
+		CompletionStage<Void> initialize() {
+			return loop( collectionsByRole.values(), this::initialize );
+		}
+
+		private CompletionStage<Void> initialize(List<PersistentCollection> collections) {
+			final CollectionPersister persister = getCollectionEntry( collections.get( 0 ) ).getLoadedPersister();
+			if ( collections.size() > 1 && isBatchLoadedDynamically( persister ) ) {
+				final Serializable[] keys = new Serializable[collections.size()];
+				for ( int i = 0; i < keys.length; i++ ) {
+					keys[i] = getCollectionEntry( collections.get( i ) ).getLoadedKey();
+				}
+				return ReactiveDynamicBatchingCollectionInitializerBuilder.INSTANCE
+						.batchLoad( (QueryableCollection) persister, keys, (SessionImplementor) getSession() );
+			}
+			else {
+				// a subselect or @BatchSize initializer may initialize
+				// several of the collections with its first query
+				return loop( collections, collection -> collection.wasInitialized()
+						? voidFuture()
+						: ( (ReactiveSession) getSession() ).reactiveInitializeCollection( collection, false ) );
 			}
 		}
+
+		/**
+		 * Collections which might be found in the second-level cache, or
+		 * which are already fetched by a subselect or in batches, are
+		 * initialized by the persister, as usual.
+		 */
+		private boolean isBatchLoadedDynamically(CollectionPersister persister) {
+			return !persister.hasCache()
+					&& !persister.isSubselectLoadable()
+					&& persister.getBatchSize() <= 1;
+		}
 	}
 
 	/**
@@ -40,6 +40,7 @@
 import static org.hibernate.pretty.MessageHelper.infoString;
 import static org.hibernate.reactive.id.impl.IdentifierGeneration.assignIdIfNecessary;
 import static org.hibernate.reactive.id.impl.IdentifierGeneration.generateId;
+import static org.hibernate.reactive.util.impl.CompletionStages.completedFuture;
 import static org.hibernate.reactive.util.impl.CompletionStages.failedFuture;
 
 /**
@@ -118,7 +119,12 @@ protected CompletionStage<Void> reactiveSaveWithGeneratedId(
 
 		EntityPersister persister = source.getEntityPersister( entityName, entity );
 		boolean autoincrement = persister.isIdentifierAssignedByInsert();
-		return generateId( entity, persister, (ReactiveSession) source, source.getSession() )
+		ReactiveSession session = (ReactiveSession) source;
+		Serializable reservedId = session.takeReservedIdentifier( persister );
+		CompletionStage<Serializable> generatedId = reservedId == null
+				? generateId( entity, persister, session, source.getSession() )
+				: completedFuture( reservedId );
+		return generatedId
 				.thenCompose( id -> reactivePerformSave(
 						entity,
 						autoincrement ? null : assignIdIfNecessary( id, entity, persister, source.getSession() ),
@@ -29,6 +29,7 @@
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.proxy.HibernateProxy;
 import org.hibernate.proxy.LazyInitializer;
+import org.hibernate.reactive.cache.impl.ReactiveEntityCacheHelper;
 import org.hibernate.reactive.event.ReactiveLoadEventListener;
 import org.hibernate.reactive.persister.entity.impl.ReactiveEntityPersister;
 import org.hibernate.stat.spi.StatisticsImplementor;
@@ -42,6 +43,7 @@
 import java.util.concurrent.CompletionStage;
 
 import static org.hibernate.pretty.MessageHelper.infoString;
+import static org.hibernate.reactive.cache.impl.ReactiveEntityCacheHelper.isReactiveCacheEnabled;
 import static org.hibernate.reactive.session.impl.SessionUtil.checkEntityFound;
 import static org.hibernate.reactive.session.impl.SessionUtil.throwEntityNotFound;
 import static org.hibernate.reactive.util.impl.CompletionStages.completedFuture;
@@ -609,34 +611,59 @@ private CompletionStage<Object> doLoad(
 			return completedFuture( managed );
 		}
 
+		if ( isReactiveCacheEnabled( persister ) ) {
+			return ReactiveEntityCacheHelper.loadFromCache( event, persister, keyToLoad )
+					.thenCompose( cached -> {
+						if ( cached != null ) {
+							return completedFuture( resolvedInSecondLevelCache( event, persister, cached ) );
+						}
+						return loadUncachedFromDatasource( event, persister )
+								// put it in the asynchronous region, since ORM only
+								// puts it in its own region
+								.thenCompose( loaded -> ReactiveEntityCacheHelper
+										.putLoadedEntity( loaded, persister, session )
+										.thenApply( v -> loaded ) );
+					} );
+		}
+
 		entity = CacheEntityLoaderHelper.INSTANCE.loadFromSecondLevelCache( event, persister, keyToLoad );
 		if ( entity != null ) {
-			if ( traceEnabled ) {
-				LOG.tracev(
-						"Resolved object in second-level cache: {0}",
-						infoString( persister, event.getEntityId(), session.getFactory() )
-				);
-			}
-			cacheNaturalId( event, persister, session, entity );
-			return completedFuture( entity );
+			return completedFuture( resolvedInSecondLevelCache( event, persister, entity ) );
 		}
 		else {
-			if ( traceEnabled ) {
-				LOG.tracev(
-						"Object not resolved in any cache: {0}",
-						infoString( persister, event.getEntityId(), session.getFactory() )
-				);
-			}
-			return loadFromDatasource( event, persister )
-					.thenApply( optional -> {
-						if ( optional!=null ) {
-							cacheNaturalId( event, persister, session, optional );
-						}
-						return optional;
-					} );
+			return loadUncachedFromDatasource( event, persister );
 		}
 	}
 
+	private Object resolvedInSecondLevelCache(LoadEvent event, EntityPersister persister, Object entity) {
+		final EventSource session = event.getSession();
+		if ( LOG.isTraceEnabled() ) {
+			LOG.tracev(
+					"Resolved object in second-level cache: {0}",
+					infoString( persister, event.getEntityId(), session.getFactory() )
+			);
+		}
+		cacheNaturalId( event, persister, session, entity );
+		return entity;
+	}
+
+	private CompletionStage<Object> loadUncachedFromDatasource(LoadEvent event, EntityPersister persister) {
+		final EventSource session = event.getSession();
+		if ( LOG.isTraceEnabled() ) {
+			LOG.tracev(
+					"Object not resolved in any cache: {0}",
+					infoString( persister, event.getEntityId(), session.getFactory() )
+			);
+		}
+		return loadFromDatasource( event, persister )
+				.thenApply( optional -> {
+					if ( optional!=null ) {
+						cacheNaturalId( event, persister, session, optional );
+					}
+					return optional;
+				} );
+	}
+
 	private void cacheNaturalId(LoadEvent event, EntityPersister persister, EventSource session, Object entity) {
 		if ( entity != null && persister.hasNaturalIdentifier() ) {
 			final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
@@ -10,8 +10,12 @@
 import org.hibernate.reactive.id.impl.TableReactiveIdentifierGenerator;
 import org.hibernate.reactive.session.ReactiveConnectionSupplier;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletionStage;
 
+import static org.hibernate.reactive.util.impl.CompletionStages.loop;
+
 /**
  * A replacement for {@link org.hibernate.id.IdentifierGenerator},
  * which supports a non-blocking method for obtaining the generated
@@ -34,4 +38,23 @@
 	 * @param session the reactive session
 	 */
 	CompletionStage<Id> generate(ReactiveConnectionSupplier session, Object entity);
+
+	/**
+	 * Reserves a generated identifier for each of the given entities,
+	 * via a {@link CompletionStage}. The identifiers are returned in
+	 * the same order as the entities.
+	 * <p>
+	 * By default, {@link #generate(ReactiveConnectionSupplier, Object)}
+	 * is called once for each entity. A generator which obtains its
+	 * identifiers from the database should override this method to
+	 * reserve all the identifiers in as few round trips as possible.
+	 *
+	 * @param session the reactive session
+	 * @param entities the entities, all of the same type
+	 */
+	default CompletionStage<List<Id>> generateAll(ReactiveConnectionSupplier session, List<?> entities) {
+		List<Id> ids = new ArrayList<>( entities.size() );
+		return loop( entities, entity -> generate( session, entity ).thenAccept( ids::add ) )
+				.thenApply( v -> ids );
+	}
 }
@@ -5,21 +5,45 @@
  */
 package org.hibernate.reactive.id.impl;
 
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.CoreLogging;
+import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.reactive.id.ReactiveIdentifierGenerator;
+import org.hibernate.reactive.pool.ReactiveConnection;
+import org.hibernate.reactive.pool.ReactiveConnectionPool;
+import org.hibernate.reactive.provider.Settings;
 import org.hibernate.reactive.session.ReactiveConnectionSupplier;
+import org.hibernate.service.ServiceRegistry;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.hibernate.reactive.util.impl.CompletionStages.completedFuture;
+import static org.hibernate.reactive.util.impl.CompletionStages.loop;
 
 /**
  * A {@link ReactiveIdentifierGenerator} which uses the database to allocate
  * blocks of ids. A block is identified by its "hi" value (the first id in
  * the block). While a new block is being allocated, concurrent streams wait
  * without blocking.
+ * <p>
+ * Ids are allocated from the current block without taking any lock: the
+ * "lo" value is an atomic counter, and the current block is replaced,
+ * never modified, when it's exhausted. At most one request for a new "hi"
+ * value is in flight at a time, and streams which find the current block
+ * exhausted while it's in flight wait for it to complete, and then try
+ * again.
+ * <p>
+ * If {@link Settings#ID_BLOCK_LOW_WATER_MARK} is set, the next block is
+ * fetched in the background, using a dedicated connection, when only that
+ * many ids remain in the current block. The next block is then ready when
+ * the current block is exhausted, and no stream has to wait for it.
  *
  * @author Gavin King
  */
@@ -30,66 +54,272 @@ public abstract class BlockingIdentifierGenerator implements ReactiveIdentifierG
      */
     protected abstract int getBlockSize();
 
+    /**
+     * The number of ids in the block identified by the given "hi" value.
+     * By default, every block has {@linkplain #getBlockSize() the same size}.
+     */
+    protected int getBlockSize(long hi) {
+        return getBlockSize();
+    }
+
     /**
      * Allocate a new block, by obtaining the next "hi" value from the database
      */
     protected abstract CompletionStage<Long> nextHiValue(ReactiveConnectionSupplier session);
 
-    private int loValue;
-    private long hiValue;
+    /**
+     * A block of ids, which is never reused once it's exhausted.
+     */
+    private static final class Block {
+        final long hi;
+        final AtomicInteger lo;
+        final int size;
+
+        Block(long hi, int lo, int size) {
+            this.hi = hi;
+            this.lo = new AtomicInteger( lo );
+            this.size = size;
+        }
+    }
 
-    private volatile List<CompletableFuture<Long>> queue = null;
+    private static final CoreMessageLogger LOG = CoreLogging.messageLogger( BlockingIdentifierGenerator.class );
 
-    protected synchronized long next() {
-        return loValue>0 && loValue<getBlockSize()
-                ? hiValue + loValue++
-                : -1; //flag value indicating that we need to hit db
+    // initially there's no block, so we need to hit the db
+    private volatile Block block = new Block( 0, Integer.MAX_VALUE, 0 );
+
+    // a block fetched in advance, before the current block was exhausted
+    private volatile Block nextBlock;
+
+    // completes when the new hi value in flight has been fetched
+    private final AtomicReference<CompletableFuture<Void>> fetching = new AtomicReference<>();
+
+    private int lowWaterMark;
+    private ReactiveConnectionPool connectionPool;
+
+    /**
+     * Read {@link Settings#ID_BLOCK_LOW_WATER_MARK}, and, if it's set,
+     * enable fetching the next block in advance. Called by subclasses
+     * when they're configured.
+     */
+    protected void configurePrefetch(ServiceRegistry serviceRegistry) {
+        int lowWaterMark = serviceRegistry.getService( ConfigurationService.class )
+                .getSetting( Settings.ID_BLOCK_LOW_WATER_MARK, StandardConverters.INTEGER, 0 );
+        if ( lowWaterMark > 0 ) {
+            enablePrefetch( lowWaterMark, serviceRegistry.getService( ReactiveConnectionPool.class ) );
+        }
     }
 
-    protected synchronized long next(long hi) {
-        hiValue = hi;
-        loValue = 1;
-        return hi;
+    /**
+     * Fetch the next block in advance, using a connection obtained from
+     * the given pool, when only the given number of ids remain in the
+     * current block.
+     */
+    protected void enablePrefetch(int lowWaterMark, ReactiveConnectionPool connectionPool) {
+        this.connectionPool = connectionPool;
+        this.lowWaterMark = lowWaterMark;
+    }
+
+    protected long next() {
+        return next( block );
+    }
+
+    private long next(Block current) {
+        final int lo = current.lo.getAndIncrement();
+        // lo is negative if the counter of a long-exhausted
+        // block wrapped around
+        return lo >= 0 && lo < current.size
+                ? current.hi + lo
+                : -1; //flag value indicating that we need to hit db
     }
 
     @Override
     public CompletionStage<Long> generate(ReactiveConnectionSupplier session, Object entity) {
-        long local = next();
+        final Block current = block;
+        long local = next( current );
         if ( local >= 0 ) {
+            if ( lowWaterMark > 0 && local == current.hi + prefetchPoint( current ) ) {
+                // exactly one stream gets the id at the low-water mark
+                prefetch( session );
+            }
             // We don't need to update or initialize the hi
             // value in the table, so just increment the lo
             // value and return the next id in the block
             return completedFuture(local);
         }
-        else {
-            synchronized (this) {
-                CompletableFuture<Long> result = new CompletableFuture<>();
-                if (queue == null) {
-                    // make a queue for any concurrent streams
-                    queue = new ArrayList<>();
-                    // go off and fetch the next hi value from db
-                    nextHiValue(session).thenAccept( id -> {
-//						Vertx.currentContext().runOnContext(v -> {
-                        List<CompletableFuture<Long>> list;
-                        synchronized (this) {
-                            // clone ref to the queue
-                            list = queue;
-                            queue = null;
-                            // use the fetched hi value in this stream
-                            result.complete( next(id) );
+
+        CompletableFuture<Void> inFlight = fetching.get();
+        if ( inFlight == null ) {
+            CompletableFuture<Void> fetch = new CompletableFuture<>();
+            if ( fetching.compareAndSet( null, fetch ) ) {
+                return fetchNextBlock( session, entity, fetch );
+            }
+            inFlight = fetching.get();
+            if ( inFlight == null ) {
+                // the concurrent fetch already completed
+                return generate( session, entity );
+            }
+        }
+        // wait for the concurrent fetch to complete, and try again
+        return inFlight.thenCompose( v -> generate( session, entity ) );
+    }
+
+    private CompletionStage<Long> fetchNextBlock(ReactiveConnectionSupplier session, Object entity, CompletableFuture<Void> fetch) {
+        // another stream might have installed a new block
+        // between our call to next() and our winning the CAS
+        long local = next();
+        if ( local >= 0 ) {
+            fetching.set( null );
+            fetch.complete( null );
+            return completedFuture(local);
+        }
+        final Block prefetched = nextBlock;
+        if ( prefetched != null ) {
+            // swap in the block we fetched in advance
+            nextBlock = null;
+            block = prefetched;
+            fetching.set( null );
+            fetch.complete( null );
+            return generate( session, entity );
+        }
+        // go off and fetch the next hi value from db
+        return nextHiValue( session ).whenComplete( (hi, error) -> {
+            if ( error == null ) {
+                // use the fetched hi value in this stream,
+                // and the rest of the block in other streams
+                block = new Block( hi, 1, getBlockSize( hi ) );
+            }
+            fetching.set( null );
+            if ( error == null ) {
+                fetch.complete( null );
+            }
+            else {
+                fetch.completeExceptionally( error );
+            }
+        } );
+    }
+
+    /**
+     * Reserve an id for each of the given entities, taking as many as
+     * possible from the current block, and obtaining all the remaining
+     * ids using a single call to {@link #nextHiValues}. The unused ids
+     * of the last block obtained become the current block, unless a
+     * new block is already being fetched, so that a series of small
+     * batches costs one round trip per block, as {@link #generate} does.
+     */
+    @Override
+    public CompletionStage<List<Long>> generateAll(ReactiveConnectionSupplier session, List<?> entities) {
+        final int count = entities.size();
+        final List<Long> ids = new ArrayList<>( count );
+        while ( ids.size() < count ) {
+            long local = next();
+            if ( local < 0 ) {
+                break;
+            }
+            ids.add( local );
+        }
+        final int remaining = count - ids.size();
+        if ( remaining == 0 ) {
+            return completedFuture( ids );
+        }
+        final int blockSize = Math.max( getBlockSize(), 1 );
+        return nextHiValues( session, ( remaining + blockSize - 1 ) / blockSize )
+                .thenApply( hiValues -> {
+                    for ( long hi : hiValues ) {
+                        final int size = getBlockSize( hi );
+                        int lo = 0;
+                        while ( lo < size && ids.size() < count ) {
+                            ids.add( hi + lo++ );
+                        }
+                        if ( lo < size ) {
+                            // the last block, which is only partly used
+                            installRestOfBlock( hi, lo, size );
                         }
-                        // send waiting streams back to try again
-                        list.forEach( completion -> generate(session, entity)
-                                .thenAccept(completion::complete) );
-//						} );
-                    } );
-                }
-                else {
-                    // wait for the concurrent fetch to complete
-                    queue.add(result);
-                }
-                return result;
+                    }
+                    return ids;
+                } );
+    }
+
+    /**
+     * Make the unused ids of a block obtained by {@link #generateAll} the
+     * current block, if the current block is exhausted, and no other
+     * stream is fetching a new one.
+     */
+    private void installRestOfBlock(long hi, int lo, int size) {
+        final CompletableFuture<Void> fetch = new CompletableFuture<>();
+        if ( fetching.compareAndSet( null, fetch ) ) {
+            // only a stream which won the CAS replaces the block
+            final int currentLo = block.lo.get();
+            if ( currentLo < 0 || currentLo >= block.size ) {
+                block = new Block( hi, lo, size );
             }
+            fetching.set( null );
+            fetch.complete( null );
+        }
+    }
+
+    /**
+     * Allocate several new blocks, by obtaining the given number of "hi"
+     * values from the database. By default, {@link #nextHiValue} is
+     * called once for each block.
+     */
+    protected CompletionStage<List<Long>> nextHiValues(ReactiveConnectionSupplier session, int count) {
+        final List<Long> hiValues = new ArrayList<>( count );
+        return loop( 0, count, i -> nextHiValue( session ).thenAccept( hiValues::add ) )
+                .thenApply( v -> hiValues );
+    }
+
+    /**
+     * Obtain a new connection from the given pool, for the tenant of the
+     * given session, if any.
+     */
+    protected static CompletionStage<ReactiveConnection> openConnection(ReactiveConnectionPool connectionPool,
+                                                                         ReactiveConnectionSupplier session) {
+        final String tenantId = session instanceof SharedSessionContractImplementor
+                ? ( (SharedSessionContractImplementor) session ).getTenantIdentifier()
+                : null;
+        return tenantId == null ? connectionPool.getConnection() : connectionPool.getConnection( tenantId );
+    }
+
+    /**
+     * Obtain the next "hi" value without using the connection belonging
+     * to the given session, which might be in use by the stream that
+     * triggered the prefetch. By default, a new connection is obtained
+     * from the pool, and closed as soon as the value is obtained.
+     */
+    protected CompletionStage<Long> nextHiValueInBackground(ReactiveConnectionSupplier session) {
+        return openConnection( connectionPool, session )
+                .thenCompose( connection -> nextHiValue( () -> connection )
+                        .whenComplete( (hi, error) -> connection.close() ) );
+    }
+
+    /**
+     * The "lo" value at which we start fetching the next block.
+     */
+    private int prefetchPoint(Block current) {
+        return Math.max( current.size - lowWaterMark, 1 );
+    }
+
+    /**
+     * Fetch the next block in the background, using
+     * {@link #nextHiValueInBackground}, unless a fetch is already in
+     * flight.
+     */
+    private void prefetch(ReactiveConnectionSupplier session) {
+        final CompletableFuture<Void> fetch = new CompletableFuture<>();
+        if ( !fetching.compareAndSet( null, fetch ) ) {
+            return;
         }
+        nextHiValueInBackground( session )
+                .whenComplete( (hi, error) -> {
+                    if ( error == null ) {
+                        nextBlock = new Block( hi, 0, getBlockSize( hi ) );
+                    }
+                    else {
+                        // we'll try again when the block is exhausted
+                        LOG.debugf( error, "Failed to fetch the next block of ids in advance" );
+                    }
+                    fetching.set( null );
+                    fetch.complete( null );
+                } );
     }
 }
@@ -0,0 +1,42 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.id.impl;
+
+import org.hibernate.reactive.id.ReactiveIdentifierGenerator;
+import org.hibernate.reactive.session.ReactiveConnectionSupplier;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+
+import static org.hibernate.reactive.util.impl.CompletionStages.completedFuture;
+
+/**
+ * A {@link ReactiveIdentifierGenerator} which generates identifiers
+ * without interacting with the database. The returned stages are
+ * always already completed.
+ */
+public abstract class ClientSideIdentifierGenerator<Id> implements ReactiveIdentifierGenerator<Id> {
+
+	/**
+	 * Generate the next identifier.
+	 */
+	protected abstract Id nextId();
+
+	@Override
+	public CompletionStage<Id> generate(ReactiveConnectionSupplier session, Object entity) {
+		return completedFuture( nextId() );
+	}
+
+	@Override
+	public CompletionStage<List<Id>> generateAll(ReactiveConnectionSupplier session, List<?> entities) {
+		List<Id> ids = new ArrayList<>( entities.size() );
+		for ( int i = 0; i < entities.size(); i++ ) {
+			ids.add( nextId() );
+		}
+		return completedFuture( ids );
+	}
+}
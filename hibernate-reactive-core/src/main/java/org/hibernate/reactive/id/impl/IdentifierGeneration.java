@@ -29,6 +29,8 @@
 import org.hibernate.type.Type;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Properties;
 import java.util.concurrent.CompletionStage;
 
@@ -136,6 +138,30 @@ public static CompletionStage<Serializable> generateId(Object entity, EntityPers
 				: completedFuture( generator.generate( session, entity ) );
 	}
 
+	/**
+	 * Generate an identifier for each of the given instances of the
+	 * entity, reserving all of them at once if the generator is a
+	 * {@link ReactiveIdentifierGenerator}.
+	 *
+	 * @see ReactiveIdentifierGenerator#generateAll(ReactiveConnectionSupplier, List)
+	 */
+	@SuppressWarnings("unchecked")
+	public static CompletionStage<List<Serializable>> generateIds(List<?> entities, EntityPersister persister,
+																  ReactiveConnectionSupplier connectionSupplier,
+																  SharedSessionContractImplementor session) {
+		IdentifierGenerator generator = persister.getIdentifierGenerator();
+		if ( generator instanceof ReactiveIdentifierGenerator ) {
+			return ( (ReactiveIdentifierGenerator<Serializable>) generator ).generateAll( connectionSupplier, entities );
+		}
+		else {
+			List<Serializable> ids = new ArrayList<>( entities.size() );
+			for ( Object entity : entities ) {
+				ids.add( generator.generate( session, entity ) );
+			}
+			return completedFuture( ids );
+		}
+	}
+
 	public static Serializable assignIdIfNecessary(Object generatedId, Object entity,
 													EntityPersister persister,
 													SharedSessionContractImplementor session) {
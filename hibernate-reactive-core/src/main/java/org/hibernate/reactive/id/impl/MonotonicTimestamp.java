@@ -0,0 +1,57 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.id.impl;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A source of strictly increasing values, each made up of a timestamp
+ * in milliseconds, shifted left by a given number of bits, and a counter
+ * held in those bits, which distinguishes values obtained during the same
+ * millisecond.
+ * <p>
+ * When the counter overflows, or when the system clock moves backward,
+ * the timestamp is advanced past the clock, instead of waiting for the
+ * clock to catch up, so that {@link #next()} never blocks.
+ */
+final class MonotonicTimestamp {
+
+	private final AtomicLong last = new AtomicLong();
+	private final long epoch;
+	private final int counterBits;
+
+	/**
+	 * @param epoch the time in milliseconds since the Unix epoch at which
+	 *              the timestamp is zero
+	 * @param counterBits the number of bits used for the counter
+	 */
+	MonotonicTimestamp(long epoch, int counterBits) {
+		this.epoch = epoch;
+		this.counterBits = counterBits;
+	}
+
+	/**
+	 * The next value, greater than every value previously returned.
+	 */
+	long next() {
+		final long now = ( System.currentTimeMillis() - epoch ) << counterBits;
+		return last.updateAndGet( previous -> Math.max( now, previous + 1 ) );
+	}
+
+	/**
+	 * The timestamp part of the given value.
+	 */
+	long timestamp(long value) {
+		return value >>> counterBits;
+	}
+
+	/**
+	 * The counter part of the given value.
+	 */
+	long counter(long value) {
+		return value & ( ( 1L << counterBits ) - 1 );
+	}
+}
@@ -13,6 +13,7 @@
 import org.hibernate.reactive.session.ReactiveConnectionSupplier;
 
 import java.io.Serializable;
+import java.util.List;
 import java.util.concurrent.CompletionStage;
 
 /**
@@ -38,12 +39,25 @@ public CompletionStage<T> generate(ReactiveConnectionSupplier session, Object en
 		return reactiveGenerator.generate(session, entity);
 	}
 
+	@Override
+	public CompletionStage<List<T>> generateAll(ReactiveConnectionSupplier session, List<?> entities) {
+		return reactiveGenerator.generateAll( session, entities );
+	}
+
+	/**
+	 * Generate an identifier synchronously, using the wrapped ORM generator,
+	 * if any, or otherwise the reactive generator, if it generates its
+	 * identifiers without interacting with the database.
+	 */
 	@Override
 	public Serializable generate(SharedSessionContractImplementor session, Object object) {
-		if (generator == null) {
-			throw new UnsupportedOperationException("reactive generator");
+		if ( generator != null ) {
+			return generator.generate( session, object );
+		}
+		if ( reactiveGenerator instanceof ClientSideIdentifierGenerator ) {
+			return (Serializable) ( (ClientSideIdentifierGenerator<?>) reactiveGenerator ).nextId();
 		}
-		return generator.generate( session, object );
+		throw new UnsupportedOperationException( "reactive generator" );
 	}
 
 	@Override
@@ -30,6 +30,12 @@ public class ReactiveIdentifierGeneratorFactory extends DefaultIdentifierGenerat
 
 	private ServiceRegistryImplementor serviceRegistry;
 
+	public ReactiveIdentifierGeneratorFactory() {
+		register( "snowflake", SnowflakeReactiveIdentifierGenerator.class );
+		register( "uuid7", TimeOrderedUuidReactiveIdentifierGenerator.class );
+		register( "ulid", TimeOrderedUuidReactiveIdentifierGenerator.Ulid.class );
+	}
+
 	@Override
 	public void injectServices(ServiceRegistryImplementor serviceRegistry) {
 		super.injectServices(serviceRegistry);
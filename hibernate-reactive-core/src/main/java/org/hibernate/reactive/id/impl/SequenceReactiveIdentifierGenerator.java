@@ -5,26 +5,56 @@
  */
 package org.hibernate.reactive.id.impl;
 
+import org.hibernate.MappingException;
 import org.hibernate.boot.model.relational.QualifiedName;
+import org.hibernate.dialect.CockroachDB192Dialect;
 import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.PostgreSQL81Dialect;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
 import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
 import org.hibernate.id.Configurable;
+import org.hibernate.id.IdentifierGenerator;
+import org.hibernate.id.enhanced.OptimizerFactory;
 import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.id.enhanced.StandardOptimizerDescriptor;
+import org.hibernate.reactive.provider.Settings;
 import org.hibernate.reactive.session.ReactiveConnectionSupplier;
 import org.hibernate.service.ServiceRegistry;
 import org.hibernate.type.Type;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Properties;
 import java.util.concurrent.CompletionStage;
 
 import static org.hibernate.internal.util.config.ConfigurationHelper.getInt;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getString;
 import static org.hibernate.reactive.id.impl.IdentifierGeneration.determineSequenceName;
+import static org.hibernate.reactive.util.impl.CompletionStages.completedFuture;
 
 /**
  * Support for JPA's {@link javax.persistence.SequenceGenerator}.
  * <p>
  * This implementation supports block allocation, but does not
  * guarantee that generated identifiers are sequential.
+ * <p>
+ * The values of the sequence are interpreted according to the
+ * optimizer specified by the generator parameter
+ * {@value SequenceStyleGenerator#OPT_PARAM}, in the same way as
+ * Hibernate ORM's optimizers interpret them, so that other programs
+ * using the sequence don't generate the same identifiers:
+ * <ul>
+ * <li>{@code pooled-lo}: the value is the first id of the block,
+ * <li>{@code pooled}: the value is the last id of the block,
+ * <li>{@code hilo} and {@code legacy-hilo}: the value is multiplied
+ * by the block size, and the database sequence is incremented by 1,
+ * <li>{@code none}: the value is the id.
+ * </ul>
+ * If no optimizer is specified, the values are interpreted as for
+ * {@code pooled-lo}, for compatibility with sequences which were already
+ * in use, unless {@link Settings#SEQUENCE_GENERATOR_ORM_OPTIMIZER} is
+ * enabled, in which case it's chosen just as Hibernate ORM chooses it.
  */
 public class SequenceReactiveIdentifierGenerator
 		extends BlockingIdentifierGenerator implements Configurable {
@@ -33,16 +63,98 @@
 
 	private String sql;
 
+	// obtains several values of the sequence in one round trip,
+	// or null if the dialect doesn't have a way to do that
+	private String multipleValuesSql;
+
 	private int increment;
 
+	private StandardOptimizerDescriptor optimizer;
+	private long initialValue;
+
 	@Override
 	protected int getBlockSize() {
-		return increment;
+		return optimizer == StandardOptimizerDescriptor.NONE ? 1 : increment;
+	}
+
+	/**
+	 * The block starting at the initial value of a pooled sequence
+	 * also contains the next value of the sequence.
+	 */
+	@Override
+	protected int getBlockSize(long hi) {
+		return isInitialPooledValue( hi ) ? increment + 1 : getBlockSize();
 	}
 
 	@Override
 	protected CompletionStage<Long> nextHiValue(ReactiveConnectionSupplier session) {
-		return session.getReactiveConnection().selectIdentifier( sql, NO_PARAMS ).thenApply( this::next );
+		return session.getReactiveConnection().selectIdentifier( sql, NO_PARAMS )
+				.thenCompose( value -> isInitialPooledValue( value )
+						? initialPooledBlock( session, value )
+						: completedFuture( firstIdOfBlock( value ) ) );
+	}
+
+	/**
+	 * The pooled optimizer treats the initial value of the sequence
+	 * as the start of the block which ends at the next value, so we
+	 * obtain the next value, and use the whole block. If someone else
+	 * obtained the value after the initial value in the meantime, we
+	 * skip the initial value, and use the block ending at the value
+	 * we obtained.
+	 */
+	private CompletionStage<Long> initialPooledBlock(ReactiveConnectionSupplier session, long initial) {
+		return session.getReactiveConnection().selectIdentifier( sql, NO_PARAMS )
+				.thenApply( value -> value == initial + increment ? initial : firstIdOfBlock( value ) );
+	}
+
+	private boolean isInitialPooledValue(long value) {
+		return optimizer == StandardOptimizerDescriptor.POOLED
+				&& value == initialValue
+				&& increment > 1;
+	}
+
+	/**
+	 * The first id of the block allocated by the given value of
+	 * the sequence.
+	 */
+	private long firstIdOfBlock(long value) {
+		switch ( optimizer ) {
+			case POOLED:
+				return value - increment + 1;
+			case HILO:
+				return ( value - 1 ) * increment + 1;
+			case LEGACY_HILO:
+				return value * increment;
+			default:
+				return value;
+		}
+	}
+
+	@Override
+	protected CompletionStage<List<Long>> nextHiValues(ReactiveConnectionSupplier session, int count) {
+		if ( multipleValuesSql == null || count == 1 ) {
+			return super.nextHiValues( session, count );
+		}
+		return session.getReactiveConnection()
+				.select( multipleValuesSql, new Object[] { count } )
+				.thenApply( result -> {
+					List<Long> hiValues = new ArrayList<>( count );
+					while ( result.hasNext() ) {
+						long value = result.nextRow().getLong( 0 );
+						// the initial value of a pooled sequence is just
+						// skipped here, since its block overlaps the next
+						if ( !isInitialPooledValue( value ) ) {
+							hiValues.add( firstIdOfBlock( value ) );
+						}
+					}
+					return hiValues;
+				} )
+				.thenCompose( hiValues -> hiValues.size() < count
+						? nextHiValue( session ).thenApply( hi -> {
+							hiValues.add( hi );
+							return hiValues;
+						} )
+						: completedFuture( hiValues ) );
 	}
 
 	@Override
@@ -57,8 +169,40 @@ public void configure(Type type, Properties params, ServiceRegistry serviceRegis
 				.format( qualifiedSequenceName, dialect );
 
 		increment = determineIncrementForSequenceEmulation( params );
+		boolean ormOptimizer = serviceRegistry.getService( ConfigurationService.class )
+				.getSetting( Settings.SEQUENCE_GENERATOR_ORM_OPTIMIZER, StandardConverters.BOOLEAN, false );
+		optimizer = determineOptimizer( params, increment, ormOptimizer );
+		initialValue = getInt( SequenceStyleGenerator.INITIAL_PARAM, params, SequenceStyleGenerator.DEFAULT_INITIAL_VALUE );
+
+		configurePrefetch( serviceRegistry );
 
 		sql = dialect.getSequenceNextValString( renderedSequenceName );
+
+		if ( dialect instanceof PostgreSQL81Dialect || dialect instanceof CockroachDB192Dialect ) {
+			multipleValuesSql = "select " + dialect.getSelectSequenceNextValString( renderedSequenceName )
+					+ " from generate_series(1, $1)";
+		}
+	}
+
+	/**
+	 * Determine the optimizer from the generator parameter. If it's not
+	 * specified, the optimizer is {@code pooled-lo}, or, if requested, is
+	 * chosen in the same way as by {@link SequenceStyleGenerator}.
+	 */
+	protected StandardOptimizerDescriptor determineOptimizer(Properties params, int incrementSize, boolean ormOptimizer) {
+		String name = getString(
+				SequenceStyleGenerator.OPT_PARAM,
+				params,
+				ormOptimizer
+						? OptimizerFactory.determineImplicitOptimizerName( incrementSize, params )
+						: StandardOptimizerDescriptor.POOLED_LO.getExternalName()
+		);
+		StandardOptimizerDescriptor optimizer = StandardOptimizerDescriptor.fromExternalName( name );
+		if ( optimizer == null ) {
+			throw new MappingException( "Optimizer not supported by Hibernate Reactive: " + name
+					+ " [entity-name=" + params.getProperty( IdentifierGenerator.ENTITY_NAME ) + "]" );
+		}
+		return optimizer;
 	}
 
 	protected int determineIncrementForSequenceEmulation(Properties params) {
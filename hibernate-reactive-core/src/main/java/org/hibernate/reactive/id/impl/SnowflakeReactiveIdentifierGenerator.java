@@ -0,0 +1,76 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.id.impl;
+
+import org.hibernate.MappingException;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
+import org.hibernate.id.Configurable;
+import org.hibernate.id.IdentifierGenerator;
+import org.hibernate.reactive.provider.Settings;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+import java.util.Properties;
+
+import static org.hibernate.internal.util.config.ConfigurationHelper.getInt;
+
+/**
+ * A Snowflake-style generator of 64-bit identifiers, which does not
+ * interact with the database. An identifier is made up of:
+ * <ul>
+ * <li>a 41-bit timestamp, in milliseconds since 2020-01-01 UTC,
+ * <li>a 10-bit node id, and
+ * <li>a 12-bit counter.
+ * </ul>
+ * Identifiers generated by a node are strictly increasing, and
+ * identifiers generated by different nodes never collide, as long as
+ * every node has its own node id, specified by the generator parameter
+ * {@value #NODE_ID} or by {@link Settings#ID_NODE_ID}.
+ * <p>
+ * This generator is selected by the strategy name {@code "snowflake"}.
+ */
+public class SnowflakeReactiveIdentifierGenerator extends ClientSideIdentifierGenerator<Long>
+		implements Configurable {
+
+	/**
+	 * The generator parameter specifying the node id.
+	 */
+	public static final String NODE_ID = "node_id";
+
+	public static final int NODE_ID_BITS = 10;
+	public static final int COUNTER_BITS = 12;
+
+	// 2020-01-01T00:00:00Z
+	private static final long EPOCH = 1577836800000L;
+
+	private final MonotonicTimestamp timestamp = new MonotonicTimestamp( EPOCH, COUNTER_BITS );
+
+	private long nodeId;
+
+	@Override
+	public void configure(Type type, Properties params, ServiceRegistry serviceRegistry) {
+		if ( type.getReturnedClass() != Long.class ) {
+			throw new MappingException( "Snowflake identifiers must be of type Long [entity-name="
+					+ params.getProperty( IdentifierGenerator.ENTITY_NAME ) + "]" );
+		}
+		int defaultNodeId = serviceRegistry.getService( ConfigurationService.class )
+				.getSetting( Settings.ID_NODE_ID, StandardConverters.INTEGER, 0 );
+		nodeId = getInt( NODE_ID, params, defaultNodeId );
+		if ( nodeId < 0 || nodeId >= 1 << NODE_ID_BITS ) {
+			throw new MappingException( "Node id must be between 0 and " + ( ( 1 << NODE_ID_BITS ) - 1 )
+					+ " [entity-name=" + params.getProperty( IdentifierGenerator.ENTITY_NAME ) + "]" );
+		}
+	}
+
+	@Override
+	protected Long nextId() {
+		final long next = timestamp.next();
+		return timestamp.timestamp( next ) << ( NODE_ID_BITS + COUNTER_BITS )
+				| nodeId << COUNTER_BITS
+				| timestamp.counter( next );
+	}
+}
@@ -13,19 +13,26 @@
 import org.hibernate.engine.config.spi.StandardConverters;
 import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
 import org.hibernate.id.Configurable;
+import org.hibernate.id.IdentifierGenerationException;
 import org.hibernate.id.enhanced.TableGenerator;
 import org.hibernate.internal.util.StringHelper;
 import org.hibernate.jdbc.TooManyRowsAffectedException;
 import org.hibernate.reactive.pool.impl.Parameters;
 import org.hibernate.reactive.provider.Settings;
 import org.hibernate.reactive.pool.ReactiveConnection;
+import org.hibernate.reactive.pool.ReactiveConnectionPool;
 import org.hibernate.reactive.session.ReactiveConnectionSupplier;
+import org.hibernate.reactive.vertx.VertxInstance;
 import org.hibernate.service.ServiceRegistry;
 import org.hibernate.type.Type;
 
 import java.util.Collections;
 import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ThreadLocalRandom;
+
+import io.vertx.core.Vertx;
 
 import static org.hibernate.id.enhanced.TableGenerator.CONFIG_PREFER_SEGMENT_PER_ENTITY;
 import static org.hibernate.id.enhanced.TableGenerator.DEF_SEGMENT_COLUMN;
@@ -37,6 +44,8 @@
 import static org.hibernate.internal.util.config.ConfigurationHelper.getInt;
 import static org.hibernate.internal.util.config.ConfigurationHelper.getString;
 import static org.hibernate.reactive.util.impl.CompletionStages.completedFuture;
+import static org.hibernate.reactive.util.impl.CompletionStages.failedFuture;
+import static java.util.function.Function.identity;
 
 /**
  * Support for JPA's {@link javax.persistence.TableGenerator}.
@@ -64,6 +73,15 @@
 	private String insertQuery;
 	private String updateQuery;
 
+	// the bounds of the delay before the next attempt, in ms
+	private static final long MIN_BACKOFF = 5;
+	private static final long MAX_BACKOFF = 500;
+
+	private int maxRetries;
+	private boolean isolated;
+	private ReactiveConnectionPool connectionPool;
+	private Vertx vertx;
+
 	@Override
 	protected int getBlockSize() {
 		return increment;
@@ -71,11 +89,70 @@ protected int getBlockSize() {
 
 	@Override
 	protected CompletionStage<Long> nextHiValue(ReactiveConnectionSupplier session) {
+		return nextHiValue( session, 1 );
+	}
+
+	/**
+	 * In isolated mode, {@link #nextHiValue(ReactiveConnectionSupplier)}
+	 * already obtains its own connection, for the tenant of the session,
+	 * so there's no need to obtain a second one for the prefetch.
+	 */
+	@Override
+	protected CompletionStage<Long> nextHiValueInBackground(ReactiveConnectionSupplier session) {
+		return isolated ? nextHiValue( session ) : super.nextHiValueInBackground( session );
+	}
+
+	private CompletionStage<Long> nextHiValue(ReactiveConnectionSupplier session, int attempt) {
+		CompletionStage<Long> result = isolated
+				? openConnection( connectionPool, session ).thenCompose( this::nextHiValueInNewTransaction )
+				: nextHiValue( session.getReactiveConnection() );
+		return result.thenCompose( id -> {
+			if ( id != null ) {
+				//we successfully obtained the next hi value
+				return completedFuture( id );
+			}
+			if ( attempt >= maxRetries ) {
+				throw new IdentifierGenerationException( "could not obtain the next hi value from "
+						+ renderedTableName + " after " + attempt + " attempts" );
+			}
+			//someone else grabbed the next hi value
+			//so back off, and retry everything from scratch
+			return delay( backoff( attempt ) )
+					.thenCompose( v -> nextHiValue( session, attempt + 1 ) );
+		} );
+	}
+
+	/**
+	 * Obtain the next hi value using the given connection, which was
+	 * just obtained from the pool, in its own transaction, so that the
+	 * lock on the row is held only while the value is incremented.
+	 */
+	private CompletionStage<Long> nextHiValueInNewTransaction(ReactiveConnection connection) {
+		return connection.beginTransaction()
+				.thenCompose( v -> nextHiValue( connection ) )
+				.handle( (id, error) -> {
+					if ( error == null ) {
+						return connection.commitTransaction().thenApply( v -> id );
+					}
+					else {
+						return connection.rollbackTransaction().<Long>thenCompose( v -> failedFuture( error ) );
+					}
+				} )
+				.thenCompose( identity() )
+				.whenComplete( (id, error) -> connection.close() );
+	}
+
+	/**
+	 * Attempt to obtain the next hi value.
+	 *
+	 * @return the next hi value, or null if the row was updated
+	 *         concurrently and the attempt must be retried
+	 */
+	private CompletionStage<Long> nextHiValue(ReactiveConnection connection) {
 		// We need to read the current hi value from the table
 		// and update it by the specified increment, but we
 		// need to do it atomically, and without depending on
 		// transaction rollback.
-		ReactiveConnection connection = session.getReactiveConnection();
 		// 1) select the current hi value
 		return connection.selectIdentifier( selectQuery, selectParameters() )
 				// 2) attempt to update the hi value
@@ -105,16 +182,13 @@ protected CompletionStage<Long> nextHiValue(ReactiveConnectionSupplier session)
 					}
 					return connection.update( sql, params )
 							// 3) check the updated row count to detect simultaneous update
-							.thenCompose(
+							.thenApply(
 									rowCount -> {
 										switch (rowCount) {
 											case 1:
-												//we successfully obtained the next hi value
-												return completedFuture(id);
+												return id;
 											case 0:
-												//someone else grabbed the next hi value
-												//so retry everything from scratch
-												return nextHiValue(session);
+												return null;
 											default:
 												throw new TooManyRowsAffectedException( "multiple rows in id table", 1, rowCount );
 										}
@@ -123,6 +197,21 @@ protected CompletionStage<Long> nextHiValue(ReactiveConnectionSupplier session)
 				} );
 	}
 
+	/**
+	 * A random delay, with an upper bound which doubles with each
+	 * attempt, so that concurrent retries don't collide again.
+	 */
+	private static long backoff(int attempt) {
+		long bound = Math.min( MAX_BACKOFF, MIN_BACKOFF << Math.min( attempt - 1, 16 ) );
+		return 1 + ThreadLocalRandom.current().nextLong( bound );
+	}
+
+	private CompletionStage<Void> delay(long millis) {
+		CompletableFuture<Void> delay = new CompletableFuture<>();
+		vertx.setTimer( millis, timer -> delay.complete( null ) );
+		return delay;
+	}
+
 	@Override
 	public void configure(Type type, Properties params, ServiceRegistry serviceRegistry) {
 		JdbcEnvironment jdbcEnvironment = serviceRegistry.getService( JdbcEnvironment.class );
@@ -137,6 +226,16 @@ public void configure(Type type, Properties params, ServiceRegistry serviceRegis
 
 		storeLastUsedValue = determineStoreLastUsedValue( serviceRegistry );
 
+		ConfigurationService configuration = serviceRegistry.getService( ConfigurationService.class );
+		maxRetries = configuration.getSetting( Settings.TABLE_GENERATOR_MAX_RETRIES, StandardConverters.INTEGER, 10 );
+		isolated = configuration.getSetting( Settings.TABLE_GENERATOR_ISOLATED, StandardConverters.BOOLEAN, false );
+		if ( isolated ) {
+			connectionPool = serviceRegistry.getService( ReactiveConnectionPool.class );
+		}
+		vertx = serviceRegistry.getService( VertxInstance.class ).getVertx();
+
+		configurePrefetch( serviceRegistry );
+
 		// allow physical naming strategies a chance to kick in
 		renderedTableName = jdbcEnvironment.getQualifiedObjectNameFormatter()
 				.format( qualifiedTableName, dialect );
@@ -0,0 +1,113 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.id.impl;
+
+import org.hibernate.MappingException;
+import org.hibernate.id.Configurable;
+import org.hibernate.id.IdentifierGenerator;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+import java.io.Serializable;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * A generator of time-ordered 128-bit identifiers, which does not
+ * interact with the database. An identifier begins with a 48-bit
+ * timestamp in milliseconds since the Unix epoch, followed by a 12-bit
+ * counter which keeps identifiers generated by the same JVM strictly
+ * increasing, and then random bits. Since new identifiers are greater
+ * than older identifiers, they're always inserted at the end of a
+ * B-tree index.
+ * <p>
+ * With the strategy name {@code "uuid7"}, the identifiers are version
+ * 7 {@link UUID}s, and the identifier property may be of type
+ * {@code UUID} or {@code String}. With the strategy name
+ * {@code "ulid"}, the identifiers are ULIDs, and the identifier
+ * property must be of type {@code String}.
+ * <p>
+ * The random bits are produced by a {@link ThreadLocalRandom}, and so
+ * identifiers should not be relied on to be unguessable.
+ */
+public class TimeOrderedUuidReactiveIdentifierGenerator extends ClientSideIdentifierGenerator<Serializable>
+		implements Configurable {
+
+	private static final char[] CROCKFORD_BASE32 = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+
+	private final MonotonicTimestamp timestamp = new MonotonicTimestamp( 0, 12 );
+
+	private final boolean ulid;
+	private Class<?> idClass;
+
+	/**
+	 * A generator of version 7 UUIDs.
+	 */
+	public TimeOrderedUuidReactiveIdentifierGenerator() {
+		this( false );
+	}
+
+	protected TimeOrderedUuidReactiveIdentifierGenerator(boolean ulid) {
+		this.ulid = ulid;
+	}
+
+	/**
+	 * A generator of ULIDs, selected by the strategy name {@code "ulid"}.
+	 */
+	public static class Ulid extends TimeOrderedUuidReactiveIdentifierGenerator {
+		public Ulid() {
+			super( true );
+		}
+	}
+
+	@Override
+	public void configure(Type type, Properties params, ServiceRegistry serviceRegistry) {
+		idClass = type.getReturnedClass();
+		if ( idClass != String.class && ( ulid || idClass != UUID.class ) ) {
+			throw new MappingException( ( ulid ? "ULID identifiers must be of type String" :
+					"UUID identifiers must be of type UUID or String" )
+					+ " [entity-name=" + params.getProperty( IdentifierGenerator.ENTITY_NAME ) + "]" );
+		}
+	}
+
+	@Override
+	protected Serializable nextId() {
+		final long next = timestamp.next();
+		final long random = ThreadLocalRandom.current().nextLong();
+		if ( ulid ) {
+			// 48-bit timestamp, 12-bit counter, 68 random bits
+			long mostSignificantBits = timestamp.timestamp( next ) << 16
+					| timestamp.counter( next ) << 4
+					| ThreadLocalRandom.current().nextInt( 16 );
+			return encodeBase32( mostSignificantBits, random );
+		}
+		else {
+			// 48-bit timestamp, version, 12-bit counter, variant, 62 random bits
+			long mostSignificantBits = timestamp.timestamp( next ) << 16
+					| 0x7000L
+					| timestamp.counter( next );
+			long leastSignificantBits = random & 0x3FFFFFFFFFFFFFFFL | 0x8000000000000000L;
+			UUID uuid = new UUID( mostSignificantBits, leastSignificantBits );
+			return idClass == UUID.class ? uuid : uuid.toString();
+		}
+	}
+
+	/**
+	 * Encode 128 bits as 26 characters of Crockford's base 32.
+	 */
+	private static String encodeBase32(long mostSignificantBits, long leastSignificantBits) {
+		char[] chars = new char[26];
+		long high = mostSignificantBits;
+		long low = leastSignificantBits;
+		for ( int i = chars.length - 1; i >= 0; i-- ) {
+			chars[i] = CROCKFORD_BASE32[(int) ( low & 0x1F )];
+			low = low >>> 5 | high << 59;
+			high >>>= 5;
+		}
+		return new String( chars );
+	}
+}
@@ -12,12 +12,17 @@
 import org.hibernate.cache.spi.QueryResultsCache;
 import org.hibernate.dialect.pagination.LimitHandler;
 import org.hibernate.engine.spi.QueryParameters;
+import org.hibernate.engine.spi.RowSelection;
+import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.loader.Loader;
+import org.hibernate.loader.spi.AfterLoadAction;
 import org.hibernate.reactive.adaptor.impl.PreparedStatementAdaptor;
+import org.hibernate.reactive.cache.impl.ReactiveQueryCacheHelper;
 import org.hibernate.reactive.event.impl.UnexpectedAccessToTheDatabase;
+import org.hibernate.reactive.session.ReactiveScroll;
 import org.hibernate.stat.spi.StatisticsImplementor;
 import org.hibernate.transform.CacheableResultTransformer;
 import org.hibernate.transform.ResultTransformer;
@@ -26,11 +31,15 @@
 import java.io.Serializable;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
 
+import static org.hibernate.reactive.cache.impl.ReactiveQueryCacheHelper.identifierTypes;
+import static org.hibernate.reactive.cache.impl.ReactiveQueryCacheHelper.isReactiveQueryCacheEnabled;
+import static org.hibernate.reactive.cache.impl.ReactiveQueryCacheHelper.resolveEntities;
 import static org.hibernate.reactive.util.impl.CompletionStages.completedFuture;
 import static org.hibernate.reactive.util.impl.CompletionStages.logSqlException;
 import static org.hibernate.reactive.util.impl.CompletionStages.returnOrRethrow;
@@ -81,6 +90,52 @@ default CompletionStage<List<Object>> reactiveListIgnoreQueryCache(
 				.thenApply( result -> getResultList( result, queryParameters.getResultTransformer() ) );
 	}
 
+	/**
+	 * Execute the query using a database cursor, returning a
+	 * {@link ReactiveScroll} which fetches and hydrates the results
+	 * in chunks of the given size. The query cache is never used.
+	 */
+	default CompletionStage<ReactiveScroll<Object>> reactiveScroll(
+			final String sql,
+			final SharedSessionContractImplementor session,
+			final QueryParameters queryParameters,
+			final int fetchSize) {
+		if ( !queryParameters.isReadOnlyInitialized() ) {
+			queryParameters.setReadOnly( session.getPersistenceContext().isDefaultReadOnly() );
+		}
+		final List<AfterLoadAction> afterLoadActions = new ArrayList<>();
+		return executeReactiveQueryCursor( sql, queryParameters, afterLoadActions, session )
+				.handle( (cursor, err) -> {
+					logSqlException( err, () -> "could not execute query", sql );
+					return returnOrRethrow( err, cursor );
+				} )
+				.thenApply( cursor -> new CursorScroll(
+						cursor,
+						fetchSize,
+						resultSet -> reactiveProcessResultSetChunk( resultSet, queryParameters, session, true, null, afterLoadActions )
+								.thenApply( chunk -> {
+									clearFirstRow( queryParameters );
+									return getResultList( chunk, queryParameters.getResultTransformer() );
+								} )
+				) );
+	}
+
+	/**
+	 * Called once the first chunk of a scroll has been processed, so
+	 * that rows which precede the first row, if they weren't already
+	 * skipped by the SQL, are only skipped by the first chunk.
+	 */
+	default void clearFirstRow(QueryParameters queryParameters) {
+		final RowSelection selection = queryParameters.getRowSelection();
+		if ( selection != null && selection.getFirstRow() != null ) {
+			final RowSelection remaining = new RowSelection();
+			remaining.setMaxRows( selection.getMaxRows() );
+			remaining.setFetchSize( selection.getFetchSize() );
+			remaining.setTimeout( selection.getTimeout() );
+			queryParameters.setRowSelection( remaining );
+		}
+	}
+
 	default CompletionStage<List<Object>> reactiveListUsingQueryCache(
 			final String sql,
 			final String queryIdentifier,
@@ -89,35 +144,55 @@ default CompletionStage<List<Object>> reactiveListUsingQueryCache(
 			final Set<Serializable> querySpaces,
 			final Type[] resultTypes) {
 
+		if ( isReactiveQueryCacheEnabled( session ) ) {
+			return reactiveListUsingReactiveQueryCache( sql, queryIdentifier, session, queryParameters, querySpaces, resultTypes );
+		}
+
 		QueryResultsCache queryCache = session.getFactory().getCache()
 				.getQueryResultsCache( queryParameters.getCacheRegion() );
 
 		QueryKey key = queryKey( sql, session, queryParameters );
 
+		// the cached results of a stateful session are first assembled with
+		// the ids of the entities they refer to, and then the entities are
+		// resolved reactively, loading any which aren't cached in one batch
+		final boolean resolveIds = session instanceof SessionImplementor;
 		final List<Object> cachedList;
 		try {
-			cachedList = getReactiveResultFromQueryCache( session, queryParameters, querySpaces, resultTypes, queryCache, key );
+			cachedList = getReactiveResultFromQueryCache(
+					session,
+					queryParameters,
+					querySpaces,
+					resolveIds ? identifierTypes( resultTypes, session.getFactory() ) : resultTypes,
+					queryCache,
+					key
+			);
 		}
 		catch (UnexpectedAccessToTheDatabase e) {
 			log.debugf( "Some of the entities are not in the cache. The cache will be ignored for query: %s ", sql );
 
-			// Some of the entities in the query results aren't cached and therefore it trys to load them from the db.
-			// Currently this scenario causes an AssertionFailure exception because we cannot deal with the
-			// CompletionStage in that phase.
+			// Some of the entities referred to by the cached query results (from a stateless
+			// session, or by a component) aren't cached and therefore it trys to load them
+			// from the db. Currently this scenario causes an AssertionFailure exception
+			// because we cannot deal with the CompletionStage in that phase.
 			return reactiveListIgnoreQueryCache( sql, queryIdentifier, session, queryParameters );
 		}
 
-		CompletionStage<List<Object>> list;
-		if ( cachedList == null ) {
-			list = doReactiveList( sql, queryIdentifier, session, queryParameters, key.getResultTransformer() )
+		final CompletionStage<List<Object>> resolvedList = cachedList != null && resolveIds
+				? resolveEntities( cachedList, key.getResultTransformer().getCachedResultTypes( resultTypes ), session )
+				: completedFuture( cachedList );
+
+		CompletionStage<List<Object>> list = resolvedList.thenCompose( resolved -> {
+			if ( resolved != null ) {
+				return completedFuture( resolved );
+			}
+			// not cached, or one of the entities no longer exists
+			return doReactiveList( sql, queryIdentifier, session, queryParameters, key.getResultTransformer() )
 					.thenApply( cachableList -> {
 						putReactiveResultInQueryCache( session, queryParameters, resultTypes, queryCache, key, cachableList );
 						return cachableList;
 					} );
-		}
-		else {
-			list = completedFuture( cachedList );
-		}
+		} );
 
 		return list.thenApply(
 				result -> getResultList(
@@ -128,6 +203,43 @@ default CompletionStage<List<Object>> reactiveListUsingQueryCache(
 		);
 	}
 
+	/**
+	 * Execute a cacheable query, or obtain its results from the
+	 * {@link org.hibernate.reactive.cache.ReactiveCacheRegion asynchronous
+	 * cache region} of the query, without blocking.
+	 *
+	 * @see org.hibernate.reactive.cache.ReactiveRegionFactory
+	 */
+	default CompletionStage<List<Object>> reactiveListUsingReactiveQueryCache(
+			final String sql,
+			final String queryIdentifier,
+			final SharedSessionContractImplementor session,
+			final QueryParameters queryParameters,
+			final Set<Serializable> querySpaces,
+			final Type[] resultTypes) {
+
+		QueryKey key = queryKey( sql, session, queryParameters );
+		Type[] cacheableTypes = key.getResultTransformer().getCachedResultTypes( resultTypes );
+
+		return ReactiveQueryCacheHelper.get( key, querySpaces, cacheableTypes, queryParameters, session )
+				.thenCompose( cachedList -> {
+					if ( cachedList != null ) {
+						return completedFuture( cachedList );
+					}
+					return doReactiveList( sql, queryIdentifier, session, queryParameters, key.getResultTransformer() )
+							.thenCompose( cacheableList -> ReactiveQueryCacheHelper
+									.put( key, cacheableTypes, cacheableList, queryParameters, session )
+									.thenApply( v -> cacheableList ) );
+				} )
+				.thenApply(
+						result -> getResultList(
+								transform( queryParameters, key, result,
+										resolveResultTransformer( queryParameters.getResultTransformer() ) ),
+								queryParameters.getResultTransformer()
+						)
+				);
+	}
+
 	default List<?> transform(QueryParameters queryParameters, QueryKey key, List<Object> result,
 							  ResultTransformer resolvedTransformer) {
 		if (resolvedTransformer == null) {
@@ -0,0 +1,64 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.loader;
+
+import org.hibernate.reactive.pool.ReactiveConnection;
+import org.hibernate.reactive.session.ReactiveScroll;
+
+import java.sql.ResultSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+
+import static org.hibernate.reactive.util.impl.CompletionStages.completedFuture;
+import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
+
+/**
+ * A {@link ReactiveScroll} which fetches chunks of rows from a
+ * {@link ReactiveConnection.Cursor} and passes them to a loader
+ * to be hydrated.
+ *
+ * @see CachingReactiveLoader#reactiveScroll
+ */
+final class CursorScroll implements ReactiveScroll<Object> {
+
+	private final ReactiveConnection.Cursor cursor;
+	private final int fetchSize;
+	private final Function<ResultSet, CompletionStage<List<Object>>> hydrator;
+	private boolean closed;
+
+	CursorScroll(
+			ReactiveConnection.Cursor cursor,
+			int fetchSize,
+			Function<ResultSet, CompletionStage<List<Object>>> hydrator) {
+		this.cursor = cursor;
+		this.fetchSize = fetchSize;
+		this.hydrator = hydrator;
+	}
+
+	@Override
+	public CompletionStage<List<Object>> next() {
+		if ( !hasMore() ) {
+			return completedFuture( Collections.emptyList() );
+		}
+		return cursor.fetch( fetchSize ).thenCompose( hydrator );
+	}
+
+	@Override
+	public boolean hasMore() {
+		return !closed && cursor.hasMore();
+	}
+
+	@Override
+	public CompletionStage<Void> close() {
+		if ( closed ) {
+			return voidFuture();
+		}
+		closed = true;
+		return cursor.close();
+	}
+}
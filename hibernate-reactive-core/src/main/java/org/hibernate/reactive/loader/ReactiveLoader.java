@@ -6,6 +6,8 @@
 package org.hibernate.reactive.loader;
 
 import org.hibernate.JDBCException;
+import org.hibernate.LockMode;
+import org.hibernate.LockOptions;
 import org.hibernate.dialect.PostgreSQL9Dialect;
 import org.hibernate.dialect.pagination.LimitHandler;
 import org.hibernate.dialect.pagination.LimitHelper;
@@ -14,6 +16,7 @@
 import org.hibernate.loader.spi.AfterLoadAction;
 import org.hibernate.reactive.adaptor.impl.QueryParametersAdaptor;
 import org.hibernate.reactive.engine.impl.ReactivePersistenceContextAdapter;
+import org.hibernate.reactive.pool.ReactiveConnection;
 import org.hibernate.reactive.pool.impl.Parameters;
 import org.hibernate.reactive.session.ReactiveConnectionSupplier;
 import org.hibernate.transform.ResultTransformer;
@@ -22,7 +25,11 @@
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletionStage;
+import java.util.function.BiFunction;
+
+import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
 
 /**
  * Defines common reactive operations inherited by all kinds of loaders.
@@ -99,6 +106,25 @@ default CompletionStage<ResultSet> executeReactiveQueryStatement(
 			QueryParameters queryParameters,
 			List<AfterLoadAction> afterLoadActions,
 			SharedSessionContractImplementor session) {
+		final ReactiveConnection connection = ((ReactiveConnectionSupplier) session).getReactiveConnection();
+		final BiFunction<String, Object[], CompletionStage<ResultSet>> execution =
+				isReadOnlyQuery( queryParameters, session )
+						? connection::selectJdbcReadOnly
+						: connection::selectJdbc;
+		return executeReactiveQueryStatement( sqlStatement, queryParameters, afterLoadActions, session, execution );
+	}
+
+	/**
+	 * Process filters, limits, locks and comments, bind the parameters,
+	 * and then pass the final SQL and parameter values to the given
+	 * function, which executes the query.
+	 */
+	default <T> CompletionStage<T> executeReactiveQueryStatement(
+			String sqlStatement,
+			QueryParameters queryParameters,
+			List<AfterLoadAction> afterLoadActions,
+			SharedSessionContractImplementor session,
+			BiFunction<String, Object[], CompletionStage<T>> execution) {
 
 		// Processing query filters.
 		queryParameters.processFilters( sqlStatement, session );
@@ -125,8 +151,50 @@ else if ( LimitHelper.useLimit( limitHandler, queryParameters.getRowSelection()
 			sql = parameters().processLimit( sql, parameterArray, LimitHelper.hasFirstRow( queryParameters.getRowSelection() ) );
 		}
 
-		return ((ReactiveConnectionSupplier) session).getReactiveConnection()
-				.selectJdbc( sql, parameterArray );
+		return execution.apply( sql, parameterArray );
+	}
+
+	/**
+	 * Execute the query, returning a {@link ReactiveConnection.Cursor}
+	 * from which the results may be fetched in chunks.
+	 */
+	default CompletionStage<ReactiveConnection.Cursor> executeReactiveQueryCursor(
+			String sqlStatement,
+			QueryParameters queryParameters,
+			List<AfterLoadAction> afterLoadActions,
+			SharedSessionContractImplementor session) {
+		final ReactiveConnection connection = ((ReactiveConnectionSupplier) session).getReactiveConnection();
+		return executeReactiveQueryStatement(
+				sqlStatement,
+				queryParameters,
+				afterLoadActions,
+				session,
+				connection::selectJdbcCursor
+		);
+	}
+
+	/**
+	 * A query is read-only if its results are read-only, either because
+	 * the query or the session is read-only, and if it does not obtain
+	 * any pessimistic locks.
+	 */
+	default boolean isReadOnlyQuery(QueryParameters queryParameters, SharedSessionContractImplementor session) {
+		if ( !queryParameters.isReadOnly( session ) ) {
+			return false;
+		}
+		final LockOptions lockOptions = queryParameters.getLockOptions();
+		if ( lockOptions == null ) {
+			return true;
+		}
+		if ( lockOptions.getLockMode().greaterThan( LockMode.READ ) ) {
+			return false;
+		}
+		for ( Map.Entry<String, LockMode> aliasLockMode : lockOptions.getAliasSpecificLocks() ) {
+			if ( aliasLockMode.getValue().greaterThan( LockMode.READ ) ) {
+				return false;
+			}
+		}
+		return true;
 	}
 
 	default LimitHandler limitHandler(RowSelection selection, SharedSessionContractImplementor session) {
@@ -160,6 +228,44 @@ default CompletionStage<List<Object>> reactiveProcessResultSet(
 		}
 	}
 
+	/**
+	 * Process a chunk of rows fetched from a {@link ReactiveConnection.Cursor},
+	 * loading the entities and initializing their non-lazy collections,
+	 * just like {@link #doReactiveQueryAndInitializeNonLazyCollections}
+	 * does for the whole result of a query.
+	 */
+	default CompletionStage<List<Object>> reactiveProcessResultSetChunk(
+			ResultSet resultSet,
+			QueryParameters queryParameters,
+			SharedSessionContractImplementor session,
+			boolean returnProxies,
+			ResultTransformer forcedResultTransformer,
+			List<AfterLoadAction> afterLoadActions) {
+		final PersistenceContext persistenceContext = session.getPersistenceContext();
+		boolean defaultReadOnlyOrig = persistenceContext.isDefaultReadOnly();
+		persistenceContext.setDefaultReadOnly( queryParameters.isReadOnly() );
+		persistenceContext.beforeLoad();
+
+		return voidFuture()
+				.thenCompose( v -> {
+					discoverTypes( queryParameters, resultSet );
+					return reactiveProcessResultSet(
+							resultSet,
+							queryParameters,
+							session,
+							returnProxies,
+							forcedResultTransformer,
+							afterLoadActions
+					);
+				} )
+				.whenComplete( (list, e) -> persistenceContext.afterLoad() )
+				.thenCompose( list ->
+						((ReactivePersistenceContextAdapter) persistenceContext ).reactiveInitializeNonLazyCollections()
+								.thenApply(v -> list)
+				)
+				.whenComplete( (list, e) -> persistenceContext.setDefaultReadOnly(defaultReadOnlyOrig) );
+	}
+
 	ReactiveResultSetProcessor getReactiveResultSetProcessor();
 
 	/**
@@ -10,11 +10,13 @@
 import org.hibernate.engine.spi.QueryParameters;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.internal.util.StringHelper;
 import org.hibernate.loader.JoinWalker;
 import org.hibernate.loader.collection.BasicCollectionJoinWalker;
 import org.hibernate.loader.collection.OneToManyJoinWalker;
 import org.hibernate.persister.collection.QueryableCollection;
+import org.hibernate.reactive.pool.impl.ArrayParameters;
 import org.hibernate.type.Type;
 
 import java.io.Serializable;
@@ -38,6 +40,7 @@ class ReactiveDynamicBatchingCollectionInitializer extends ReactiveCollectionLoa
 
 	private final String sqlTemplate;
 	private final String alias;
+	private final boolean arrayParameter;
 
 	public ReactiveDynamicBatchingCollectionInitializer(
 			QueryableCollection collectionPersister,
@@ -49,6 +52,12 @@ public ReactiveDynamicBatchingCollectionInitializer(
 		initFromWalker( walker );
 		this.sqlTemplate = walker.getSQLString();
 		this.alias = StringHelper.generateAlias( collectionPersister.getRole(), 0 );
+		this.arrayParameter = ArrayParameters.isSupported(
+				sqlTemplate,
+				collectionPersister.getKeyType(),
+				collectionPersister.getKeyColumnNames(),
+				factory.getJdbcServices().getDialect()
+		);
 		postInstantiate();
 
 		if ( LOG.isDebugEnabled() ) {
@@ -107,15 +116,22 @@ public final CompletionStage<Void> doBatchedCollectionLoad(
 		Arrays.fill( idTypes, type );
 		final QueryParameters queryParameters = new QueryParameters( idTypes, ids, ids );
 
-		final String sql = StringHelper.expandBatchIdPlaceholder(
-				sqlTemplate,
-				ids,
-				alias,
-				collectionPersister().getKeyColumnNames(),
-				session.getJdbcServices().getJdbcEnvironment().getDialect()
-		);
-
-		return doReactiveQueryAndInitializeNonLazyCollections( sql, session, queryParameters )
+		final String sql = isArrayParameterBound( session )
+				? ArrayParameters.expandBatchIdPlaceholder( sqlTemplate )
+				: StringHelper.expandBatchIdPlaceholder(
+						sqlTemplate,
+						ids,
+						alias,
+						collectionPersister().getKeyColumnNames(),
+						session.getJdbcServices().getJdbcEnvironment().getDialect()
+				);
+
+		// the template was processed before the placeholder was expanded,
+		// and, when filters are enabled, the SQL is processed on execution
+		final String processedSQL = session.getLoadQueryInfluencers().hasEnabledFilters()
+				? sql
+				: parameters().process( sql );
+		return doReactiveQueryAndInitializeNonLazyCollections( processedSQL, session, queryParameters )
 				.handle( (list, err) -> {
 					logSqlException( err,
 							() -> "could not initialize a collection batch: "
@@ -128,4 +144,19 @@ public final CompletionStage<Void> doBatchedCollectionLoad(
 
 	}
 
+	@Override
+	public Object[] toParameterArray(QueryParameters queryParameters, SharedSessionContractImplementor session) {
+		final Object[] arguments = super.toParameterArray( queryParameters, session );
+		return isArrayParameterBound( session )
+				? ArrayParameters.toArrayArgument( arguments, collectionPersister().getKeyType() )
+				: arguments;
+	}
+
+	/**
+	 * Filters add their own parameters to the query, so the batch of keys
+	 * is only bound as an array when no filter is enabled.
+	 */
+	private boolean isArrayParameterBound(SharedSessionContractImplementor session) {
+		return arrayParameter && !session.getLoadQueryInfluencers().hasEnabledFilters();
+	}
 }
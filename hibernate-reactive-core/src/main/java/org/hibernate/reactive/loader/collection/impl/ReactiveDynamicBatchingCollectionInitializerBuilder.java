@@ -7,8 +7,15 @@
 
 import org.hibernate.engine.spi.LoadQueryInfluencers;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.persister.collection.QueryableCollection;
 
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.concurrent.CompletionStage;
+
+import static org.hibernate.reactive.util.impl.CompletionStages.loop;
+
 
 /**
  * A {@link ReactiveBatchingCollectionInitializerBuilder} that is enabled when
@@ -22,6 +29,33 @@ public class ReactiveDynamicBatchingCollectionInitializerBuilder extends Reactiv
 
 	public static final ReactiveDynamicBatchingCollectionInitializerBuilder INSTANCE = new ReactiveDynamicBatchingCollectionInitializerBuilder();
 
+	/**
+	 * Initialize the collections with the given keys, which must already be
+	 * associated with the given session, using as few SQL queries as the
+	 * dialect's batch load sizing strategy allows.
+	 */
+	public CompletionStage<Void> batchLoad(
+			QueryableCollection persister,
+			Serializable[] keys,
+			SessionImplementor session) {
+		final int maxBatchSize = session.getJdbcServices().getJdbcEnvironment().getDialect()
+				.getDefaultBatchLoadSizingStrategy()
+				.determineOptimalBatchLoadSize(
+						persister.getKeyType().getColumnSpan( session.getFactory() ),
+						keys.length
+				);
+		final ReactiveDynamicBatchingCollectionInitializer initializer = new ReactiveDynamicBatchingCollectionInitializer(
+				persister,
+				session.getFactory(),
+				session.getLoadQueryInfluencers()
+		);
+		return loop( 0, ( keys.length + maxBatchSize - 1 ) / maxBatchSize, i -> {
+			final int start = i * maxBatchSize;
+			final Serializable[] keysInBatch = Arrays.copyOfRange( keys, start, Math.min( start + maxBatchSize, keys.length ) );
+			return initializer.doBatchedCollectionLoad( session, keysInBatch, persister.getKeyType() );
+		} );
+	}
+
 	@Override
 	protected ReactiveCollectionLoader createRealBatchingCollectionInitializer(
 			QueryableCollection persister,
@@ -0,0 +1,55 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.loader.entity.impl;
+
+import org.hibernate.CacheMode;
+import org.hibernate.LockOptions;
+import org.hibernate.persister.entity.MultiLoadOptions;
+
+/**
+ * The {@link MultiLoadOptions} of a batched load which Hibernate Reactive
+ * performs on its own behalf, rather than at the request of the program.
+ * The entities are looked up in the persistence context, and then in the
+ * second-level cache if the cache mode allows, and the result contains
+ * only the entities which exist, in no particular order.
+ */
+public final class InternalMultiLoadOptions implements MultiLoadOptions {
+	private final CacheMode cacheMode;
+
+	public InternalMultiLoadOptions(CacheMode cacheMode) {
+		this.cacheMode = cacheMode;
+	}
+
+	@Override
+	public boolean isSessionCheckingEnabled() {
+		return true;
+	}
+
+	@Override
+	public boolean isSecondLevelCacheCheckingEnabled() {
+		return cacheMode == CacheMode.NORMAL || cacheMode == CacheMode.GET;
+	}
+
+	@Override
+	public boolean isReturnOfDeletedEntitiesEnabled() {
+		return false;
+	}
+
+	@Override
+	public boolean isOrderReturnEnabled() {
+		return false;
+	}
+
+	@Override
+	public LockOptions getLockOptions() {
+		return null;
+	}
+
+	@Override
+	public Integer getBatchSize() {
+		return null;
+	}
+}
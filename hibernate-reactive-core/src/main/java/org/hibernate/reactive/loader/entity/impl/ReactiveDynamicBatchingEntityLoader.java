@@ -12,9 +12,11 @@
 import org.hibernate.engine.spi.QueryParameters;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.internal.util.StringHelper;
 import org.hibernate.loader.entity.EntityJoinWalker;
 import org.hibernate.persister.entity.OuterJoinLoadable;
+import org.hibernate.reactive.pool.impl.ArrayParameters;
 
 import java.io.Serializable;
 import java.util.List;
@@ -37,6 +39,7 @@ class ReactiveDynamicBatchingEntityLoader extends ReactiveEntityLoader {
 
 	private final String sqlTemplate;
 	private final String alias;
+	private final boolean arrayParameter;
 
 	public ReactiveDynamicBatchingEntityLoader(
 			OuterJoinLoadable persister,
@@ -75,6 +78,15 @@ protected StringBuilder whereString(String alias, String[] columnNames, int batc
 		initFromWalker( walker );
 		this.sqlTemplate = walker.getSQLString();
 		this.alias = walker.getAlias();
+		// the SQL of a subselect fetch is built from the SQL of this query,
+		// and expects the ids as separate parameters
+		this.arrayParameter = !persister.hasSubselectLoadableCollections()
+				&& ArrayParameters.isSupported(
+						sqlTemplate,
+						persister.getIdentifierType(),
+						persister.getKeyColumnNames(),
+						getDialect()
+				);
 		postInstantiate();
 
 		if ( LOG.isDebugEnabled() ) {
@@ -102,13 +114,15 @@ public CompletionStage<List<Object>> doEntityBatchFetch(
 			QueryParameters queryParameters,
 			Serializable[] ids) {
 
-		final String sql = expandBatchIdPlaceholder(
-				sqlTemplate,
-				ids,
-				alias,
-				persister.getKeyColumnNames(),
-				getDialect()
-		);
+		final String sql = isArrayParameterBound( session )
+				? ArrayParameters.expandBatchIdPlaceholder( sqlTemplate )
+				: expandBatchIdPlaceholder(
+						sqlTemplate,
+						ids,
+						alias,
+						persister.getKeyColumnNames(),
+						getDialect()
+				);
 
 		// Filters might add additional parameters and our processor is not smart enough, right now, to
 		// recognize them if the query has been processed already.
@@ -130,6 +144,22 @@ public CompletionStage<List<Object>> doEntityBatchFetch(
 				} );
 	}
 
+	@Override
+	public Object[] toParameterArray(QueryParameters queryParameters, SharedSessionContractImplementor session) {
+		final Object[] arguments = super.toParameterArray( queryParameters, session );
+		return isArrayParameterBound( session )
+				? ArrayParameters.toArrayArgument( arguments, persister.getIdentifierType() )
+				: arguments;
+	}
+
+	/**
+	 * Filters add their own parameters to the query, so the batch of ids
+	 * is only bound as an array when no filter is enabled.
+	 */
+	private boolean isArrayParameterBound(SharedSessionContractImplementor session) {
+		return arrayParameter && !session.getLoadQueryInfluencers().hasEnabledFilters();
+	}
+
 	private static StringBuilder buildBatchFetchRestrictionFragment(
 			String alias,
 			String[] columnNames,
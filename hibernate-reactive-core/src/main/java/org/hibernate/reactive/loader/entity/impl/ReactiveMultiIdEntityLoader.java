@@ -0,0 +1,245 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.loader.entity.impl;
+
+import org.hibernate.LockMode;
+import org.hibernate.LockOptions;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.QueryParameters;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.engine.spi.Status;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.LoadEvent;
+import org.hibernate.event.spi.LoadEventListener;
+import org.hibernate.loader.entity.CacheEntityLoaderHelper;
+import org.hibernate.persister.entity.MultiLoadOptions;
+import org.hibernate.persister.entity.OuterJoinLoadable;
+import org.hibernate.reactive.cache.impl.ReactiveEntityCacheHelper;
+import org.hibernate.type.Type;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
+
+import static org.hibernate.reactive.cache.impl.ReactiveEntityCacheHelper.isReactiveCacheEnabled;
+import static org.hibernate.reactive.util.impl.CompletionStages.completedFuture;
+import static org.hibernate.reactive.util.impl.CompletionStages.loop;
+import static org.hibernate.reactive.util.impl.CompletionStages.nullFuture;
+import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
+
+/**
+ * Loads the entities with a list of ids, as requested by
+ * {@link org.hibernate.reactive.stage.Stage.Session#find(Class, Object...)}
+ * and its Mutiny equivalent.
+ * <ol>
+ * <li>Each id is first looked up in the persistence context and then, if
+ * the {@link MultiLoadOptions} allow it, in the second-level cache, or in
+ * its asynchronous region, if there is one.
+ * <li>Only the ids which were not found are loaded from the database, by
+ * the {@link ReactiveDynamicBatchingEntityLoader}, in chunks of at most the
+ * requested batch size, or of the size chosen by the dialect, one chunk
+ * after the other. As usual, the loaded entities are put in the
+ * second-level cache as they are initialized, and then in the asynchronous
+ * region, if there is one, if the cache mode allows.
+ * <li>The loaded entities are read back from the persistence context, so
+ * that they may be returned in the order of the given ids.
+ * </ol>
+ *
+ * @see org.hibernate.persister.entity.AbstractEntityPersister#multiLoad
+ */
+class ReactiveMultiIdEntityLoader {
+
+	private final OuterJoinLoadable persister;
+	private final SessionImplementor session;
+	private final MultiLoadOptions loadOptions;
+	private final LockOptions lockOptions;
+
+	ReactiveMultiIdEntityLoader(OuterJoinLoadable persister, SessionImplementor session, MultiLoadOptions loadOptions) {
+		this.persister = persister;
+		this.session = session;
+		this.loadOptions = loadOptions;
+		this.lockOptions = loadOptions.getLockOptions() == null
+				? new LockOptions( LockMode.NONE )
+				: loadOptions.getLockOptions();
+	}
+
+	CompletionStage<List<Object>> load(Serializable[] ids) {
+		// an entity, null, or the EntityKey of an entity to load from the database
+		final Object[] result = new Object[ids.length];
+		// the distinct ids of entities to load from the database
+		final Map<EntityKey, Serializable> idsToLoad = new LinkedHashMap<>();
+
+		return loop( 0, ids.length, i -> resolve( ids, i, result, idsToLoad ) )
+				.thenCompose( v -> {
+					if ( idsToLoad.isEmpty() ) {
+						return completedFuture( toList( result ) );
+					}
+					else {
+						return loadFromDatabase( idsToLoad.values().toArray( new Serializable[0] ) )
+								.thenCompose( vv -> {
+									resolveLoadedEntities( result );
+									return putLoadedEntities( idsToLoad.keySet() );
+								} )
+								.thenApply( vv -> toList( result ) );
+					}
+				} );
+	}
+
+	/**
+	 * Look up the entity with the id at the given index in the persistence
+	 * context, and then in the second-level cache, or, if it's in neither,
+	 * add it to the entities to load from the database.
+	 */
+	private CompletionStage<Void> resolve(Serializable[] ids, int i, Object[] result, Map<EntityKey, Serializable> idsToLoad) {
+		final EntityKey entityKey = session.generateEntityKey( ids[i], persister );
+		final LoadEvent loadEvent = new LoadEvent(
+				ids[i],
+				persister.getMappedClass().getName(),
+				lockOptions,
+				(EventSource) session,
+				null
+		);
+
+		// a load from the database would return the managed instance anyway
+		final CacheEntityLoaderHelper.PersistenceContextEntry persistenceContextEntry =
+				CacheEntityLoaderHelper.INSTANCE.loadFromSessionCache( loadEvent, entityKey, LoadEventListener.GET );
+		final Object entity = persistenceContextEntry.getEntity();
+		if ( entity != null ) {
+			result[i] = !loadOptions.isReturnOfDeletedEntitiesEnabled() && !persistenceContextEntry.isManaged()
+					? null
+					: entity;
+			return voidFuture();
+		}
+
+		final CompletionStage<Object> cached;
+		if ( !loadOptions.isSecondLevelCacheCheckingEnabled() ) {
+			cached = nullFuture();
+		}
+		else if ( isReactiveCacheEnabled( persister ) ) {
+			cached = ReactiveEntityCacheHelper.loadFromCache( loadEvent, persister, entityKey );
+		}
+		else {
+			cached = completedFuture(
+					CacheEntityLoaderHelper.INSTANCE.loadFromSecondLevelCache( loadEvent, persister, entityKey )
+			);
+		}
+		return cached.thenAccept( cachedEntity -> {
+			if ( cachedEntity != null ) {
+				result[i] = cachedEntity;
+			}
+			else {
+				result[i] = entityKey;
+				idsToLoad.put( entityKey, ids[i] );
+			}
+		} );
+	}
+
+	/**
+	 * Put the entities just loaded from the database in the asynchronous
+	 * region, since ORM only puts them in its own region.
+	 */
+	private CompletionStage<Void> putLoadedEntities(Set<EntityKey> loadedKeys) {
+		if ( !isReactiveCacheEnabled( persister ) ) {
+			return voidFuture();
+		}
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		return loop( loadedKeys, key -> {
+			final Object entity = persistenceContext.getEntity( key );
+			return entity == null
+					? voidFuture()
+					: ReactiveEntityCacheHelper.putLoadedEntity(
+							entity,
+							persistenceContext.getEntry( entity ).getPersister(),
+							session
+					);
+		} );
+	}
+
+	private CompletionStage<Void> loadFromDatabase(Serializable[] ids) {
+		final int maxBatchSize;
+		if ( loadOptions.getBatchSize() != null && loadOptions.getBatchSize() > 0 ) {
+			maxBatchSize = loadOptions.getBatchSize();
+		}
+		else {
+			maxBatchSize = session.getJdbcServices().getJdbcEnvironment().getDialect()
+					.getDefaultBatchLoadSizingStrategy()
+					.determineOptimalBatchLoadSize(
+							persister.getIdentifierType().getColumnSpan( session.getFactory() ),
+							ids.length
+					);
+		}
+
+		// the SQL does not depend on the number of ids in a chunk
+		final ReactiveDynamicBatchingEntityLoader batchingLoader = new ReactiveDynamicBatchingEntityLoader(
+				persister,
+				maxBatchSize,
+				lockOptions,
+				session.getFactory(),
+				session.getLoadQueryInfluencers()
+		);
+
+		final int chunks = ( ids.length + maxBatchSize - 1 ) / maxBatchSize;
+		return loop( 0, chunks, chunk -> {
+			final int start = chunk * maxBatchSize;
+			final Serializable[] idsInChunk = Arrays.copyOfRange( ids, start, Math.min( start + maxBatchSize, ids.length ) );
+			return batchingLoader.doEntityBatchFetch(
+					session,
+					buildMultiLoadQueryParameters( idsInChunk ),
+					idsInChunk
+			);
+		} );
+	}
+
+	private void resolveLoadedEntities(Object[] result) {
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		for ( int i = 0; i < result.length; i++ ) {
+			if ( result[i] instanceof EntityKey ) {
+				Object entity = persistenceContext.getEntity( (EntityKey) result[i] );
+				if ( entity != null && !loadOptions.isReturnOfDeletedEntitiesEnabled() ) {
+					final EntityEntry entry = persistenceContext.getEntry( entity );
+					if ( entry.getStatus() == Status.DELETED || entry.getStatus() == Status.GONE ) {
+						// the entity is locally deleted, and the options ask
+						// that we not return such entities
+						entity = null;
+					}
+				}
+				result[i] = entity;
+			}
+		}
+	}
+
+	private List<Object> toList(Object[] result) {
+		final List<Object> list = new ArrayList<>( result.length );
+		for ( Object entity : result ) {
+			// an unordered result contains only the entities which exist
+			if ( entity != null || loadOptions.isOrderReturnEnabled() ) {
+				list.add( entity );
+			}
+		}
+		return list;
+	}
+
+	private QueryParameters buildMultiLoadQueryParameters(Serializable[] ids) {
+		final Type[] types = new Type[ids.length];
+		Arrays.fill( types, persister.getIdentifierType() );
+
+		final QueryParameters qp = new QueryParameters();
+		qp.setOptionalEntityName( persister.getEntityName() );
+		qp.setPositionalParameterTypes( types );
+		qp.setPositionalParameterValues( ids );
+		qp.setLockOptions( lockOptions );
+		qp.setOptionalObject( null );
+		qp.setOptionalId( null );
+		return qp;
+	}
+}
@@ -22,6 +22,7 @@
 import org.hibernate.reactive.loader.ReactiveLoaderBasedResultSetProcessor;
 import org.hibernate.reactive.loader.ReactiveResultSetProcessor;
 import org.hibernate.reactive.pool.impl.Parameters;
+import org.hibernate.reactive.session.ReactiveScroll;
 import org.hibernate.transform.ResultTransformer;
 import org.hibernate.type.Type;
 
@@ -100,6 +101,23 @@ public CompletionStage<List<Object>> reactiveList(
 		);
 	}
 
+	/**
+	 * Execute the query using a database cursor, never using the
+	 * query cache.
+	 *
+	 * @see CachingReactiveLoader#reactiveScroll
+	 */
+	public CompletionStage<ReactiveScroll<Object>> reactiveScroll(
+			SharedSessionContractImplementor session,
+			QueryParameters queryParameters,
+			int fetchSize) throws HibernateException {
+		checkQuery( queryParameters );
+		String sql = hasFilters( session )
+				? getSQLString()
+				: parameters().process( getSQLString() );
+		return reactiveScroll( sql, session, queryParameters, fetchSize );
+	}
+
 	/**
 	 * Return the query results, using the query cache, called
 	 * by subclasses that implement cacheable queries
@@ -5,6 +5,7 @@
  */
 package org.hibernate.reactive.mutiny;
 
+import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 import org.hibernate.Cache;
 import org.hibernate.CacheMode;
@@ -102,6 +103,12 @@ public interface Mutiny {
 		 */
 		Query<R> setFirstResult(int firstResult);
 
+		/**
+		 * Set the number of results fetched from the database at a time
+		 * when the results are obtained via {@link #getResultStream()}.
+		 */
+		Query<R> setFetchSize(int fetchSize);
+
 		/**
 		 * @return the maximum number results, or {@link Integer#MAX_VALUE}
 		 *          if not set
@@ -155,6 +162,26 @@ public interface Mutiny {
 		 */
 		Uni<List<R>> getResultList();
 
+		/**
+		 * Execute this query, returning the query results as a {@link Multi}.
+		 * The results are fetched incrementally from a database cursor, in
+		 * chunks of the {@linkplain #setFetchSize(int) fetch size}, only as
+		 * they're requested by the subscriber, and entities are loaded into
+		 * the session as each chunk is fetched. If the query has multiple
+		 * results per row, the results are returned in an instance of
+		 * {@code Object[]}.
+		 * <p>
+		 * The query is executed when the first result is requested, and no
+		 * other operation may be performed by the session until the stream
+		 * completes or the subscription is cancelled. Queries which fetch
+		 * collections may not be streamed.
+		 *
+		 * @return the resulting rows as a {@link Multi}
+		 *
+		 * @see javax.persistence.Query#getResultStream()
+		 */
+		Multi<R> getResultStream();
+
 		/**
 		 * Asynchronously execute this delete, update, or insert query,
 		 * returning the updated row count.
@@ -1033,6 +1060,27 @@ <R> Query<R> createNativeQuery(String queryString, ResultSetMapping<R> resultSet
 		 */
 		Integer getBatchSize();
 
+		/**
+		 * Enable or disable coalescing of calls to {@link #fetch(Object)}.
+		 * When enabled, unfetched proxies and collections passed to
+		 * {@code fetch()} during the same task on the Vert.x event loop
+		 * are not fetched immediately, but are collected and then loaded
+		 * together, using one batched query per entity type or collection
+		 * role, once the task completes. This is useful when many sibling
+		 * associations are fetched at once, for example, by the field
+		 * resolvers of a GraphQL query.
+		 *
+		 * @param enabled {@code true} to coalesce calls to {@code fetch()}
+		 */
+		@Incubating
+		Session setFetchCoalescing(boolean enabled);
+		/**
+		 * Determine if calls to {@link #fetch(Object)} are coalesced.
+		 *
+		 * @see #setFetchCoalescing(boolean)
+		 */
+		boolean isFetchCoalescing();
+
 		/**
 		 * Enable the named filter for this session.
 		 *
@@ -1247,6 +1295,27 @@ interface StatelessSession extends AutoCloseable {
 		 */
 		<R> Query<R> createQuery(CriteriaDelete<R> criteriaDelete);
 
+		/**
+		 * Execute the given query, which must have been created by this
+		 * session, and pass its results to the given function in chunks
+		 * of the given size. The results are fetched from a database
+		 * cursor one chunk at a time, and the next chunk is not fetched
+		 * until the {@link Uni} returned by the function for the current chunk
+		 * has completed, so that the results of a query over a huge
+		 * table may be processed with a bounded amount of memory.
+		 * <p>
+		 * The entities in a chunk are detached, and no reference to them
+		 * is held by the session once the chunk has been passed to the
+		 * function. Queries which fetch collections may not be scrolled.
+		 *
+		 * @param query the query to execute
+		 * @param chunkSize the number of results in each chunk
+		 * @param chunkConsumer a function which processes a chunk of results
+		 *
+		 * @see Query#getResultStream()
+		 */
+		<R> Uni<Void> scroll(Query<R> query, int chunkSize, Function<List<R>, Uni<?>> chunkConsumer);
+
 		/**
 		 * Insert a row.
 		 *
@@ -1265,6 +1334,21 @@ interface StatelessSession extends AutoCloseable {
 		 */
 		Uni<Void> insertAll(Object... entities);
 
+		/**
+		 * Insert multiple rows, using the fastest mechanism available.
+		 * On PostgreSQL and CockroachDB, consecutive instances of the
+		 * same entity are written using multi-row inserts, which are
+		 * all sent to the database before any result is awaited. On
+		 * other databases, this is equivalent to {@link #insertAll(Object...)}.
+		 * <p>
+		 * Intended for loading very large numbers of rows.
+		 *
+		 * @param entities new transient instances
+		 *
+		 * @see org.hibernate.StatelessSession#insert(Object)
+		 */
+		Uni<Void> bulkInsert(Object... entities);
+
 		/**
 		 * Delete a row.
 		 *
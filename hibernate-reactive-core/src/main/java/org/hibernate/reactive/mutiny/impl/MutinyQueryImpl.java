@@ -5,6 +5,7 @@
  */
 package org.hibernate.reactive.mutiny.impl;
 
+import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 import org.hibernate.CacheMode;
 import org.hibernate.FlushMode;
@@ -16,6 +17,7 @@
 import javax.persistence.Parameter;
 import java.util.List;
 import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 /**
@@ -75,6 +77,12 @@ public Mutiny.Query<R> setFirstResult(int firstResult) {
 		return this;
 	}
 
+	@Override
+	public Mutiny.Query<R> setFetchSize(int fetchSize) {
+		delegate.setFetchSize( fetchSize );
+		return this;
+	}
+
 	@Override
 	public int getFirstResult() {
 		return delegate.getFirstResult();
@@ -191,4 +199,22 @@ public Uni<List<R>> getResultList() {
 		return uni( delegate::getReactiveResultList );
 	}
 
+	/**
+	 * @see Mutiny.StatelessSession#scroll(Mutiny.Query, int, Function)
+	 */
+	Uni<Void> scroll(int chunkSize, Function<List<R>, Uni<?>> chunkConsumer) {
+		return uni( () -> delegate.getReactiveResultScroll( chunkSize )
+				.thenCompose( scroll -> scroll.forEachChunk(
+						chunk -> chunkConsumer.apply( chunk ).subscribeAsCompletionStage()
+				) ) );
+	}
+
+	@Override
+	public Multi<R> getResultStream() {
+		final Integer fetchSize = delegate.getFetchSize();
+		return factory.multi( () -> delegate.getReactiveResultScroll(
+				fetchSize == null ? ReactiveQuery.DEFAULT_FETCH_SIZE : fetchSize
+		) );
+	}
+
 }
@@ -5,6 +5,7 @@
  */
 package org.hibernate.reactive.mutiny.impl;
 
+import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 
 import io.vertx.core.Context;
@@ -16,7 +17,9 @@
 import org.hibernate.reactive.mutiny.Mutiny;
 import org.hibernate.reactive.pool.ReactiveConnection;
 import org.hibernate.reactive.pool.ReactiveConnectionPool;
+import org.hibernate.reactive.session.ReactiveScroll;
 import org.hibernate.reactive.session.impl.ReactiveCriteriaBuilderImpl;
+import org.hibernate.reactive.session.impl.ReactiveScrollPublisher;
 import org.hibernate.reactive.session.impl.ReactiveSessionImpl;
 import org.hibernate.reactive.session.impl.ReactiveStatelessSessionImpl;
 import org.hibernate.reactive.vertx.VertxInstance;
@@ -62,6 +65,10 @@ <T> Uni<T> uni(Supplier<CompletionStage<T>> stageSupplier) {
 		return Uni.createFrom().completionStage(stageSupplier).runSubscriptionOn(vertxExecutor);
 	}
 
+	<T> Multi<T> multi(Supplier<CompletionStage<ReactiveScroll<T>>> scrollSupplier) {
+		return Multi.createFrom().publisher( new ReactiveScrollPublisher<>( scrollSupplier, vertxExecutor ) );
+	}
+
 	@Override
 	public Mutiny.Session openSession() {
 		SessionCreationOptions options = options();
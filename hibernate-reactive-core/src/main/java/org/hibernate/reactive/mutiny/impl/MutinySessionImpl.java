@@ -132,7 +132,7 @@ public Uni<Void> persist(Object entity) {
 
 	@Override
 	public Uni<Void> persistAll(Object... entity) {
-		return uni( () -> applyToAll( delegate::reactivePersist, entity ) );
+		return uni( () -> delegate.reactivePersistAll( entity ) );
 	}
 
 	@Override
@@ -343,6 +343,17 @@ public Integer getBatchSize() {
 		return delegate.getBatchSize();
 	}
 
+	@Override
+	public Mutiny.Session setFetchCoalescing(boolean enabled) {
+		delegate.setFetchCoalescing(enabled);
+		return this;
+	}
+
+	@Override
+	public boolean isFetchCoalescing() {
+		return delegate.isFetchCoalescing();
+	}
+
 	@Override
 	public Mutiny.Session detach(Object entity) {
 		delegate.detach(entity);
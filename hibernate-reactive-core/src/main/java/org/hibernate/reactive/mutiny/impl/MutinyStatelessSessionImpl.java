@@ -17,6 +17,7 @@
 import javax.persistence.criteria.CriteriaDelete;
 import javax.persistence.criteria.CriteriaQuery;
 import javax.persistence.criteria.CriteriaUpdate;
+import java.util.List;
 import java.util.concurrent.CompletionStage;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -61,6 +62,11 @@ public <R> Mutiny.Query<R> createQuery(String queryString) {
         return new MutinyQueryImpl<>( delegate.createReactiveQuery(queryString), factory );
     }
 
+    @Override
+    public <R> Uni<Void> scroll(Mutiny.Query<R> query, int chunkSize, Function<List<R>, Uni<?>> chunkConsumer) {
+        return ( (MutinyQueryImpl<R>) query ).scroll( chunkSize, chunkConsumer );
+    }
+
     @Override
     public <R> Mutiny.Query<R> createQuery(String queryString, Class<R> resultType) {
         return new MutinyQueryImpl<>( delegate.createReactiveQuery(queryString, resultType), factory );
@@ -110,6 +116,11 @@ public Uni<Void> insertAll(Object... entities) {
         return uni( () -> delegate.reactiveInsertAll(entities) );
     }
 
+    @Override
+    public Uni<Void> bulkInsert(Object... entities) {
+        return uni( () -> delegate.reactiveBulkInsert(entities) );
+    }
+
     @Override
     public Uni<Void> delete(Object entity) {
         return uni( () -> delegate.reactiveDelete(entity) );
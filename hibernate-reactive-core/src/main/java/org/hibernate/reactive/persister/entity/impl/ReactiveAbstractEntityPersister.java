@@ -9,8 +9,10 @@
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CompletionStage;
@@ -54,6 +56,7 @@
 import org.hibernate.reactive.loader.entity.impl.ReactiveDynamicBatchingEntityLoaderBuilder;
 import org.hibernate.reactive.loader.entity.impl.ReactiveEntityLoader;
 import org.hibernate.reactive.pool.ReactiveConnection;
+import org.hibernate.reactive.pool.impl.MultiRowInsertRewriter;
 import org.hibernate.reactive.pool.impl.Parameters;
 import org.hibernate.reactive.session.ReactiveConnectionSupplier;
 import org.hibernate.reactive.session.ReactiveSession;
@@ -387,6 +390,184 @@ default CompletionStage<Serializable> insertReactive(
 				} );
 	}
 
+	/**
+	 * The static SQL statements most frequently executed for this
+	 * entity: the select by id, and the insert, update, and delete
+	 * statements, when they are not generated dynamically.
+	 *
+	 * @see org.hibernate.reactive.pool.impl.DefaultSqlClientPool#warmUp(java.util.Collection)
+	 */
+	default List<String> getPreparableStatements() {
+		final AbstractEntityPersister delegate = delegate();
+		final Set<String> statements = new LinkedHashSet<>();
+		statements.add( delegate.getSQLSnapshotSelectString() );
+		final boolean insertByTable = !delegate.isIdentifierAssignedByInsert()
+				&& !delegate.getEntityMetamodel().isDynamicInsert();
+		final boolean updateByTable = !delegate.getEntityMetamodel().isDynamicUpdate();
+		final String[] insertStrings = delegate.getSQLInsertStrings();
+		final String[] updateStrings = getUpdateStrings( false, false );
+		final String[] deleteStrings = delegate.getSQLDeleteStrings();
+		for ( int j = 0; j < delegate.getTableSpan(); j++ ) {
+			if ( !delegate.isInverseTable( j ) ) {
+				if ( insertByTable ) {
+					statements.add( insertStrings[j] );
+				}
+				if ( updateByTable ) {
+					statements.add( updateStrings[j] );
+				}
+			}
+			statements.add( deleteStrings[j] );
+		}
+		statements.remove( null );
+		return new ArrayList<>( statements );
+	}
+
+	@Override
+	default boolean isIdentityInsertBatchable() {
+		Dialect dialect = getFactory().getJdbcServices().getDialect();
+		return ( dialect instanceof PostgreSQL81Dialect || dialect instanceof CockroachDB192Dialect )
+				&& delegate().isIdentifierAssignedByInsert()
+				&& delegate().getTableSpan() == 1
+				&& !delegate().getEntityMetamodel().isDynamicInsert()
+				&& MultiRowInsertRewriter.forSql( delegate().getSQLIdentityInsertString() ) != null;
+	}
+
+	/**
+	 * Perform a multi-row SQL INSERT ... RETURNING, and retrieve the
+	 * generated identifiers. We rely on the database returning the
+	 * generated values in the order the rows were listed in the
+	 * VALUES clause, which is the case for PostgreSQL and CockroachDB.
+	 * <p>
+	 * This form is used for PostInsertIdentifierGenerator-style ids.
+	 */
+	@Override
+	default CompletionStage<List<Serializable>> insertReactive(
+			List<Object[]> fields,
+			List<Object> objects,
+			SharedSessionContractImplementor session) {
+
+		List<Object[]> paramValues = new ArrayList<>( fields.size() );
+		for ( int i = 0; i < fields.size(); i++ ) {
+			final Object[] state = fields.get( i );
+			// apply any pre-insert in-memory value generation
+			preInsertInMemoryValueGeneration( state, objects.get( i ), session );
+			paramValues.add( PreparedStatementAdaptor.bind( insert -> {
+				boolean[][] insertable = delegate().getPropertyColumnInsertable();
+				delegate().dehydrate( null, state, delegate().getPropertyInsertability(), insertable, 0, insert, session, false );
+			} ) );
+		}
+
+		if ( log.isTraceEnabled() ) {
+			log.tracev( "Inserting {0} instances of entity: {1}", fields.size(), infoString( delegate() ) );
+		}
+
+		MultiRowInsertRewriter rewriter = MultiRowInsertRewriter.forSql( delegate().getSQLIdentityInsertString() );
+		ReactiveConnection connection = getReactiveConnection( session );
+		List<Serializable> generatedIds = new ArrayList<>( fields.size() );
+		return loop(
+				rewriter.split( paramValues ),
+				chunk -> connection.select( checkSql( chunk.getSql() ), chunk.getParameters() )
+						.thenAccept( result -> {
+							if ( result.size() != chunk.getRows() ) {
+								throw new HibernateException( "The database returned " + result.size()
+										+ " natively generated identity values for " + chunk.getRows() + " inserted rows" );
+							}
+							while ( result.hasNext() ) {
+								long generatedId = result.nextRow().getLong( 0 );
+								log.debugf( "Natively generated identity: %s", generatedId );
+								generatedIds.add( castToIdentifierType( generatedId, this ) );
+							}
+						} )
+		).thenApply( v -> generatedIds );
+	}
+
+	@Override
+	default boolean isBulkInsertSupported() {
+		Dialect dialect = getFactory().getJdbcServices().getDialect();
+		if ( !( dialect instanceof PostgreSQL81Dialect || dialect instanceof CockroachDB192Dialect )
+				|| delegate().getEntityMetamodel().isDynamicInsert() ) {
+			return false;
+		}
+		if ( delegate().isIdentifierAssignedByInsert() ) {
+			return isIdentityInsertBatchable();
+		}
+		for ( String sql : delegate().getSQLInsertStrings() ) {
+			if ( MultiRowInsertRewriter.forSql( sql ) == null ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	default CompletionStage<Void> bulkInsertReactive(
+			List<Serializable> ids,
+			List<Object[]> fields,
+			List<Object> objects,
+			SharedSessionContractImplementor session) {
+
+		for ( int i = 0; i < fields.size(); i++ ) {
+			// apply any pre-insert in-memory value generation
+			preInsertInMemoryValueGeneration( fields.get( i ), objects.get( i ), session );
+		}
+
+		if ( log.isTraceEnabled() ) {
+			log.tracev( "Bulk inserting {0} instances of entity: {1}", fields.size(), infoString( delegate() ) );
+		}
+
+		ReactiveConnection connection = getReactiveConnection( session );
+		return connection.executeBatch().thenCompose( v -> {
+			CompletionStage<Void> result = voidFuture();
+			for ( int table = 0; table < delegate().getTableSpan(); table++ ) {
+				final int j = table;
+				if ( delegate().isInverseTable( j ) ) {
+					continue;
+				}
+
+				List<Object[]> paramValues = new ArrayList<>( fields.size() );
+				for ( int i = 0; i < fields.size(); i++ ) {
+					final Object[] state = fields.get( i );
+					final Serializable id = ids.get( i );
+					if ( !delegate().isNullableTable( j ) || !delegate().isAllNull( state, j ) ) {
+						paramValues.add( PreparedStatementAdaptor.bind( insert -> {
+							boolean[][] insertable = delegate().getPropertyColumnInsertable();
+							int index = delegate().dehydrate( null, state, delegate().getPropertyInsertability(), insertable, j, insert, session, false );
+							delegate().getIdentifierType().nullSafeSet( insert, id, index, session );
+						} ) );
+					}
+				}
+				if ( paramValues.isEmpty() ) {
+					continue;
+				}
+
+				final String sql = delegate().getSQLInsertStrings()[j];
+				final ReactiveConnection.Expectation expectation = new InsertExpectation(
+						appropriateExpectation( delegate().getInsertResultCheckStyles()[j] ), this );
+				final List<MultiRowInsertRewriter.Chunk> chunks = MultiRowInsertRewriter.forSql( sql ).split( paramValues );
+				if ( connection.isTransactionInProgress() ) {
+					// send every statement right away, and verify
+					// the row counts in the order they were sent
+					for ( MultiRowInsertRewriter.Chunk chunk : chunks ) {
+						CompletionStage<Integer> rowCount = connection.update( chunk.getSql(), chunk.getParameters() );
+						result = result.thenCompose( vv -> rowCount.thenAccept(
+								count -> chunk.verifyOutcome( count, sql, expectation )
+						) );
+					}
+				}
+				else {
+					// each statement commits by itself, so send the
+					// next one only if the previous one succeeded
+					result = result.thenCompose( vv -> loop(
+							chunks,
+							chunk -> connection.update( chunk.getSql(), chunk.getParameters() )
+									.thenAccept( count -> chunk.verifyOutcome( count, sql, expectation ) )
+					) );
+				}
+			}
+			return result;
+		} );
+	}
+
 	/**
 	 * Queries used to insert a new element and retrieve the id in one go require
 	 * some changes
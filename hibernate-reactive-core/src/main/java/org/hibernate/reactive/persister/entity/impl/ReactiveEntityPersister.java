@@ -50,6 +50,45 @@ CompletionStage<Serializable> insertReactive(
 			Object object,
 			SharedSessionContractImplementor session);
 
+	/**
+	 * Insert the given instance states using a single multi-row insert,
+	 * without blocking, and retrieve the generated identifiers in the
+	 * same order as the given states.
+	 *
+	 * @see #isIdentityInsertBatchable()
+	 */
+	CompletionStage<List<Serializable>> insertReactive(
+			List<Object[]> fields,
+			List<Object> objects,
+			SharedSessionContractImplementor session);
+
+	/**
+	 * Can several instances with identifiers generated by an identity
+	 * column be inserted using a single multi-row insert?
+	 */
+	boolean isIdentityInsertBatchable();
+
+	/**
+	 * Insert the given instance states, with the given identifiers,
+	 * using multi-row inserts which are sent to the database without
+	 * waiting for the results of the previous ones.
+	 *
+	 * @see #isBulkInsertSupported()
+	 */
+	CompletionStage<Void> bulkInsertReactive(
+			List<Serializable> ids,
+			List<Object[]> fields,
+			List<Object> objects,
+			SharedSessionContractImplementor session);
+
+	/**
+	 * Can instances of this entity be inserted using
+	 * {@link #bulkInsertReactive(List, List, List, SharedSessionContractImplementor)}
+	 * or, if the identifier is generated by an identity column, using
+	 * {@link #insertReactive(List, List, SharedSessionContractImplementor)}?
+	 */
+	boolean isBulkInsertSupported();
+
 	/**
 	 * Delete the given instance without blocking.
 	 *
@@ -11,6 +11,10 @@
 import java.util.List;
 import java.util.concurrent.CompletionStage;
 
+import org.hibernate.reactive.pool.impl.MultiRowInsertRewriter;
+
+import static org.hibernate.reactive.util.impl.CompletionStages.failedFuture;
+import static org.hibernate.reactive.util.impl.CompletionStages.loop;
 import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
 
 /**
@@ -25,6 +29,27 @@
  * and the {@link org.hibernate.engine.jdbc.batch.spi.Batch} interface.
  * However, the model used there is not easily adaptable to the reactive
  * paradigm.
+ * <p>
+ * In pipelining mode, a batch is sent to the database as soon as it's
+ * complete, but its results are not awaited until {@link #executeBatch()}
+ * is called, or until a statement which is not batchable is executed.
+ * Thus, the batches of different SQL statements resulting from a flush
+ * are sent back-to-back, without waiting for a round trip between them.
+ * The {@link Expectation}s of the batches are still verified in the
+ * order in which the batches were sent.
+ * <p>
+ * Batches are only pipelined within a transaction, since the statements
+ * sent after a failed batch can't be recalled. Once a pipelined batch
+ * has failed, no further statement is sent, and the transaction can
+ * no longer be committed: {@link #commitTransaction()} rolls it back
+ * and reports the failure, so that the writes which were already sent
+ * after the failed batch are never committed.
+ * <p>
+ * If rewriting of inserts is enabled, a batch of executions of an
+ * {@code insert ... values (...)} statement is sent as a smaller number
+ * of multi-row inserts built by {@link MultiRowInsertRewriter}, and the
+ * row count of each multi-row insert is split between the rows of the
+ * batch before the {@link Expectation} is verified.
  *
  * @author Gavin King
  */
@@ -32,18 +57,72 @@ public class BatchingConnection implements ReactiveConnection {
 
     private final ReactiveConnection delegate;
     private final int batchSize;
+    private final boolean pipelining;
+    private final boolean rewriteInserts;
 
     private String batchedSql;
     private Expectation batchedExpectation;
     private List<Object[]> batchParamValues;
 
+    // batches which were already sent, but whose
+    // results have not yet been awaited
+    private CompletionStage<Void> pipeline;
+
+    private boolean inTransaction;
+    // the failure of a pipelined batch, after
+    // which no more statements are sent
+    private Throwable failure;
+
     public BatchingConnection(ReactiveConnection delegate, int batchSize) {
+        this( delegate, batchSize, false );
+    }
+
+    public BatchingConnection(ReactiveConnection delegate, int batchSize, boolean pipelining) {
+        this( delegate, batchSize, pipelining, false );
+    }
+
+    public BatchingConnection(ReactiveConnection delegate, int batchSize,
+                              boolean pipelining, boolean rewriteInserts) {
         this.delegate = delegate;
         this.batchSize = batchSize;
+        this.pipelining = pipelining;
+        this.rewriteInserts = rewriteInserts;
     }
 
     @Override
     public CompletionStage<Void> executeBatch() {
+        if ( isPipelining() ) {
+            if ( hasBatch() ) {
+                pipeline( sendBatch() );
+            }
+            return awaitPipeline();
+        }
+        else {
+            return sendBatch();
+        }
+    }
+
+    private boolean isPipelining() {
+        return pipelining && inTransaction;
+    }
+
+    private void pipeline(CompletionStage<Void> stage) {
+        stage.whenComplete( (v, e) -> {
+            if ( e != null && failure == null ) {
+                failure = e;
+            }
+        } );
+        // await the results in the order the statements were sent
+        pipeline = pipeline == null ? stage : pipeline.thenCompose( v -> stage );
+    }
+
+    private CompletionStage<Void> awaitPipeline() {
+        CompletionStage<Void> results = pipeline;
+        pipeline = null;
+        return results == null ? voidFuture() : results;
+    }
+
+    private CompletionStage<Void> sendBatch() {
         if ( !hasBatch() ) {
             return voidFuture();
         }
@@ -55,12 +134,21 @@ public CompletionStage<Void> executeBatch() {
             batchParamValues = null;
             batchedExpectation = null;
 
+            if ( failure != null ) {
+                // an earlier pipelined batch failed
+                return failedFuture( failure );
+            }
+
             if ( paramValues.size()==1 ) {
-                return update( sql, paramValues.get(0) )
+                return delegate.update( sql, paramValues.get(0) )
                         .thenAccept( rowCount -> expectation.verifyOutcome( rowCount, -1, sql ) );
             }
             else {
-                return update( sql, paramValues )
+                MultiRowInsertRewriter rewriter = rewriteInserts ? MultiRowInsertRewriter.forSql( sql ) : null;
+                if ( rewriter != null ) {
+                    return sendMultiRowInserts( rewriter, sql, paramValues, expectation );
+                }
+                return delegate.update( sql, paramValues )
                         .thenAccept( rowCounts -> {
                             for ( int i=0; i<rowCounts.length; i++ ) {
                                 expectation.verifyOutcome( rowCounts[i], i, sql );
@@ -70,6 +158,26 @@ public CompletionStage<Void> executeBatch() {
         }
     }
 
+    private CompletionStage<Void> sendMultiRowInserts(MultiRowInsertRewriter rewriter, String sql,
+                                                      List<Object[]> paramValues, Expectation expectation) {
+        List<MultiRowInsertRewriter.Chunk> chunks = rewriter.split( paramValues );
+        if ( !inTransaction ) {
+            // each statement commits by itself, so send the next
+            // one only if the previous one succeeded
+            return loop( chunks, chunk -> delegate.update( chunk.getSql(), chunk.getParameters() )
+                    .thenAccept( count -> chunk.verifyOutcome( count, sql, expectation ) ) );
+        }
+        // the statements are all sent right away, since the
+        // delegate connection queues them in order, and the
+        // transaction is rolled back if one of them fails
+        CompletionStage<Void> result = voidFuture();
+        for ( MultiRowInsertRewriter.Chunk chunk : chunks ) {
+            CompletionStage<Integer> rowCount = delegate.update( chunk.getSql(), chunk.getParameters() );
+            result = result.thenCompose( v -> rowCount.thenAccept( count -> chunk.verifyOutcome( count, sql, expectation ) ) );
+        }
+        return result;
+    }
+
     public CompletionStage<Void> update(String sql, Object[] paramValues,
                                         boolean allowBatching, Expectation expectation) {
         if ( allowBatching && batchSize>0 ) {
@@ -82,6 +190,12 @@ public CompletionStage<Void> update(String sql, Object[] paramValues,
                     batchParamValues.add(paramValues);
                     return voidFuture();
                 }
+                else if ( isPipelining() ) {
+                    // send the last batch, but don't wait for it
+                    pipeline( sendBatch() );
+                    newBatch( sql, paramValues, expectation );
+                    return voidFuture();
+                }
                 else {
                     CompletionStage<Void> lastBatch = executeBatch();
                     newBatch( sql, paramValues, expectation );
@@ -89,6 +203,12 @@ public CompletionStage<Void> update(String sql, Object[] paramValues,
                 }
             }
         }
+        else if ( isPipelining() && hasPendingStatements() ) {
+            // wait for the results of the pending batches
+            // before sending the statement
+            return executeBatch()
+                    .thenCompose( v -> delegate.update( sql, paramValues, false, expectation ) );
+        }
         else {
             return delegate.update( sql, paramValues, false, expectation );
         }
@@ -105,6 +225,10 @@ private boolean hasBatch() {
         return batchedSql != null;
     }
 
+    private boolean hasPendingStatements() {
+        return hasBatch() || pipeline != null;
+    }
+
     public CompletionStage<Void> execute(String sql) {
         return delegate.execute(sql);
     }
@@ -114,48 +238,60 @@ public CompletionStage<Void> executeOutsideTransaction(String sql) {
     }
 
     public CompletionStage<Integer> update(String sql) {
-         return hasBatch() ?
+         return hasPendingStatements() ?
                  executeBatch().thenCompose( v -> delegate.update(sql) ) :
                  delegate.update(sql);
     }
 
     @Override
     public CompletionStage<Integer> update(String sql, Object[] paramValues) {
-        return hasBatch() ?
+        return hasPendingStatements() ?
                 executeBatch().thenCompose( v -> delegate.update(sql, paramValues) ) :
                 delegate.update(sql, paramValues);
     }
 
     public CompletionStage<int[]> update(String sql, List<Object[]> paramValues) {
-        return hasBatch() ?
+        return hasPendingStatements() ?
                 executeBatch().thenCompose( v -> delegate.update(sql, paramValues) ) :
                 delegate.update(sql, paramValues);
     }
 
     public CompletionStage<Long> insertAndSelectIdentifier(String sql, Object[] paramValues) {
-        return hasBatch() ?
+        return hasPendingStatements() ?
                 executeBatch().thenCompose( v -> delegate.insertAndSelectIdentifier(sql, paramValues) ) :
                 delegate.insertAndSelectIdentifier(sql, paramValues);
     }
 
     public CompletionStage<ReactiveConnection.Result> select(String sql) {
-        return hasBatch() ?
+        return hasPendingStatements() ?
                 executeBatch().thenCompose( v -> delegate.select(sql) ) :
                 delegate.select(sql);
     }
 
     public CompletionStage<ReactiveConnection.Result> select(String sql, Object[] paramValues) {
-        return hasBatch() ?
+        return hasPendingStatements() ?
                 executeBatch().thenCompose( v -> delegate.select(sql, paramValues) ) :
                 delegate.select(sql, paramValues);
     }
 
     public CompletionStage<ResultSet> selectJdbc(String sql, Object[] paramValues) {
-        return hasBatch() ?
+        return hasPendingStatements() ?
                 executeBatch().thenCompose( v -> delegate.selectJdbc(sql, paramValues) ) :
                 delegate.selectJdbc(sql, paramValues);
     }
 
+    public CompletionStage<ResultSet> selectJdbcReadOnly(String sql, Object[] paramValues) {
+        return hasPendingStatements() ?
+                executeBatch().thenCompose( v -> delegate.selectJdbcReadOnly(sql, paramValues) ) :
+                delegate.selectJdbcReadOnly(sql, paramValues);
+    }
+
+    public CompletionStage<Cursor> selectJdbcCursor(String sql, Object[] paramValues) {
+        return hasPendingStatements() ?
+                executeBatch().thenCompose( v -> delegate.selectJdbcCursor(sql, paramValues) ) :
+                delegate.selectJdbcCursor(sql, paramValues);
+    }
+
     public CompletionStage<Long> selectIdentifier(String sql, Object[] paramValues) {
         // Do not want to execute the batch here
         // because we want to be able to select
@@ -164,16 +300,38 @@ public CompletionStage<Long> selectIdentifier(String sql, Object[] paramValues)
         return delegate.selectIdentifier(sql, paramValues);
     }
 
+    public boolean isTransactionInProgress() {
+        return inTransaction;
+    }
+
     public CompletionStage<Void> beginTransaction() {
-        return delegate.beginTransaction();
+        return delegate.beginTransaction()
+                .thenAccept( v -> {
+                    inTransaction = true;
+                    failure = null;
+                } );
     }
 
     public CompletionStage<Void> commitTransaction() {
-        return delegate.commitTransaction();
+        if ( failure != null ) {
+            // some statements may have been sent after
+            // the failed batch, so never commit them
+            Throwable cause = failure;
+            return rollbackTransaction()
+                    .thenCompose( v -> failedFuture( cause ) );
+        }
+        return delegate.commitTransaction()
+                .whenComplete( (v, e) -> inTransaction = false );
     }
 
     public CompletionStage<Void> rollbackTransaction() {
-        return delegate.rollbackTransaction();
+        batchedSql = null;
+        batchParamValues = null;
+        batchedExpectation = null;
+        pipeline = null;
+        failure = null;
+        return delegate.rollbackTransaction()
+                .whenComplete( (v, e) -> inTransaction = false );
     }
 
     public void close() {
@@ -12,6 +12,8 @@
 import java.util.List;
 import java.util.concurrent.CompletionStage;
 
+import static java.util.concurrent.CompletableFuture.completedFuture;
+
 /**
  * Abstracts over reactive database connections, defining
  * operations that allow queries to be executed asynchronously
@@ -23,6 +25,9 @@
  * This restriction might be relaxed in future, and is due to the
  * implementation of the {@code ProxyConnection} returned by
  * {@link org.hibernate.reactive.pool.impl.DefaultSqlClientPool#getProxyConnection()}.
+ * The exception is a {@link BatchingConnection} in pipelining mode,
+ * which sends batches of statements without waiting for the results
+ * of the previous batches.
  *
  * @see ReactiveConnectionPool
  */
@@ -48,13 +53,111 @@ CompletionStage<Void> update(String sql, Object[] paramValues,
 	CompletionStage<Result> select(String sql, Object[] paramValues);
 	CompletionStage<ResultSet> selectJdbc(String sql, Object[] paramValues);
 
+	/**
+	 * Execute a query whose results will only be read, and which may
+	 * therefore be sent to a read replica when there is no transaction
+	 * in progress. By default, this is the same as
+	 * {@link #selectJdbc(String, Object[])}.
+	 *
+	 * @see org.hibernate.reactive.pool.impl.ReplicaRoutingSqlClientPool
+	 */
+	default CompletionStage<ResultSet> selectJdbcReadOnly(String sql, Object[] paramValues) {
+		return selectJdbc( sql, paramValues );
+	}
+
+	/**
+	 * Execute a query, returning a {@link Cursor} from which the
+	 * results may be fetched incrementally. By default, the whole
+	 * result of the query is fetched by the first call to
+	 * {@link Cursor#fetch(int)}.
+	 */
+	default CompletionStage<Cursor> selectJdbcCursor(String sql, Object[] paramValues) {
+		return completedFuture( new Cursor() {
+			private boolean fetched;
+
+			@Override
+			public CompletionStage<ResultSet> fetch(int count) {
+				fetched = true;
+				return selectJdbc( sql, paramValues );
+			}
+
+			@Override
+			public boolean hasMore() {
+				return !fetched;
+			}
+
+			@Override
+			public CompletionStage<Void> close() {
+				return completedFuture( null );
+			}
+		} );
+	}
+
 	CompletionStage<Long> insertAndSelectIdentifier(String sql, Object[] paramValues);
 	CompletionStage<Long> selectIdentifier(String sql, Object[] paramValues);
 
 	interface Result extends Iterator<Object[]> {
 		int size();
+
+		/**
+		 * Advance to the next row, returning a view of the row which
+		 * reads column values directly from the underlying result,
+		 * instead of copying them to a new array like {@link #next()}.
+		 * The returned view is only valid until the next call to
+		 * {@code nextRow()} or {@code next()}.
+		 */
+		RowView nextRow();
 	}
 
+	/**
+	 * A view of the current row of a {@link Result}, with typed
+	 * accessors which read the column values in place.
+	 */
+	interface RowView {
+		int size();
+		boolean isNull(int column);
+		Object getValue(int column);
+		/**
+		 * @return the numeric value of the column, or 0 if it is null
+		 */
+		long getLong(int column);
+		/**
+		 * @return the numeric value of the column, or 0 if it is null
+		 */
+		int getInt(int column);
+		String getString(int column);
+	}
+
+	/**
+	 * A cursor over the results of a query, which fetches the rows
+	 * from the database in chunks. Only one cursor, and no other
+	 * operation, may be in progress on a connection at a time.
+	 */
+	interface Cursor {
+		/**
+		 * Fetch the next chunk of rows.
+		 *
+		 * @param count the maximum number of rows to fetch
+		 */
+		CompletionStage<ResultSet> fetch(int count);
+
+		/**
+		 * @return {@code true} if there might be more rows to fetch
+		 */
+		boolean hasMore();
+
+		/**
+		 * Release the cursor and any resources it holds.
+		 */
+		CompletionStage<Void> close();
+	}
+
+	/**
+	 * @return {@code true} if a transaction was begun, and was not
+	 *         yet committed or rolled back
+	 */
+	boolean isTransactionInProgress();
+
 	CompletionStage<Void> beginTransaction();
 	CompletionStage<Void> commitTransaction();
 	CompletionStage<Void> rollbackTransaction();
@@ -0,0 +1,72 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.pool.impl;
+
+import org.hibernate.dialect.CockroachDB192Dialect;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.PostgreSQL9Dialect;
+import org.hibernate.internal.util.StringHelper;
+import org.hibernate.type.Type;
+
+import java.lang.reflect.Array;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * On PostgreSQL and CockroachDB, a batch of ids for a single-column key
+ * may be bound to a single array parameter, using {@code = any ($1)},
+ * instead of being expanded into an {@code in} list with one parameter
+ * per id. The SQL is then the same whatever the size of the batch, and
+ * so it's processed once, and occupies just one slot in the prepared
+ * statement cache.
+ */
+public final class ArrayParameters {
+
+	private static final String IN_LIST = " in (" + StringHelper.BATCH_ID_PLACEHOLDER + ")";
+	private static final String ANY_ARRAY = " = any (?)";
+
+	/**
+	 * Java types which the Vert.x PostgreSQL client accepts as elements of
+	 * an array parameter, and which Hibernate binds as the same type
+	 */
+	private static final Set<Class<?>> ELEMENT_TYPES = new HashSet<>( Arrays.asList(
+			Short.class, Integer.class, Long.class, String.class
+	) );
+
+	private ArrayParameters() {
+	}
+
+	/**
+	 * Determine if a batch of keys of the given type may be bound as an
+	 * array, given the SQL template containing the batch id placeholder.
+	 */
+	public static boolean isSupported(String sqlTemplate, Type keyType, String[] keyColumnNames, Dialect dialect) {
+		return keyColumnNames.length == 1
+				&& ( dialect instanceof PostgreSQL9Dialect || dialect instanceof CockroachDB192Dialect )
+				&& ELEMENT_TYPES.contains( keyType.getReturnedClass() )
+				&& sqlTemplate.contains( IN_LIST );
+	}
+
+	/**
+	 * Replace the {@code in} list placeholder with a comparison with a
+	 * single array parameter.
+	 */
+	public static String expandBatchIdPlaceholder(String sqlTemplate) {
+		return StringHelper.replace( sqlTemplate, IN_LIST, ANY_ARRAY );
+	}
+
+	/**
+	 * Collapse the bound values of a batch of ids into one array argument.
+	 */
+	public static Object[] toArrayArgument(Object[] arguments, Type keyType) {
+		Object array = Array.newInstance( keyType.getReturnedClass(), arguments.length );
+		for ( int i = 0; i < arguments.length; i++ ) {
+			Array.set( array, i, arguments[i] );
+		}
+		return new Object[] { array };
+	}
+}
@@ -0,0 +1,84 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.pool.impl;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Statistics about the Vert.x {@link io.vertx.sqlclient.Pool} belonging
+ * to a single Vert.x context, as managed by {@link ThreadLocalPoolManager}.
+ * The statistics are only maintained when a {@link SqlClientPoolMetrics}
+ * is enabled.
+ * <p>
+ * The Vert.x pool does not expose the number of idle connections it
+ * holds, so only connections handed out by Hibernate are counted.
+ */
+public final class ContextPoolStatistics {
+
+	private final String contextName;
+
+	private final AtomicInteger inUse = new AtomicInteger();
+	private final AtomicInteger waiting = new AtomicInteger();
+	private final AtomicLong acquisitions = new AtomicLong();
+
+	ContextPoolStatistics(String contextName) {
+		this.contextName = contextName;
+	}
+
+	void acquiring() {
+		waiting.incrementAndGet();
+	}
+
+	void acquired(boolean success) {
+		waiting.decrementAndGet();
+		if ( success ) {
+			inUse.incrementAndGet();
+			acquisitions.incrementAndGet();
+		}
+	}
+
+	void released() {
+		inUse.decrementAndGet();
+	}
+
+	/**
+	 * The name of the thread of the Vert.x context the pool belongs to.
+	 */
+	public String getContextName() {
+		return contextName;
+	}
+
+	/**
+	 * The number of connections currently in use.
+	 */
+	public int getInUseCount() {
+		return inUse.get();
+	}
+
+	/**
+	 * The number of requests currently waiting for a connection.
+	 */
+	public int getWaitingCount() {
+		return waiting.get();
+	}
+
+	/**
+	 * The total number of connections obtained from the pool.
+	 */
+	public long getAcquisitionCount() {
+		return acquisitions.get();
+	}
+
+	@Override
+	public String toString() {
+		return "ContextPoolStatistics{context=" + contextName
+				+ ", inUse=" + getInUseCount()
+				+ ", waiting=" + getWaitingCount()
+				+ ", acquisitions=" + getAcquisitionCount()
+				+ "}";
+	}
+}
@@ -6,15 +6,23 @@
 package org.hibernate.reactive.pool.impl;
 
 import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.ServiceConfigurationError;
 import java.util.ServiceLoader;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
 
 import org.hibernate.HibernateError;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
 import org.hibernate.internal.util.config.ConfigurationException;
 import org.hibernate.internal.util.config.ConfigurationHelper;
+import org.hibernate.reactive.pool.ReactiveConnection;
 import org.hibernate.reactive.provider.Settings;
 import org.hibernate.reactive.vertx.VertxInstance;
 import org.hibernate.service.spi.Configurable;
@@ -23,13 +31,20 @@
 import org.hibernate.service.spi.Startable;
 import org.hibernate.service.spi.Stoppable;
 
+import io.netty.channel.EventLoop;
+import io.netty.util.concurrent.EventExecutor;
+import io.vertx.core.Context;
 import io.vertx.core.Vertx;
+import io.vertx.core.impl.VertxInternal;
 import io.vertx.sqlclient.Pool;
 import io.vertx.sqlclient.PoolOptions;
 import io.vertx.sqlclient.SqlConnectOptions;
+import io.vertx.sqlclient.SqlConnection;
 import io.vertx.sqlclient.spi.Driver;
 
 import static org.hibernate.internal.CoreLogging.messageLogger;
+import static org.hibernate.reactive.util.impl.CompletionStages.loop;
+import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
 
 /**
  * A pool of reactive connections backed by a Vert.x {@link Pool}.
@@ -47,15 +62,42 @@
  * destroyed. For cases where the underlying {@code Pool} lifecycle
  * is managed externally to Hibernate, use
  * {@link org.hibernate.reactive.pool.impl.ExternalSqlClientPool}.
+ * <p>
+ * By default, each Vert.x event loop has its own {@code Pool}, of the
+ * size specified by the {@link SqlClientPoolConfiguration}. If
+ * {@link Settings#POOL_SHARED_BUDGET} is enabled, the configured size
+ * is instead a {@link SharedConnectionBudget} shared by all the
+ * event loops.
+ * <p>
+ * Connection acquisition and statement execution are reported to the
+ * {@link SqlClientPoolMetrics} service, if one is enabled.
  *
  * @see SqlClientPoolConfiguration
  */
 public class DefaultSqlClientPool extends SqlClientPool
 		implements ServiceRegistryAwareService, Configurable, Stoppable, Startable {
 
+	/**
+	 * The idle timeout, in seconds, of the thread-local pools when they
+	 * share a {@link SharedConnectionBudget}, and no idle timeout was
+	 * specified.
+	 */
+	public static final int DEFAULT_BUDGET_IDLE_TIMEOUT = 30;
+
+	/**
+	 * The time, in milliseconds, to wait for the warm-up of the pools
+	 * when {@link Settings#POOL_WARMUP_TIMEOUT} is not specified.
+	 */
+	public static final int DEFAULT_WARMUP_TIMEOUT = 30_000;
+
 	private ThreadLocalPoolManager pools;
 	private SqlStatementLogger sqlStatementLogger;
 	private URI uri;
+	private boolean sharedBudget;
+	private int warmUpSize;
+	private int warmUpTimeout;
+	private int maxPoolSize;
+	private SqlClientPoolMetrics metrics;
 	private ServiceRegistryImplementor serviceRegistry;
 
 	public DefaultSqlClientPool() {}
@@ -64,11 +106,17 @@ public DefaultSqlClientPool() {}
 	public void injectServices(ServiceRegistryImplementor serviceRegistry) {
 		this.serviceRegistry = serviceRegistry;
 		sqlStatementLogger = serviceRegistry.getService(JdbcServices.class).getSqlStatementLogger();
+		SqlClientPoolMetrics metrics = serviceRegistry.getService(SqlClientPoolMetrics.class);
+		// keep null when disabled, so that there's no overhead
+		this.metrics = metrics != null && metrics.isEnabled() ? metrics : null;
 	}
 
 	@Override
 	public void configure(Map configuration) {
 		uri = jdbcUrl( configuration );
+		sharedBudget = ConfigurationHelper.getBoolean( Settings.POOL_SHARED_BUDGET, configuration, false );
+		warmUpSize = ConfigurationHelper.getInt( Settings.POOL_WARMUP_SIZE, configuration, 0 );
+		warmUpTimeout = ConfigurationHelper.getInt( Settings.POOL_WARMUP_TIMEOUT, configuration, DEFAULT_WARMUP_TIMEOUT );
 	}
 
 	@Override
@@ -88,6 +136,251 @@ protected SqlStatementLogger getSqlStatementLogger() {
 		return sqlStatementLogger;
 	}
 
+	@Override
+	protected SqlClientPoolMetrics getMetrics() {
+		return metrics;
+	}
+
+	@Override
+	public CompletionStage<ReactiveConnection> getConnection() {
+		return getPrimaryConnection();
+	}
+
+	/**
+	 * Obtain a connection to the database specified by {@link Settings#URL}.
+	 */
+	protected CompletionStage<ReactiveConnection> getPrimaryConnection() {
+		return observe( () -> withBudget( super::getConnection ) );
+	}
+
+	@Override
+	public CompletionStage<ReactiveConnection> getConnection(String tenantId) {
+		return observe( () -> withBudget( () -> super.getConnection( tenantId ) ) );
+	}
+
+	/**
+	 * @return the {@link ContextPoolStatistics} of the pool belonging to
+	 *         each Vert.x context, which are only maintained when a
+	 *         {@link SqlClientPoolMetrics} is enabled
+	 */
+	public List<ContextPoolStatistics> getContextPoolStatistics() {
+		return pools == null ? Collections.emptyList() : pools.getAllStatistics();
+	}
+
+	private CompletionStage<ReactiveConnection> observe(Supplier<CompletionStage<ReactiveConnection>> connection) {
+		if ( metrics == null ) {
+			return connection.get();
+		}
+		final ContextPoolStatistics statistics = pools.getStatistics();
+		final long start = System.nanoTime();
+		statistics.acquiring();
+		return connection.get().whenComplete( (c, e) -> {
+			final long waitNanos = System.nanoTime() - start;
+			statistics.acquired( e == null );
+			if ( e == null ) {
+				metrics.connectionAcquired( statistics, waitNanos );
+			}
+			else {
+				metrics.connectionAcquisitionFailed( statistics, waitNanos, e );
+			}
+		} );
+	}
+
+	/**
+	 * @return the number of connections to open in advance in each
+	 *         event loop, as specified by {@link Settings#POOL_WARMUP_SIZE}
+	 */
+	public int getWarmUpSize() {
+		return warmUpSize;
+	}
+
+	/**
+	 * @return the time, in milliseconds, to wait for the warm-up to
+	 *         complete, as specified by {@link Settings#POOL_WARMUP_TIMEOUT}
+	 */
+	public int getWarmUpTimeout() {
+		return warmUpTimeout;
+	}
+
+	/**
+	 * Open {@link #getWarmUpSize()} connections in the pool belonging to
+	 * each Vert.x event loop, and prepare the given SQL statements on
+	 * each of them, so that the first requests handled by each event loop
+	 * neither wait for new connections, nor for statements to be prepared.
+	 * <p>
+	 * The number of connections opened in each event loop is limited
+	 * by the size of the pool, and, if the pools share a
+	 * {@link SharedConnectionBudget}, by the share of the budget of
+	 * each event loop, so that the warm-up never waits for a connection.
+	 * <p>
+	 * The statements are only prepared if the Vert.x prepared statement
+	 * cache is enabled, since they're retained by the cache. Statements
+	 * which fail to prepare are logged and skipped.
+	 *
+	 * @param statements the SQL statements, with parameters already
+	 *                   in the syntax expected by the database
+	 *
+	 * @return a {@link CompletionStage} which completes when the
+	 *         connections are all open and returned to their pools
+	 */
+	public CompletionStage<Void> warmUp(Collection<String> statements) {
+		if ( warmUpSize <= 0 ) {
+			return voidFuture();
+		}
+		final Vertx vertx = serviceRegistry.getService( VertxInstance.class ).getVertx();
+		final Collection<String> toPrepare = preparableStatements( statements );
+		final int connections = connectionsPerEventLoop( vertx );
+		messageLogger( DefaultSqlClientPool.class )
+				.infof( "HRX000023: Warming up connection pools: %d connections per event loop, %d prepared statements", connections, toPrepare.size() );
+
+		final List<CompletableFuture<Void>> eventLoops = new ArrayList<>();
+		final ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+		for ( EventExecutor eventLoop : vertx.nettyEventLoopGroup() ) {
+			// a context bound to this event loop, so that the connections
+			// are opened in the thread-local pool of the event loop
+			final Context context = ( (VertxInternal) vertx )
+					.createEventLoopContext( (EventLoop) eventLoop, null, classLoader );
+			final CompletableFuture<Void> warmedUp = new CompletableFuture<>();
+			context.runOnContext( v -> warmUpEventLoop( connections, toPrepare ).whenComplete( (r, e) -> {
+				if ( e == null ) {
+					warmedUp.complete( null );
+				}
+				else {
+					warmedUp.completeExceptionally( e );
+				}
+			} ) );
+			eventLoops.add( warmedUp );
+		}
+		return CompletableFuture.allOf( eventLoops.toArray( new CompletableFuture[0] ) );
+	}
+
+	private Collection<String> preparableStatements(Collection<String> statements) {
+		final SqlConnectOptions connectOptions =
+				serviceRegistry.getService( SqlClientPoolConfiguration.class ).connectOptions( uri );
+		if ( !connectOptions.getCachePreparedStatements() ) {
+			return Collections.emptyList();
+		}
+		final List<String> cacheable = new ArrayList<>();
+		for ( String sql : statements ) {
+			// longer statements would not be retained by the cache
+			if ( sql.length() <= connectOptions.getPreparedStatementCacheSqlLimit() ) {
+				cacheable.add( sql );
+			}
+		}
+		return cacheable;
+	}
+
+	/**
+	 * The number of connections to open in the pool of each event loop,
+	 * which can't exceed the size of the pool, nor the share of the
+	 * {@link SharedConnectionBudget} belonging to each event loop.
+	 */
+	private int connectionsPerEventLoop(Vertx vertx) {
+		int connections = warmUpSize;
+		if ( maxPoolSize > 0 ) {
+			connections = Math.min( connections, maxPoolSize );
+		}
+		final SharedConnectionBudget budget = getConnectionBudget();
+		if ( budget != null ) {
+			int eventLoops = 0;
+			for ( EventExecutor ignored : vertx.nettyEventLoopGroup() ) {
+				eventLoops++;
+			}
+			connections = Math.min( connections, Math.max( 1, budget.getBudget() / eventLoops ) );
+		}
+		return connections;
+	}
+
+	private CompletionStage<Void> warmUpEventLoop(int size, Collection<String> statements) {
+		final List<SqlClientConnection> connections = new ArrayList<>( size );
+		// obtain all the connections before returning any, to force the pool
+		// to open them, and then return each one as soon as it's ready
+		return loop( 0, size, i -> getPrimaryConnection()
+						.thenAccept( connection -> connections.add( (SqlClientConnection) connection ) ) )
+				.whenComplete( (v, e) -> {
+					if ( e != null ) {
+						connections.forEach( SqlClientConnection::close );
+					}
+				} )
+				.thenCompose( v -> {
+					final CompletableFuture<?>[] prepared = new CompletableFuture<?>[connections.size()];
+					for ( int i = 0; i < prepared.length; i++ ) {
+						final SqlClientConnection connection = connections.get( i );
+						prepared[i] = loop( statements, sql -> prepare( connection, sql ) )
+								.whenComplete( (r, e) -> connection.close() )
+								.toCompletableFuture();
+					}
+					return CompletableFuture.allOf( prepared );
+				} );
+	}
+
+	private static CompletionStage<Void> prepare(SqlClientConnection connection, String sql) {
+		return connection.prepare( sql )
+				.handle( (v, e) -> {
+					if ( e != null ) {
+						messageLogger( DefaultSqlClientPool.class )
+								.warnf( "HRX000027: Failed to prepare statement [%s]: %s", sql, e.getMessage() );
+					}
+					return null;
+				} );
+	}
+
+	/**
+	 * @return the {@link SharedConnectionBudget}, or {@code null} if
+	 *         {@link Settings#POOL_SHARED_BUDGET} is not enabled
+	 */
+	public SharedConnectionBudget getConnectionBudget() {
+		return pools == null ? null : pools.getConnectionBudget();
+	}
+
+	private CompletionStage<ReactiveConnection> withBudget(Supplier<CompletionStage<ReactiveConnection>> connection) {
+		final SharedConnectionBudget budget = getConnectionBudget();
+		if ( budget == null ) {
+			return connection.get();
+		}
+		final SharedConnectionBudget.Share share = pools.getShare();
+		return share.acquire()
+				.thenCompose( v -> connection.get() )
+				.whenComplete( (c, e) -> {
+					if ( e != null ) {
+						// we did not get a connection, so give back the permit
+						share.release();
+					}
+				} );
+	}
+
+	@Override
+	protected SqlClientConnection newConnection(SqlConnection connection) {
+		final SharedConnectionBudget budget = getConnectionBudget();
+		if ( budget == null && metrics == null ) {
+			return super.newConnection( connection );
+		}
+		final SharedConnectionBudget.Share share = budget == null ? null : pools.getShare();
+		final ContextPoolStatistics statistics = metrics == null ? null : pools.getStatistics();
+		return new SqlClientConnection( connection, getPool(), getSqlStatementLogger(), metrics ) {
+			private boolean released;
+
+			@Override
+			public void close() {
+				try {
+					super.close();
+				}
+				finally {
+					if ( !released ) {
+						released = true;
+						if ( share != null ) {
+							share.release();
+						}
+						if ( statistics != null ) {
+							statistics.released();
+							metrics.connectionReleased( statistics );
+						}
+					}
+				}
+			}
+		};
+	}
+
 	/**
 	 * Create a new {@link ThreadLocalPoolManager} for the given JDBC URL or database URI,
 	 * using the {@link VertxInstance} service to obtain an instance of
@@ -104,6 +397,51 @@ protected ThreadLocalPoolManager createPools(URI uri) {
 		return createPools( uri, configuration.connectOptions( uri ), configuration.poolOptions(), vertx.getVertx() );
 	}
 
+	/**
+	 * Create a new {@link ThreadLocalPoolManager} for the given JDBC URL or
+	 * database URI, connection pool options, and the given instance of
+	 * {@link Vertx}.
+	 *
+	 * @param uri JDBC URL or database URI
+	 * @param connectOptions the connection options
+	 * @param poolOptions the connection pooling options
+	 * @param vertx the instance of {@link Vertx} to be used by the pools
+	 *
+	 * @return the new {@link ThreadLocalPoolManager}
+	 */
+	protected ThreadLocalPoolManager createPools(URI uri, SqlConnectOptions connectOptions, PoolOptions poolOptions, Vertx vertx) {
+		maxPoolSize = poolOptions.getMaxSize();
+		final SharedConnectionBudget budget = createBudget( poolOptions );
+		final PoolOptions options = budget == null ? poolOptions : budgetPoolOptions( poolOptions );
+		return new ThreadLocalPoolManager(
+				() -> createPool( uri, connectOptions, options, vertx ),
+				budget
+		);
+	}
+
+	/**
+	 * When the pools share a {@link SharedConnectionBudget}, a pool
+	 * may only open a new connection after acquiring a permit from the
+	 * budget, and it keeps the permit until it's retired, so each pool
+	 * is as large as the whole budget. A connection which is no
+	 * longer in use stays open in the pool of the event loop which
+	 * borrowed it, so, unless an idle timeout was specified explicitly
+	 * via {@link Settings#POOL_IDLE_TIMEOUT}, set one, so that the
+	 * idle connections are closed.
+	 *
+	 * @param poolOptions the configured connection pooling options
+	 *
+	 * @return the options of each of the thread-local pools
+	 */
+	protected PoolOptions budgetPoolOptions(PoolOptions poolOptions) {
+		if ( poolOptions.getIdleTimeout() > 0 ) {
+			return poolOptions;
+		}
+		messageLogger( DefaultSqlClientPool.class )
+				.infof( "HRX000026: Connection pool idle timeout for the shared budget: %d", DEFAULT_BUDGET_IDLE_TIMEOUT );
+		return new PoolOptions( poolOptions ).setIdleTimeout( DEFAULT_BUDGET_IDLE_TIMEOUT );
+	}
+
 	/**
 	 * Create a new {@link Pool} for the given JDBC URL or database URI,
 	 * connection pool options, and the given instance of {@link Vertx}.
@@ -115,20 +453,38 @@ protected ThreadLocalPoolManager createPools(URI uri) {
 	 *
 	 * @return the new {@link Pool}
 	 */
-	protected ThreadLocalPoolManager createPools(URI uri, SqlConnectOptions connectOptions, PoolOptions poolOptions, Vertx vertx) {
-		return new ThreadLocalPoolManager( () -> {
-			try {
-				// First try to load the Pool using the standard ServiceLoader pattern
-				// This only works if exactly 1 Driver is on the classpath.
-				return Pool.pool( vertx, connectOptions, poolOptions );
-			}
-			catch (ServiceConfigurationError e) {
-				// Backup option if multiple drivers are on the classpath.
-				// We will be able to remove this once Vertx 3.9.2 is available
-				final Driver driver = findDriver( uri, e );
-				return driver.createPool( vertx, connectOptions, poolOptions );
-			}
-		});
+	protected Pool createPool(URI uri, SqlConnectOptions connectOptions, PoolOptions poolOptions, Vertx vertx) {
+		try {
+			// First try to load the Pool using the standard ServiceLoader pattern
+			// This only works if exactly 1 Driver is on the classpath.
+			return Pool.pool( vertx, connectOptions, poolOptions );
+		}
+		catch (ServiceConfigurationError e) {
+			// Backup option if multiple drivers are on the classpath.
+			// We will be able to remove this once Vertx 3.9.2 is available
+			final Driver driver = findDriver( uri, e );
+			return driver.createPool( vertx, connectOptions, poolOptions );
+		}
+	}
+
+	/**
+	 * Create the {@link SharedConnectionBudget} if
+	 * {@link Settings#POOL_SHARED_BUDGET} is enabled. Every pool may
+	 * grow to the size of the whole budget, but the number of
+	 * connections open at once across all the pools is limited by
+	 * the budget.
+	 *
+	 * @param poolOptions the connection pooling options
+	 *
+	 * @return the new {@link SharedConnectionBudget}, or {@code null}
+	 */
+	protected SharedConnectionBudget createBudget(PoolOptions poolOptions) {
+		if ( !sharedBudget ) {
+			return null;
+		}
+		messageLogger( DefaultSqlClientPool.class )
+				.infof( "HRX000019: Connection pool size is a budget shared by all event loops: %d", poolOptions.getMaxSize() );
+		return new SharedConnectionBudget( poolOptions.getMaxSize() );
 	}
 
 	/**
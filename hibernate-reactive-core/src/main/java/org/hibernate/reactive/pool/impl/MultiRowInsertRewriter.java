@@ -0,0 +1,268 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.pool.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
+import org.hibernate.reactive.pool.ReactiveConnection;
+
+/**
+ * Rewrites a batch of executions of an {@code insert ... values (...)}
+ * statement as a smaller number of multi-row inserts of form
+ * {@code insert ... values (...), (...), ...}.
+ * <p>
+ * The number of rows of each multi-row insert is always a power of
+ * two, so that a batch of any size results in a small number of
+ * distinct SQL strings, and the number of parameters of a statement
+ * never exceeds {@link #MAX_PARAMETERS}.
+ * <p>
+ * Since the same SQL strings are rewritten over and over, the rewriters
+ * obtained from {@link #forSql(String)} are kept in a bounded cache
+ * keyed by the original SQL string.
+ *
+ * @see org.hibernate.reactive.pool.BatchingConnection
+ */
+public final class MultiRowInsertRewriter {
+
+	/**
+	 * The maximum number of parameters of a rewritten statement
+	 */
+	public static final int MAX_PARAMETERS = 32767;
+
+	/**
+	 * The maximum number of rewriters to cache
+	 */
+	private static final int MAX_CACHED_SQL = 2048;
+
+	private static final String VALUES = " values ";
+
+	//Cached for the statements which can't be rewritten
+	private static final MultiRowInsertRewriter NOT_REWRITABLE = new MultiRowInsertRewriter( null, null, false );
+
+	private static final BoundedConcurrentHashMap<String, MultiRowInsertRewriter> REWRITERS =
+			new BoundedConcurrentHashMap<>( MAX_CACHED_SQL, 20, BoundedConcurrentHashMap.Eviction.LIRS );
+
+	private final String prefix;
+	private final List<Object> rowTemplate;
+	private final boolean dollarStyle;
+	private final Map<Integer, String> sqlByRowCount = new ConcurrentHashMap<>();
+
+	private MultiRowInsertRewriter(String prefix, List<Object> rowTemplate, boolean dollarStyle) {
+		this.prefix = prefix;
+		this.rowTemplate = rowTemplate;
+		this.dollarStyle = dollarStyle;
+	}
+
+	/**
+	 * Obtain the cached rewriter for the given SQL statement, parsing
+	 * the statement if it was not already cached.
+	 *
+	 * @return a rewriter for the statement, or {@code null} if the statement
+	 *         is not an insert with a single tuple of values
+	 */
+	public static MultiRowInsertRewriter forSql(String sql) {
+		MultiRowInsertRewriter rewriter = REWRITERS.get( sql );
+		if ( rewriter == null ) {
+			rewriter = parse( sql );
+			REWRITERS.put( sql, rewriter == null ? NOT_REWRITABLE : rewriter );
+		}
+		return rewriter == NOT_REWRITABLE ? null : rewriter;
+	}
+
+	/**
+	 * Parse the given SQL statement.
+	 *
+	 * @return a rewriter for the statement, or {@code null} if the statement
+	 *         is not an insert with a single tuple of values
+	 */
+	public static MultiRowInsertRewriter parse(String sql) {
+		String trimmed = sql.trim();
+		if ( !trimmed.regionMatches( true, 0, "insert ", 0, 7 )
+				|| trimmed.charAt( trimmed.length() - 1 ) != ')' ) {
+			return null;
+		}
+		int valuesIndex = trimmed.toLowerCase().lastIndexOf( VALUES );
+		if ( valuesIndex < 0 ) {
+			return null;
+		}
+		String prefix = trimmed.substring( 0, valuesIndex + VALUES.length() );
+		if ( prefix.indexOf( '?' ) >= 0 || prefix.indexOf( '$' ) >= 0 ) {
+			// parameters outside the tuple of values
+			return null;
+		}
+		String tuple = trimmed.substring( valuesIndex + VALUES.length() ).trim();
+		if ( tuple.isEmpty() || tuple.charAt( 0 ) != '(' ) {
+			return null;
+		}
+
+		// split the tuple into literal text and parameter positions
+		List<Object> template = new ArrayList<>();
+		StringBuilder text = new StringBuilder();
+		boolean inString = false;
+		boolean dollarStyle = false;
+		int depth = 0;
+		int count = 0;
+		for ( int i = 0; i < tuple.length(); i++ ) {
+			char ch = tuple.charAt( i );
+			if ( inString ) {
+				if ( ch == '\'' ) {
+					inString = false;
+				}
+				text.append( ch );
+			}
+			else {
+				switch ( ch ) {
+					case '\'':
+						inString = true;
+						text.append( ch );
+						break;
+					case '(':
+						depth++;
+						text.append( ch );
+						break;
+					case ')':
+						depth--;
+						text.append( ch );
+						if ( depth == 0 && i != tuple.length() - 1 ) {
+							// more than one tuple, or something after the tuple
+							return null;
+						}
+						break;
+					case '?':
+						template.add( text.toString() );
+						text.setLength( 0 );
+						template.add( count++ );
+						break;
+					case '$':
+						int end = i + 1;
+						while ( end < tuple.length() && Character.isDigit( tuple.charAt( end ) ) ) {
+							end++;
+						}
+						if ( end == i + 1 ) {
+							return null;
+						}
+						template.add( text.toString() );
+						text.setLength( 0 );
+						template.add( Integer.parseInt( tuple.substring( i + 1, end ) ) - 1 );
+						dollarStyle = true;
+						i = end - 1;
+						break;
+					default:
+						text.append( ch );
+				}
+			}
+		}
+		if ( inString || depth != 0 ) {
+			return null;
+		}
+		template.add( text.toString() );
+		return new MultiRowInsertRewriter( prefix, template, dollarStyle );
+	}
+
+	/**
+	 * Split the given batch of parameter values into multi-row inserts.
+	 */
+	public List<Chunk> split(List<Object[]> batchParamValues) {
+		final int size = batchParamValues.size();
+		final int parameterCount = batchParamValues.get( 0 ).length;
+		final int maxRows = Integer.highestOneBit( Math.max( 1, MAX_PARAMETERS / Math.max( 1, parameterCount ) ) );
+		List<Chunk> chunks = new ArrayList<>();
+		int start = 0;
+		while ( start < size ) {
+			int rows = Math.min( maxRows, Integer.highestOneBit( size - start ) );
+			Object[] parameters = new Object[rows * parameterCount];
+			for ( int row = 0; row < rows; row++ ) {
+				System.arraycopy( batchParamValues.get( start + row ), 0, parameters, row * parameterCount, parameterCount );
+			}
+			chunks.add( new Chunk( sql( rows, parameterCount ), parameters, start, rows ) );
+			start += rows;
+		}
+		return chunks;
+	}
+
+	private String sql(int rows, int parameterCount) {
+		String sql = sqlByRowCount.get( rows );
+		if ( sql == null ) {
+			StringBuilder builder = new StringBuilder( prefix );
+			for ( int row = 0; row < rows; row++ ) {
+				if ( row > 0 ) {
+					builder.append( ", " );
+				}
+				for ( Object segment : rowTemplate ) {
+					if ( segment instanceof Integer ) {
+						if ( dollarStyle ) {
+							builder.append( '$' ).append( row * parameterCount + (Integer) segment + 1 );
+						}
+						else {
+							builder.append( '?' );
+						}
+					}
+					else {
+						builder.append( (String) segment );
+					}
+				}
+			}
+			sql = builder.toString();
+			sqlByRowCount.put( rows, sql );
+		}
+		return sql;
+	}
+
+	/**
+	 * A multi-row insert statement, inserting the rows of the batch
+	 * starting from {@link #getStart()}.
+	 */
+	public static final class Chunk {
+		private final String sql;
+		private final Object[] parameters;
+		private final int start;
+		private final int rows;
+
+		private Chunk(String sql, Object[] parameters, int start, int rows) {
+			this.sql = sql;
+			this.parameters = parameters;
+			this.start = start;
+			this.rows = rows;
+		}
+
+		public String getSql() {
+			return sql;
+		}
+
+		public Object[] getParameters() {
+			return parameters;
+		}
+
+		/**
+		 * The position in the batch of the first row
+		 */
+		public int getStart() {
+			return start;
+		}
+
+		/**
+		 * The number of rows inserted by the statement
+		 */
+		public int getRows() {
+			return rows;
+		}
+
+		/**
+		 * Verify the row count of the statement against the expectation
+		 * of each row. We can't tell which rows were not inserted, so
+		 * if any are missing, we blame the last ones.
+		 */
+		public void verifyOutcome(int rowCount, String sql, ReactiveConnection.Expectation expectation) {
+			for ( int i = 0; i < rows; i++ ) {
+				expectation.verifyOutcome( i < rowCount ? 1 : 0, start + i, sql );
+			}
+		}
+	}
+}
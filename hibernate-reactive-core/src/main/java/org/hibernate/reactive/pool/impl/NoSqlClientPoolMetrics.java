@@ -0,0 +1,19 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.pool.impl;
+
+/**
+ * The default {@link SqlClientPoolMetrics}, which collects nothing.
+ */
+public final class NoSqlClientPoolMetrics implements SqlClientPoolMetrics {
+
+    public static final NoSqlClientPoolMetrics INSTANCE = new NoSqlClientPoolMetrics();
+
+    @Override
+    public boolean isEnabled() {
+        return false;
+    }
+}
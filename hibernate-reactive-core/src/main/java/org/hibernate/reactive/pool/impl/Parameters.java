@@ -8,15 +8,27 @@
 import org.hibernate.dialect.CockroachDB192Dialect;
 import org.hibernate.dialect.Dialect;
 import org.hibernate.dialect.PostgreSQL9Dialect;
+import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
 
 /**
  * PostgreSQL has a "funny" parameter syntax of form {@code $n}, which
  * the Vert.x {@link io.vertx.sqlclient.SqlClient} does not abstract.
  * This class converts JDBC/ODBC-style {@code ?} parameters generated
  * by Hibernate ORM to this native format.
+ * <p>
+ * Since the same SQL strings are processed over and over, the results
+ * are kept in a bounded cache keyed by the original SQL string.
  */
 public class Parameters {
 
+	/**
+	 * The maximum number of processed SQL strings to cache
+	 */
+	private static final int MAX_CACHED_SQL = 2048;
+
+	private static final BoundedConcurrentHashMap<String, String> PROCESSED_SQL =
+			new BoundedConcurrentHashMap<>( MAX_CACHED_SQL, 20, BoundedConcurrentHashMap.Eviction.LIRS );
+
 	private static Parameters INSTANCE = new Parameters();
 
 	private static Parameters NO_PARSING = new Parameters() {
@@ -46,10 +58,7 @@ private Parameters() {
 	}
 
 	public String process(String sql) {
-		if ( isProcessingNotRequired( sql ) ) {
-			return sql;
-		}
-		return new Parser( sql ).result();
+		return process( sql, 10 );
 	}
 
 	/**
@@ -84,7 +93,12 @@ public String process(String sql, int parameterCount) {
 		if ( isProcessingNotRequired( sql ) ) {
 			return sql;
 		}
-		return new Parser( sql, parameterCount ).result();
+		String processed = PROCESSED_SQL.get( sql );
+		if ( processed == null ) {
+			processed = new Parser( sql, parameterCount ).result();
+			PROCESSED_SQL.put( sql, processed );
+		}
+		return processed;
 	}
 
 	private static boolean isProcessingNotRequired(String sql) {
@@ -95,66 +109,102 @@ private static boolean isProcessingNotRequired(String sql) {
 
 	private static class Parser {
 
-		private boolean inString;
-		private boolean inQuoted;
-		private boolean inSqlComment;
-		private boolean inCComment;
-		private boolean escaped;
+		private final String sql;
+		private final StringBuilder result;
 		private int count = 0;
-		private StringBuilder result;
-		private int previous;
-
-		private Parser(String sql) {
-			this( sql, 10 );
-		}
 
 		private Parser(String sql, int parameterCount) {
+			this.sql = sql;
 			result = new StringBuilder( sql.length() + parameterCount );
-			sql.codePoints().forEach( this::append );
+			parse();
 		}
 
 		private String result() {
 			return result.toString();
 		}
 
-		private void append(int codePoint) {
-			if ( escaped ) {
-				escaped = false;
-			}
-			else {
-				switch ( codePoint ) {
-					case '\\':
-						escaped = true;
-						break;
-					case '"':
-						if ( !inString && !inSqlComment && !inCComment ) inQuoted = !inQuoted;
-						break;
-					case '\'':
-						if ( !inQuoted && !inSqlComment && !inCComment ) inString = !inString;
-						break;
-					case '-':
-						if ( !inQuoted && !inString && !inCComment && previous == '-' ) inSqlComment = true;
-						break;
-					case '\n':
-						inSqlComment = false;
-						break;
-					case '*':
-						if ( !inQuoted && !inString && !inSqlComment && previous == '/' ) inCComment = true;
-						break;
-					case '/':
-						if ( previous == '*' ) inCComment = false;
-						break;
-					//TODO: $$-quoted strings
-					case '?':
-						if ( !inQuoted && !inString ) {
-							result.append( '$' ).append( ++count );
-							previous = '?';
-							return;
-						}
+		private void parse() {
+			boolean inString = false;
+			boolean inQuoted = false;
+			boolean inSqlComment = false;
+			boolean inCComment = false;
+			boolean escaped = false;
+			char previous = 0;
+			final int length = sql.length();
+			for ( int i = 0; i < length; i++ ) {
+				final char ch = sql.charAt( i );
+				if ( escaped ) {
+					escaped = false;
+				}
+				else {
+					switch ( ch ) {
+						case '\\':
+							escaped = true;
+							break;
+						case '"':
+							if ( !inString && !inSqlComment && !inCComment ) inQuoted = !inQuoted;
+							break;
+						case '\'':
+							if ( !inQuoted && !inSqlComment && !inCComment ) inString = !inString;
+							break;
+						case '-':
+							if ( !inQuoted && !inString && !inCComment && previous == '-' ) inSqlComment = true;
+							break;
+						case '\n':
+							inSqlComment = false;
+							break;
+						case '*':
+							if ( !inQuoted && !inString && !inSqlComment && previous == '/' ) inCComment = true;
+							break;
+						case '/':
+							if ( previous == '*' ) inCComment = false;
+							break;
+						case '$':
+							if ( !inQuoted && !inString && !inSqlComment && !inCComment ) {
+								// copy a $$-quoted string as is
+								int end = dollarQuotedStringEnd( i );
+								if ( end > 0 ) {
+									result.append( sql, i, end );
+									i = end - 1;
+									previous = '$';
+									continue;
+								}
+							}
+							break;
+						case '?':
+							if ( !inQuoted && !inString ) {
+								result.append( '$' ).append( ++count );
+								previous = '?';
+								continue;
+							}
+					}
 				}
+				previous = ch;
+				result.append( ch );
 			}
-			previous = codePoint;
-			result.appendCodePoint( codePoint );
+		}
+
+		/**
+		 * If a dollar-quoted string of form {@code $tag$...$tag$} starts
+		 * at the given position, return the position just after its end,
+		 * or -1 otherwise.
+		 */
+		private int dollarQuotedStringEnd(int start) {
+			int tagEnd = start + 1;
+			while ( tagEnd < sql.length() && isTagCharacter( sql.charAt( tagEnd ), tagEnd == start + 1 ) ) {
+				tagEnd++;
+			}
+			if ( tagEnd == sql.length() || sql.charAt( tagEnd ) != '$' ) {
+				// a $n parameter, or not a dollar quote
+				return -1;
+			}
+			String tag = sql.substring( start, tagEnd + 1 );
+			int close = sql.indexOf( tag, tagEnd + 1 );
+			return close < 0 ? -1 : close + tag.length();
+		}
+
+		private static boolean isTagCharacter(char ch, boolean first) {
+			return ch == '_' || Character.isLetter( ch ) || !first && Character.isDigit( ch );
 		}
 	}
 }
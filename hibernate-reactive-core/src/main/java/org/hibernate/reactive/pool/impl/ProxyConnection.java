@@ -7,6 +7,7 @@
 
 import java.sql.ResultSet;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.function.Function;
 
@@ -18,12 +19,20 @@
 /**
  * A proxy {@link ReactiveConnection} that initializes the
  * underlying connection lazily.
+ * <p>
+ * Operations requested while the underlying connection is
+ * still being obtained are deferred until the connection is
+ * available, so that the statements of a pipelined
+ * {@link org.hibernate.reactive.pool.BatchingConnection}
+ * may be sent before the first one has completed.
  */
 final class ProxyConnection implements ReactiveConnection {
 
 	private final ReactiveConnectionPool sqlClientPool;
 	private ReactiveConnection connection;
+	private CompletionStage<ReactiveConnection> connecting;
 	private boolean connected;
+	private boolean inTransaction;
 	private final String tenantId;
 
 	public ProxyConnection(ReactiveConnectionPool sqlClientPool) {
@@ -42,19 +51,52 @@ private <T> CompletionStage<T> withConnection(Function<ReactiveConnection, Compl
 			connected = true; // we're not allowed to fetch two connections!
 			CompletionStage<ReactiveConnection> connection =
 					tenantId == null ? sqlClientPool.getConnection() : sqlClientPool.getConnection( tenantId );
-			return connection.thenApply( newConnection -> this.connection = newConnection )
-					.thenCompose( operation );
+			connecting = connection.thenApply( newConnection -> this.connection = newConnection );
+			return afterConnecting( operation );
 		}
 		else {
 			if ( connection == null ) {
+				if ( connecting == null ) {
+					// the connection was already closed
+					throw new IllegalStateException( "session is closed" );
+				}
 				// we're already in the process of fetching a connection,
-				// so this must be an illegal concurrent call
-				throw new IllegalStateException( "session is currently connecting to database" );
+				// so wait for it before executing the operation
+				return afterConnecting( operation );
 			}
 			return operation.apply( connection );
 		}
 	}
 
+	/**
+	 * Execute the operation once the connection is available, after
+	 * all the operations which were requested earlier.
+	 */
+	private <T> CompletionStage<T> afterConnecting(Function<ReactiveConnection, CompletionStage<T>> operation) {
+		CompletableFuture<T> result = new CompletableFuture<>();
+		connecting = connecting.whenComplete( (newConnection, error) -> {
+			if ( error != null ) {
+				result.completeExceptionally( error );
+			}
+			else {
+				try {
+					operation.apply( newConnection ).whenComplete( (r, e) -> {
+						if ( e != null ) {
+							result.completeExceptionally( e );
+						}
+						else {
+							result.complete( r );
+						}
+					} );
+				}
+				catch (Throwable t) {
+					result.completeExceptionally( t );
+				}
+			}
+		} );
+		return result;
+	}
+
 	@Override
 	public CompletionStage<Void> execute(String sql) {
 		return withConnection( conn -> conn.execute( sql ) );
@@ -109,24 +151,42 @@ public CompletionStage<ResultSet> selectJdbc(String sql, Object[] paramValues) {
 		return withConnection( conn -> conn.selectJdbc( sql, paramValues ) );
 	}
 
+	@Override
+	public CompletionStage<ResultSet> selectJdbcReadOnly(String sql, Object[] paramValues) {
+		return withConnection( conn -> conn.selectJdbcReadOnly( sql, paramValues ) );
+	}
+
+	@Override
+	public CompletionStage<Cursor> selectJdbcCursor(String sql, Object[] paramValues) {
+		return withConnection( conn -> conn.selectJdbcCursor( sql, paramValues ) );
+	}
+
 	@Override
 	public CompletionStage<Long> selectIdentifier(String sql, Object[] paramValues) {
 		return withConnection( conn -> conn.selectIdentifier( sql, paramValues ) );
 	}
 
+	@Override
+	public boolean isTransactionInProgress() {
+		return inTransaction;
+	}
+
 	@Override
 	public CompletionStage<Void> beginTransaction() {
+		inTransaction = true;
 		return withConnection( ReactiveConnection::beginTransaction );
 	}
 
 	@Override
 	public CompletionStage<Void> commitTransaction() {
-		return withConnection( ReactiveConnection::commitTransaction );
+		return withConnection( ReactiveConnection::commitTransaction )
+				.whenComplete( (v, e) -> inTransaction = false );
 	}
 
 	@Override
 	public CompletionStage<Void> rollbackTransaction() {
-		return withConnection( ReactiveConnection::rollbackTransaction );
+		return withConnection( ReactiveConnection::rollbackTransaction )
+				.whenComplete( (v, e) -> inTransaction = false );
 	}
 
 	@Override
@@ -140,6 +200,7 @@ public void close() {
 			connection.close();
 			connection = null;
 		}
+		connecting = null;
 	}
 
 }
@@ -0,0 +1,232 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.pool.impl;
+
+import java.sql.ResultSet;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.hibernate.reactive.pool.ReactiveConnection;
+
+import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
+
+/**
+ * A {@link ReactiveConnection} which sends every statement to the
+ * primary database, except {@linkplain #selectJdbcReadOnly read-only
+ * queries} executed outside a transaction, which are sent to a replica.
+ * <p>
+ * Both connections are obtained lazily: the connection to the primary
+ * database when the first statement which is not a read-only query is
+ * executed, and the replica connection when the first read-only query
+ * is executed. Thus, a session which only executes read-only queries
+ * never holds a connection to the primary database. The replica
+ * connection is then used for every following read-only query, so
+ * that a session never sees data older than what it has already read.
+ *
+ * @see ReplicaRoutingSqlClientPool
+ */
+final class ReplicaRoutingConnection implements ReactiveConnection {
+
+	private final Supplier<CompletionStage<ReactiveConnection>> primarySupplier;
+	private final Supplier<CompletionStage<ReactiveConnection>> replicaSupplier;
+	private ReactiveConnection primary;
+	// operations waiting for the primary connection, in order
+	private CompletionStage<ReactiveConnection> connectingPrimary;
+	private ReactiveConnection replica;
+	private boolean inTransaction;
+	private boolean closed;
+
+	ReplicaRoutingConnection(
+			Supplier<CompletionStage<ReactiveConnection>> primarySupplier,
+			Supplier<CompletionStage<ReactiveConnection>> replicaSupplier) {
+		this.primarySupplier = primarySupplier;
+		this.replicaSupplier = replicaSupplier;
+	}
+
+	/**
+	 * Execute the operation using the connection to the primary
+	 * database, obtaining the connection if necessary. Operations
+	 * requested while the connection is being obtained are executed
+	 * in the order they were requested.
+	 */
+	private <T> CompletionStage<T> withPrimary(Function<ReactiveConnection, CompletionStage<T>> operation) {
+		if ( primary != null ) {
+			return operation.apply( primary );
+		}
+		if ( closed ) {
+			throw new IllegalStateException( "session is closed" );
+		}
+		if ( connectingPrimary == null ) {
+			connectingPrimary = primarySupplier.get()
+					.thenApply( connection -> {
+						if ( closed ) {
+							// the session was closed while we were waiting
+							connection.close();
+							throw new IllegalStateException( "session is closed" );
+						}
+						return primary = connection;
+					} );
+		}
+		CompletableFuture<T> result = new CompletableFuture<>();
+		connectingPrimary = connectingPrimary.whenComplete( (connection, error) -> {
+			if ( error != null ) {
+				result.completeExceptionally( error );
+			}
+			else {
+				try {
+					operation.apply( connection ).whenComplete( (r, e) -> {
+						if ( e != null ) {
+							result.completeExceptionally( e );
+						}
+						else {
+							result.complete( r );
+						}
+					} );
+				}
+				catch (Throwable t) {
+					result.completeExceptionally( t );
+				}
+			}
+		} );
+		return result;
+	}
+
+	@Override
+	public CompletionStage<ResultSet> selectJdbcReadOnly(String sql, Object[] paramValues) {
+		if ( inTransaction ) {
+			return withPrimary( connection -> connection.selectJdbc( sql, paramValues ) );
+		}
+		if ( replica != null ) {
+			return replica.selectJdbc( sql, paramValues );
+		}
+		return replicaSupplier.get()
+				.thenCompose( connection -> {
+					if ( closed ) {
+						// the session was closed while we were waiting
+						connection.close();
+						throw new IllegalStateException( "session is closed" );
+					}
+					replica = connection;
+					return connection.selectJdbc( sql, paramValues );
+				} );
+	}
+
+	@Override
+	public boolean isTransactionInProgress() {
+		return inTransaction;
+	}
+
+	@Override
+	public CompletionStage<Void> beginTransaction() {
+		inTransaction = true;
+		return withPrimary( ReactiveConnection::beginTransaction );
+	}
+
+	@Override
+	public CompletionStage<Void> commitTransaction() {
+		return withPrimary( ReactiveConnection::commitTransaction )
+				.whenComplete( (v, e) -> inTransaction = false );
+	}
+
+	@Override
+	public CompletionStage<Void> rollbackTransaction() {
+		return withPrimary( ReactiveConnection::rollbackTransaction )
+				.whenComplete( (v, e) -> inTransaction = false );
+	}
+
+	@Override
+	public void close() {
+		closed = true;
+		try {
+			if ( primary != null ) {
+				primary.close();
+				primary = null;
+			}
+		}
+		finally {
+			if ( replica != null ) {
+				replica.close();
+				replica = null;
+			}
+		}
+	}
+
+	@Override
+	public CompletionStage<Void> execute(String sql) {
+		return withPrimary( connection -> connection.execute( sql ) );
+	}
+
+	@Override
+	public CompletionStage<Void> executeOutsideTransaction(String sql) {
+		return withPrimary( connection -> connection.executeOutsideTransaction( sql ) );
+	}
+
+	@Override
+	public CompletionStage<Integer> update(String sql) {
+		return withPrimary( connection -> connection.update( sql ) );
+	}
+
+	@Override
+	public CompletionStage<Integer> update(String sql, Object[] paramValues) {
+		return withPrimary( connection -> connection.update( sql, paramValues ) );
+	}
+
+	@Override
+	public CompletionStage<Void> update(
+			String sql,
+			Object[] paramValues,
+			boolean allowBatching,
+			Expectation expectation) {
+		return withPrimary( connection -> connection.update( sql, paramValues, allowBatching, expectation ) );
+	}
+
+	@Override
+	public CompletionStage<int[]> update(String sql, List<Object[]> paramValues) {
+		return withPrimary( connection -> connection.update( sql, paramValues ) );
+	}
+
+	@Override
+	public CompletionStage<Result> select(String sql) {
+		return withPrimary( connection -> connection.select( sql ) );
+	}
+
+	@Override
+	public CompletionStage<Result> select(String sql, Object[] paramValues) {
+		return withPrimary( connection -> connection.select( sql, paramValues ) );
+	}
+
+	@Override
+	public CompletionStage<ResultSet> selectJdbc(String sql, Object[] paramValues) {
+		return withPrimary( connection -> connection.selectJdbc( sql, paramValues ) );
+	}
+
+	@Override
+	public CompletionStage<Cursor> selectJdbcCursor(String sql, Object[] paramValues) {
+		return withPrimary( connection -> connection.selectJdbcCursor( sql, paramValues ) );
+	}
+
+	@Override
+	public CompletionStage<Long> insertAndSelectIdentifier(String sql, Object[] paramValues) {
+		return withPrimary( connection -> connection.insertAndSelectIdentifier( sql, paramValues ) );
+	}
+
+	@Override
+	public CompletionStage<Long> selectIdentifier(String sql, Object[] paramValues) {
+		return withPrimary( connection -> connection.selectIdentifier( sql, paramValues ) );
+	}
+
+	@Override
+	public CompletionStage<Void> executeBatch() {
+		// nothing was sent to the primary database,
+		// so there's no batch to execute
+		return primary == null && connectingPrimary == null
+				? voidFuture()
+				: withPrimary( ReactiveConnection::executeBatch );
+	}
+}
@@ -0,0 +1,157 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.pool.impl;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.internal.util.config.ConfigurationHelper;
+import org.hibernate.reactive.pool.ReactiveConnection;
+import org.hibernate.reactive.provider.Settings;
+import org.hibernate.reactive.vertx.VertxInstance;
+import org.hibernate.service.spi.ServiceRegistryImplementor;
+
+import io.vertx.core.Vertx;
+import io.vertx.sqlclient.Pool;
+
+import static io.vertx.core.Future.failedFuture;
+import static io.vertx.core.Future.succeededFuture;
+import static org.hibernate.internal.CoreLogging.messageLogger;
+import static org.hibernate.reactive.util.impl.CompletionStages.completedFuture;
+
+/**
+ * A {@link DefaultSqlClientPool} which sends read-only queries to a
+ * set of read replicas of the primary database. Every other statement,
+ * and every query executed within a transaction, is sent to the primary
+ * database.
+ * <p>
+ * A query is read-only if it was created by a session in read-only
+ * mode, or if it was itself marked read-only, and if it does not
+ * obtain pessimistic locks. A session obtains a connection to a
+ * replica when it executes its first read-only query, choosing the
+ * replicas in turn, and a connection to the primary database only
+ * when it executes its first statement which is not a read-only
+ * query, or begins a transaction.
+ * <p>
+ * To use this pool, set {@link Settings#SQL_CLIENT_POOL} to the name
+ * of this class, and list the replicas in {@link Settings#REPLICA_URLS}.
+ * The replica pools are created with the same {@link SqlClientPoolConfiguration}
+ * as the primary pool, but are not included in the
+ * {@linkplain Settings#POOL_SHARED_BUDGET shared connection budget},
+ * which limits the number of connections to the primary database.
+ * Connections for a tenant id are never routed to a replica.
+ */
+public class ReplicaRoutingSqlClientPool extends DefaultSqlClientPool {
+
+	private final AtomicInteger nextReplica = new AtomicInteger();
+	private ServiceRegistryImplementor serviceRegistry;
+	private List<URI> replicaUris;
+	private List<ThreadLocalPoolManager> replicas;
+
+	@Override
+	public void injectServices(ServiceRegistryImplementor serviceRegistry) {
+		super.injectServices( serviceRegistry );
+		this.serviceRegistry = serviceRegistry;
+	}
+
+	@Override
+	public void configure(Map configuration) {
+		super.configure( configuration );
+		replicaUris = replicaUrls( configuration );
+	}
+
+	@Override
+	public void start() {
+		super.start();
+		if ( replicas == null ) {
+			replicas = new ArrayList<>( replicaUris.size() );
+			for ( URI uri : replicaUris ) {
+				replicas.add( createReplicaPools( uri ) );
+			}
+		}
+	}
+
+	@Override
+	public void stop() {
+		try {
+			super.stop();
+		}
+		finally {
+			if ( replicas != null ) {
+				for ( ThreadLocalPoolManager replica : replicas ) {
+					replica.close();
+				}
+			}
+		}
+	}
+
+	@Override
+	public CompletionStage<ReactiveConnection> getConnection() {
+		if ( replicas == null || replicas.isEmpty() ) {
+			return super.getConnection();
+		}
+		// the connection to the primary database is only
+		// obtained if the session actually needs it
+		return completedFuture( new ReplicaRoutingConnection( this::getPrimaryConnection, this::getReplicaConnection ) );
+	}
+
+	/**
+	 * Obtain a connection to the next replica.
+	 */
+	protected CompletionStage<ReactiveConnection> getReplicaConnection() {
+		final int index = Math.floorMod( nextReplica.getAndIncrement(), replicas.size() );
+		final Pool pool = replicas.get( index ).getOrStartPool();
+		return Handlers.toCompletionStage(
+				handler -> pool.getConnection(
+						ar -> handler.handle(
+								ar.succeeded()
+										? succeededFuture( new SqlClientConnection( ar.result(), pool, getSqlStatementLogger(), getMetrics() ) )
+										: failedFuture( ar.cause() )
+						)
+				)
+		);
+	}
+
+	/**
+	 * Create a new {@link ThreadLocalPoolManager} for the replica with the
+	 * given JDBC URL or database URI.
+	 *
+	 * @param uri JDBC URL or database URI of the replica
+	 *
+	 * @return the new {@link ThreadLocalPoolManager}
+	 */
+	protected ThreadLocalPoolManager createReplicaPools(URI uri) {
+		SqlClientPoolConfiguration configuration = serviceRegistry.getService( SqlClientPoolConfiguration.class );
+		Vertx vertx = serviceRegistry.getService( VertxInstance.class ).getVertx();
+		return new ThreadLocalPoolManager<>(
+				() -> createPool( uri, configuration.connectOptions( uri ), configuration.poolOptions(), vertx )
+		);
+	}
+
+	/**
+	 * Determine the JDBC URLs or database URIs of the replicas from the
+	 * given configuration.
+	 *
+	 * @param configurationValues the configuration properties
+	 *
+	 * @return the replica URLs as a list of {@link URI}s
+	 */
+	protected List<URI> replicaUrls(Map<?,?> configurationValues) {
+		String urls = ConfigurationHelper.getString( Settings.REPLICA_URLS, configurationValues, "" );
+		List<URI> uris = new ArrayList<>();
+		for ( String url : urls.split( "," ) ) {
+			if ( !url.trim().isEmpty() ) {
+				messageLogger( ReplicaRoutingSqlClientPool.class ).infof( "HRX000022: SQL Client replica URL [%s]", url.trim() );
+				uris.add( parse( url.trim() ) );
+			}
+		}
+		return uris;
+	}
+}
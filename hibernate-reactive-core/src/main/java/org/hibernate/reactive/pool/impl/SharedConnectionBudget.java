@@ -0,0 +1,349 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.pool.impl;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+
+import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
+
+/**
+ * A budget of connections shared between all the thread-local
+ * {@link io.vertx.sqlclient.Pool} instances managed by a
+ * {@link ThreadLocalPoolManager}. Each pool has a {@link Share} of
+ * the budget: a permit must be acquired from the budget before the
+ * pool may grow by one connection, and the pool holds on to its
+ * permits for as long as its connections may be open, so that the
+ * number of open connections never exceeds the budget.
+ * <p>
+ * When the budget is exhausted, requests wait without blocking.
+ * Waiting requests are grouped by pool, and permits are handed out
+ * to the waiting pools in round-robin order, so that one busy event
+ * loop can't starve the others. The continuation of a waiting request
+ * always runs on the Vert.x {@link Context} of its pool.
+ * <p>
+ * Since a Vert.x connection can't migrate between event loops, and
+ * a single connection can't be closed without closing its pool, the
+ * permits of a pool are only returned to the budget when the pool
+ * is retired, which happens when none of its connections is in use,
+ * and a request of another pool is waiting.
+ */
+public final class SharedConnectionBudget {
+
+	private final int budget;
+
+	//Guarded by 'this'
+	private int available;
+	private int inUse;
+	private int waiting;
+	private final Map<Share, ArrayDeque<CompletableFuture<Void>>> waitersByShare = new HashMap<>();
+	private final ArrayDeque<Share> waitingShares = new ArrayDeque<>();
+	//Shares which hold permits, but have no connection in use
+	private final LinkedHashSet<Share> idleShares = new LinkedHashSet<>();
+
+	private final AtomicLong acquisitions = new AtomicLong();
+	private final AtomicLong waits = new AtomicLong();
+	private final AtomicLong crossContextHandoffs = new AtomicLong();
+	private final AtomicLong retirements = new AtomicLong();
+	private final AtomicLong totalWaitNanos = new AtomicLong();
+
+	SharedConnectionBudget(int budget) {
+		if ( budget <= 0 ) {
+			throw new IllegalArgumentException( "connection budget must be positive" );
+		}
+		this.budget = budget;
+		this.available = budget;
+	}
+
+	/**
+	 * Create the share of the budget of a new pool.
+	 *
+	 * @param retire closes the pool, and is run on the current
+	 *               Vert.x context when the pool is retired
+	 */
+	Share newShare(Runnable retire) {
+		return new Share( Vertx.currentContext(), retire );
+	}
+
+	/**
+	 * The share of the budget held by the pool of one Vert.x context.
+	 */
+	final class Share {
+
+		private final Context context;
+		private final Runnable retire;
+
+		//Guarded by the budget
+		private int held;
+		private int used;
+		private volatile boolean retired;
+
+		private Share(Context context, Runnable retire) {
+			this.context = context;
+			this.retire = retire;
+		}
+
+		/**
+		 * Acquire a connection from the pool, waiting if the pool
+		 * has no connection available and the budget is exhausted.
+		 */
+		CompletionStage<Void> acquire() {
+			acquisitions.incrementAndGet();
+			final CompletableFuture<Void> waiter;
+			final Share reclaimed;
+			synchronized ( SharedConnectionBudget.this ) {
+				if ( used < held ) {
+					// the pool may reuse one of its own connections
+					use();
+					return voidFuture();
+				}
+				if ( available > 0 ) {
+					// the pool may open a new connection
+					available--;
+					held++;
+					use();
+					return voidFuture();
+				}
+				ArrayDeque<CompletableFuture<Void>> queue = waitersByShare.get( this );
+				if ( queue == null ) {
+					queue = new ArrayDeque<>();
+					waitersByShare.put( this, queue );
+					waitingShares.addLast( this );
+				}
+				waiter = new CompletableFuture<>();
+				queue.addLast( waiter );
+				waiting++;
+				reclaimed = idleShares.isEmpty() ? null : idleShares.iterator().next();
+			}
+			waits.incrementAndGet();
+			if ( reclaimed != null ) {
+				// ask an idle pool to give back its permits
+				reclaimed.retireLater();
+			}
+			final long start = System.nanoTime();
+			return waiter.whenComplete( (v, e) -> totalWaitNanos.addAndGet( System.nanoTime() - start ) );
+		}
+
+		/**
+		 * Return a connection to the pool, handing it directly to the
+		 * next request waiting for this pool, if any, or retiring the
+		 * pool if it is idle and a request of another pool is waiting.
+		 */
+		void release() {
+			final CompletableFuture<Void> next;
+			final boolean retireNow;
+			synchronized ( SharedConnectionBudget.this ) {
+				if ( used == 0 ) {
+					throw new IllegalStateException( "connection released more times than it was acquired" );
+				}
+				final ArrayDeque<CompletableFuture<Void>> queue = waitersByShare.get( this );
+				if ( queue != null ) {
+					next = queue.pollFirst();
+					if ( queue.isEmpty() ) {
+						waitersByShare.remove( this );
+						waitingShares.remove( this );
+					}
+					waiting--;
+					retireNow = false;
+				}
+				else {
+					next = null;
+					used--;
+					inUse--;
+					if ( used == 0 ) {
+						idleShares.add( this );
+					}
+					retireNow = used == 0 && waiting > 0;
+				}
+			}
+			if ( next != null ) {
+				next.complete( null );
+			}
+			else if ( retireNow ) {
+				retireLater();
+			}
+		}
+
+		/**
+		 * @return {@code true} if the pool was closed, and a new
+		 *         pool must be created for the context
+		 */
+		boolean isRetired() {
+			return retired;
+		}
+
+		private void use() {
+			used++;
+			inUse++;
+			idleShares.remove( this );
+		}
+
+		private void retireLater() {
+			if ( context == null || context == Vertx.currentContext() ) {
+				retireIfIdle();
+			}
+			else {
+				context.runOnContext( v -> retireIfIdle() );
+			}
+		}
+
+		/**
+		 * Close the pool and return its permits to the budget,
+		 * unless a connection was acquired in the meantime.
+		 */
+		private void retireIfIdle() {
+			final int permits;
+			synchronized ( SharedConnectionBudget.this ) {
+				if ( retired || used > 0 || held == 0 ) {
+					return;
+				}
+				retired = true;
+				permits = held;
+				held = 0;
+				idleShares.remove( this );
+			}
+			retirements.incrementAndGet();
+			try {
+				retire.run();
+			}
+			finally {
+				for ( int i = 0; i < permits; i++ ) {
+					releasePermit();
+				}
+			}
+		}
+	}
+
+	/**
+	 * Return a permit to the budget, handing it directly to
+	 * the next waiting pool, if any.
+	 */
+	private void releasePermit() {
+		final CompletableFuture<Void> next;
+		final Share nextShare;
+		synchronized (this) {
+			nextShare = waitingShares.pollFirst();
+			if ( nextShare == null ) {
+				if ( available == budget ) {
+					throw new IllegalStateException( "connection permit released more times than it was acquired" );
+				}
+				available++;
+				return;
+			}
+			final ArrayDeque<CompletableFuture<Void>> queue = waitersByShare.get( nextShare );
+			next = queue.pollFirst();
+			if ( queue.isEmpty() ) {
+				waitersByShare.remove( nextShare );
+			}
+			else {
+				//go to the back of the line
+				waitingShares.addLast( nextShare );
+			}
+			waiting--;
+			nextShare.held++;
+			nextShare.use();
+		}
+		final Context context = nextShare.context;
+		if ( context != null && context != Vertx.currentContext() ) {
+			crossContextHandoffs.incrementAndGet();
+			context.runOnContext( v -> next.complete( null ) );
+		}
+		else {
+			next.complete( null );
+		}
+	}
+
+	/**
+	 * The total number of connections in the budget.
+	 */
+	public int getBudget() {
+		return budget;
+	}
+
+	/**
+	 * The number of connections currently in use.
+	 */
+	public synchronized int getInUseCount() {
+		return inUse;
+	}
+
+	/**
+	 * The number of permits held by the pools, which is the maximum
+	 * number of connections which may currently be open, including
+	 * the connections which are idle in the pools.
+	 */
+	public synchronized int getOpenCount() {
+		return budget - available;
+	}
+
+	/**
+	 * The number of requests currently waiting for a connection.
+	 */
+	public synchronized int getWaitingCount() {
+		return waiting;
+	}
+
+	/**
+	 * The total number of connection requests.
+	 */
+	public long getAcquisitionCount() {
+		return acquisitions.get();
+	}
+
+	/**
+	 * The number of connection requests which had to wait
+	 * because the budget was exhausted.
+	 */
+	public long getWaitCount() {
+		return waits.get();
+	}
+
+	/**
+	 * The number of times a permit given back by the pool of one
+	 * event loop was handed over to a request waiting on a different
+	 * event loop. A high value relative to {@link #getWaitCount()}
+	 * indicates starvation across event loops.
+	 */
+	public long getCrossContextHandoffCount() {
+		return crossContextHandoffs.get();
+	}
+
+	/**
+	 * The number of pools which were closed to give back their
+	 * permits to the budget.
+	 */
+	public long getRetirementCount() {
+		return retirements.get();
+	}
+
+	/**
+	 * The total time, in nanoseconds, spent by requests waiting
+	 * for a connection.
+	 */
+	public long getTotalWaitNanos() {
+		return totalWaitNanos.get();
+	}
+
+	@Override
+	public String toString() {
+		return "SharedConnectionBudget{budget=" + budget
+				+ ", open=" + getOpenCount()
+				+ ", inUse=" + getInUseCount()
+				+ ", waiting=" + getWaitingCount()
+				+ ", waits=" + getWaitCount()
+				+ ", crossContextHandoffs=" + getCrossContextHandoffCount()
+				+ ", retirements=" + getRetirementCount()
+				+ "}";
+	}
+}
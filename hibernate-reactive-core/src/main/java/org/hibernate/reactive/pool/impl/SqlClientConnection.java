@@ -7,6 +7,7 @@
 
 import io.vertx.sqlclient.PropertyKind;
 import io.vertx.sqlclient.Pool;
+import io.vertx.sqlclient.PreparedStatement;
 import io.vertx.sqlclient.Row;
 import io.vertx.sqlclient.RowIterator;
 import io.vertx.sqlclient.RowSet;
@@ -24,8 +25,11 @@
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
 
+import static org.hibernate.reactive.util.impl.CompletionStages.returnOrRethrow;
 import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
 
 /**
@@ -36,6 +40,7 @@ public class SqlClientConnection implements ReactiveConnection {
 	private static PropertyKind<Long> mySqlLastInsertedId;
 
 	private final SqlStatementLogger sqlStatementLogger;
+	private final SqlClientPoolMetrics metrics;
 
 	private final Pool pool;
 	private final SqlConnection connection;
@@ -43,9 +48,16 @@ public class SqlClientConnection implements ReactiveConnection {
 
 	SqlClientConnection(SqlConnection connection, Pool pool,
 						SqlStatementLogger sqlStatementLogger) {
+		this( connection, pool, sqlStatementLogger, null );
+	}
+
+	SqlClientConnection(SqlConnection connection, Pool pool,
+						SqlStatementLogger sqlStatementLogger,
+						SqlClientPoolMetrics metrics) {
 		this.pool = pool;
 		this.sqlStatementLogger = sqlStatementLogger;
 		this.connection = connection;
+		this.metrics = metrics;
 	}
 
 	@Override
@@ -100,6 +112,35 @@ public CompletionStage<ResultSet> selectJdbc(String sql, Object[] paramValues) {
 		return preparedQuery( sql, Tuple.wrap( paramValues ) ).thenApply(ResultSetAdaptor::new);
 	}
 
+	/**
+	 * Open a database cursor for the given query. Since a cursor only
+	 * lives as long as the transaction it was opened in, we begin a
+	 * transaction if there is none already in progress, and commit it
+	 * when the cursor is closed.
+	 */
+	@Override
+	public CompletionStage<Cursor> selectJdbcCursor(String sql, Object[] paramValues) {
+		feedback(sql);
+		final boolean ownTransaction = transaction == null;
+		if ( ownTransaction ) {
+			transaction = connection.begin();
+		}
+		return Handlers.<PreparedStatement>toCompletionStage( handler -> connection.prepare( sql, handler ) )
+				.<Cursor>thenApply( statement -> new SqlClientCursor(
+						sql,
+						statement,
+						statement.cursor( Tuple.wrap( paramValues ) ),
+						ownTransaction
+				) )
+				.handle( (cursor, e) -> {
+					if ( e != null && ownTransaction ) {
+						transaction.rollback();
+						transaction = null;
+					}
+					return returnOrRethrow( e, cursor );
+				} );
+	}
+
 	@Override
 	public CompletionStage<Void> execute(String sql) {
 		return preparedQuery( sql ).thenApply( ignore -> null );
@@ -157,30 +198,71 @@ public CompletionStage<Long> insertAndSelectIdentifier(String sql, Tuple paramet
 
 	public CompletionStage<RowSet<Row>> preparedQuery(String sql, Tuple parameters) {
 		feedback(sql);
-		return Handlers.toCompletionStage(
+		return observe( sql, () -> Handlers.toCompletionStage(
 				handler -> client().preparedQuery( sql ).execute( parameters, handler )
-		);
+		) );
 	}
 
 	public CompletionStage<RowSet<Row>> preparedQueryBatch(String sql, List<Tuple> parameters) {
 		feedback(sql);
-		return Handlers.toCompletionStage(
+		if ( metrics != null ) {
+			metrics.batchExecuted( sql, parameters.size() );
+		}
+		return observe( sql, () -> Handlers.toCompletionStage(
 				handler -> client().preparedQuery( sql ).executeBatch( parameters, handler )
-		);
+		) );
 	}
 
 	public CompletionStage<RowSet<Row>> preparedQuery(String sql) {
 		feedback(sql);
-		return Handlers.toCompletionStage(
+		return observe( sql, () -> Handlers.toCompletionStage(
 				handler -> client().preparedQuery( sql ).execute( handler )
-		);
+		) );
 	}
 
 	public CompletionStage<RowSet<Row>> preparedQueryOutsideTransaction(String sql) {
 		feedback(sql);
-		return Handlers.toCompletionStage(
+		return observe( sql, () -> Handlers.toCompletionStage(
 				handler -> pool.preparedQuery( sql ).execute( handler )
-		);
+		) );
+	}
+
+	/**
+	 * Prepare the given statement without executing it, so that
+	 * it's retained by the prepared statement cache of the
+	 * connection.
+	 */
+	CompletionStage<Void> prepare(String sql) {
+		final CompletableFuture<Void> prepared = new CompletableFuture<>();
+		connection.prepare( sql, ar -> {
+			if ( ar.succeeded() ) {
+				prepared.complete( null );
+			}
+			else {
+				prepared.completeExceptionally( ar.cause() );
+			}
+		} );
+		return prepared;
+	}
+
+	/**
+	 * Notify the {@link SqlClientPoolMetrics}, if any, of the
+	 * execution time and the result of the given statement.
+	 */
+	private CompletionStage<RowSet<Row>> observe(String sql, Supplier<CompletionStage<RowSet<Row>>> execution) {
+		if ( metrics == null ) {
+			return execution.get();
+		}
+		final long start = System.nanoTime();
+		return execution.get().whenComplete( (rows, e) -> {
+			final long executionNanos = System.nanoTime() - start;
+			if ( e == null ) {
+				metrics.statementExecuted( sql, executionNanos, rows.size(), rows.rowCount() );
+			}
+			else {
+				metrics.statementFailed( sql, executionNanos, e );
+			}
+		} );
 	}
 
 	private void feedback(String sql) {
@@ -197,6 +279,11 @@ private SqlClient client() {
 		return transaction != null ? transaction : connection;
 	}
 
+	@Override
+	public boolean isTransactionInProgress() {
+		return transaction != null;
+	}
+
 	@Override
 	public CompletionStage<Void> beginTransaction() {
 		transaction = connection.begin();
@@ -255,12 +342,19 @@ private static PropertyKind<Long> getMySqlLastInsertedId() {
 	private static class RowSetResult implements Result {
 		private final RowSet<Row> rowset;
 		private final RowIterator<Row> it;
+		private final RowSetView view = new RowSetView();
 
 		public RowSetResult(RowSet<Row> rowset) {
 			this.rowset = rowset;
 			it = rowset.iterator();
 		}
 
+		@Override
+		public RowView nextRow() {
+			view.row = it.next();
+			return view;
+		}
+
 		@Override
 		public int size() {
 			return rowset.size();
@@ -282,6 +376,97 @@ public Object[] next() {
 		}
 	}
 
+	/**
+	 * A reusable view of the current {@link Row} of a {@link RowSetResult}.
+	 */
+	private static class RowSetView implements RowView {
+		private Row row;
+
+		@Override
+		public int size() {
+			return row.size();
+		}
+
+		@Override
+		public boolean isNull(int column) {
+			return row.getValue( column ) == null;
+		}
+
+		@Override
+		public Object getValue(int column) {
+			return row.getValue( column );
+		}
+
+		@Override
+		public long getLong(int column) {
+			// the driver converts values of other types
+			Long value = row.getLong( column );
+			return value == null ? 0 : value;
+		}
+
+		@Override
+		public int getInt(int column) {
+			Integer value = row.getInteger( column );
+			return value == null ? 0 : value;
+		}
+
+		@Override
+		public String getString(int column) {
+			return row.getString( column );
+		}
+	}
+
+	/**
+	 * A {@link Cursor} based on Vert.x's {@link io.vertx.sqlclient.Cursor}.
+	 */
+	private class SqlClientCursor implements Cursor {
+		private final String sql;
+		private final PreparedStatement statement;
+		private final io.vertx.sqlclient.Cursor cursor;
+		private final boolean ownTransaction;
+		private boolean fetched;
+
+		SqlClientCursor(String sql, PreparedStatement statement, io.vertx.sqlclient.Cursor cursor, boolean ownTransaction) {
+			this.sql = sql;
+			this.statement = statement;
+			this.cursor = cursor;
+			this.ownTransaction = ownTransaction;
+		}
+
+		@Override
+		public CompletionStage<ResultSet> fetch(int count) {
+			return observe( sql, () -> Handlers.toCompletionStage(
+					handler -> cursor.read( count, handler )
+			) ).thenApply( rows -> {
+				fetched = true;
+				return new ResultSetAdaptor( rows );
+			} );
+		}
+
+		@Override
+		public boolean hasMore() {
+			// the Vert.x cursor doesn't know until the first read
+			return !fetched || cursor.hasMore();
+		}
+
+		@Override
+		public CompletionStage<Void> close() {
+			CompletionStage<Void> closed = Handlers.<Void>toCompletionStage( cursor::close )
+					.handle( (v, e) -> {
+						statement.close();
+						return returnOrRethrow( e, v );
+					} );
+			if ( !ownTransaction || transaction == null ) {
+				return closed;
+			}
+			// end the transaction even if the cursor could not be closed
+			return closed.handle( (v, e) -> e )
+					.thenCompose( e -> e == null
+							? commitTransaction()
+							: rollbackTransaction().handle( (v, re) -> returnOrRethrow( e, v ) ) );
+		}
+	}
+
 	@Override
 	public CompletionStage<Void> executeBatch() {
 		return voidFuture();
@@ -45,6 +45,14 @@ public abstract class SqlClientPool implements ReactiveConnectionPool {
 	 */
 	protected abstract SqlStatementLogger getSqlStatementLogger();
 
+	/**
+	 * @return the {@link SqlClientPoolMetrics} to notify of the execution
+	 *         of statements, or {@code null} if metrics are disabled
+	 */
+	protected SqlClientPoolMetrics getMetrics() {
+		return null;
+	}
+
 	/**
 	 * Get a {@link Pool} for the specified tenant.
 	 * <p>
@@ -83,8 +91,12 @@ private CompletionStage<ReactiveConnection> getConnectionFromPool(Pool pool) {
 		);
 	}
 
-	private SqlClientConnection newConnection(SqlConnection connection) {
-		return new SqlClientConnection( connection, getPool(), getSqlStatementLogger() );
+	/**
+	 * Wrap the given Vert.x {@link SqlConnection} obtained from the
+	 * {@link Pool} in a {@link SqlClientConnection}.
+	 */
+	protected SqlClientConnection newConnection(SqlConnection connection) {
+		return new SqlClientConnection( connection, getPool(), getSqlStatementLogger(), getMetrics() );
 	}
 
 	@Override
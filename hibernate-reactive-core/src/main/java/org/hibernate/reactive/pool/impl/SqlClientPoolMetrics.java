@@ -0,0 +1,83 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.pool.impl;
+
+import org.hibernate.service.Service;
+
+/**
+ * An observer of the connections obtained from a {@link DefaultSqlClientPool},
+ * and of the statements executed using them, for collecting metrics.
+ * <p>
+ * A custom implementation may be selected using the configuration property
+ * {@link org.hibernate.reactive.provider.Settings#SQL_CLIENT_POOL_METRICS}.
+ * By default, no metrics are collected, and the pool does no extra work.
+ * <p>
+ * The callbacks are invoked on Vert.x event loop threads, and so must
+ * never block.
+ */
+public interface SqlClientPoolMetrics extends Service {
+
+    /**
+     * If this method returns {@code false}, none of the other
+     * callbacks are ever invoked.
+     */
+    default boolean isEnabled() {
+        return true;
+    }
+
+    /**
+     * A connection was obtained from the pool belonging to the current
+     * Vert.x context.
+     *
+     * @param statistics the current statistics of the pool
+     * @param waitNanos the time spent waiting for the connection
+     */
+    default void connectionAcquired(ContextPoolStatistics statistics, long waitNanos) {}
+
+    /**
+     * A connection could not be obtained from the pool belonging to the
+     * current Vert.x context.
+     *
+     * @param statistics the current statistics of the pool
+     * @param waitNanos the time spent waiting before the failure
+     * @param failure the cause of the failure
+     */
+    default void connectionAcquisitionFailed(ContextPoolStatistics statistics, long waitNanos, Throwable failure) {}
+
+    /**
+     * A connection was returned to its pool.
+     *
+     * @param statistics the current statistics of the pool
+     */
+    default void connectionReleased(ContextPoolStatistics statistics) {}
+
+    /**
+     * A statement was executed successfully.
+     *
+     * @param sql the SQL statement
+     * @param executionNanos the time between sending the statement and receiving the result
+     * @param rowsReturned the number of rows returned by a query
+     * @param rowsAffected the number of rows affected by an insert, update, or delete
+     */
+    default void statementExecuted(String sql, long executionNanos, int rowsReturned, int rowsAffected) {}
+
+    /**
+     * The execution of a statement failed.
+     *
+     * @param sql the SQL statement
+     * @param executionNanos the time between sending the statement and receiving the failure
+     * @param failure the cause of the failure
+     */
+    default void statementFailed(String sql, long executionNanos, Throwable failure) {}
+
+    /**
+     * A batch of executions of a statement was sent to the database.
+     *
+     * @param sql the SQL statement
+     * @param batchSize the number of sets of parameters in the batch
+     */
+    default void batchExecuted(String sql, int batchSize) {}
+}
@@ -0,0 +1,49 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.pool.impl;
+
+import org.hibernate.HibernateException;
+import org.hibernate.boot.registry.StandardServiceInitiator;
+import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
+import org.hibernate.internal.CoreLogging;
+import org.hibernate.reactive.provider.Settings;
+import org.hibernate.service.spi.ServiceRegistryImplementor;
+
+import java.util.Map;
+
+/**
+ * A Hibernate {@link StandardServiceInitiator service initiator} that
+ * allows the user to define their own {@link SqlClientPoolMetrics}.
+ */
+public class SqlClientPoolMetricsInitiator implements StandardServiceInitiator<SqlClientPoolMetrics> {
+
+    public static final SqlClientPoolMetricsInitiator INSTANCE = new SqlClientPoolMetricsInitiator();
+
+    @Override
+    public SqlClientPoolMetrics initiateService(Map configurationValues, ServiceRegistryImplementor registry) {
+        String metricsClassName = (String) configurationValues.get( Settings.SQL_CLIENT_POOL_METRICS );
+        if ( metricsClassName==null ) {
+            return NoSqlClientPoolMetrics.INSTANCE;
+        }
+        else {
+            CoreLogging.messageLogger( DefaultSqlClientPool.class ).infof( "HRX000020: Using SQL client pool metrics [%s]", metricsClassName );
+            final ClassLoaderService classLoaderService = registry.getService( ClassLoaderService.class );
+            try {
+                return (SqlClientPoolMetrics) classLoaderService.classForName( metricsClassName ).newInstance();
+            }
+            catch (Exception e) {
+                throw new HibernateException(
+                        "Could not instantiate SQL client pool metrics [" + metricsClassName + "]", e
+                );
+            }
+        }
+    }
+
+    @Override
+    public Class<SqlClientPoolMetrics> getServiceInitiated() {
+        return SqlClientPoolMetrics.class;
+    }
+}
@@ -6,6 +6,7 @@
 package org.hibernate.reactive.pool.impl;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.function.Supplier;
@@ -21,6 +22,13 @@
  * When this class is created, no Pool instances are created: these need
  * to be created within the thread of the consumer, so all actual
  * connection creations are deferred to actual usage context.
+ * <p>
+ * Optionally, the thread-local pools may share a global
+ * {@link SharedConnectionBudget}, in which case the configured pool
+ * size limits the number of connections open across all contexts,
+ * instead of the number of connections in each context. A pool which
+ * gives back its share of the budget is closed, and replaced by a new
+ * pool the next time its context needs a connection.
  *
  * @param <PoolType> could be useful to pool database specific types of connection pools.
  * @author Sanne Grinovero
@@ -33,29 +41,98 @@
 	//The pool instance for the current thread
 	private final ThreadLocal<PoolType> threadLocal = new ThreadLocal<>();
 
+	//Statistics of all opened pools. Access requires synchronization on threadLocalPools.
+	private final List<ContextPoolStatistics> statistics = new ArrayList<>();
+
+	//The statistics of the pool for the current thread
+	private final ThreadLocal<ContextPoolStatistics> threadLocalStatistics = new ThreadLocal<>();
+
+	//The share of the budget of the pool for the current thread
+	private final ThreadLocal<SharedConnectionBudget.Share> threadLocalShare = new ThreadLocal<>();
+
 	private final Supplier<PoolType> poolSupplier;
 
+	//The budget shared by all pools, or null if each pool has its own
+	private final SharedConnectionBudget budget;
+
 	private volatile boolean closed = false;
 
 	public ThreadLocalPoolManager(Supplier<PoolType> poolSupplier) {
+		this( poolSupplier, null );
+	}
+
+	public ThreadLocalPoolManager(Supplier<PoolType> poolSupplier, SharedConnectionBudget budget) {
 		Objects.requireNonNull( poolSupplier );
 		this.poolSupplier = poolSupplier;
+		this.budget = budget;
+	}
+
+	/**
+	 * @return the {@link SharedConnectionBudget} shared by the pools,
+	 *         or {@code null} if every pool is sized independently
+	 */
+	public SharedConnectionBudget getConnectionBudget() {
+		return budget;
 	}
 
 	public PoolType getOrStartPool() {
 		checkPoolIsOpen();
 		PoolType pool = threadLocal.get();
-		if ( pool == null ) {
+		if ( pool == null || ( budget != null && threadLocalShare.get().isRetired() ) ) {
 			synchronized ( threadLocalPools ) {
 				checkPoolIsOpen();
 				pool = createThreadLocalPool();
 				threadLocalPools.add( pool );
 				threadLocal.set( pool );
+				if ( budget != null ) {
+					final PoolType newPool = pool;
+					threadLocalShare.set( budget.newShare( () -> retire( newPool ) ) );
+				}
+				if ( threadLocalStatistics.get() == null ) {
+					ContextPoolStatistics poolStatistics = new ContextPoolStatistics( Thread.currentThread().getName() );
+					statistics.add( poolStatistics );
+					threadLocalStatistics.set( poolStatistics );
+				}
 			}
 		}
 		return pool;
 	}
 
+	/**
+	 * @return the share of the {@link SharedConnectionBudget} of the
+	 *         pool for the current thread, starting the pool if necessary
+	 */
+	public SharedConnectionBudget.Share getShare() {
+		getOrStartPool();
+		return threadLocalShare.get();
+	}
+
+	private void retire(Pool pool) {
+		synchronized ( threadLocalPools ) {
+			if ( threadLocalPools.remove( pool ) ) {
+				pool.close();
+			}
+		}
+	}
+
+	/**
+	 * @return the {@link ContextPoolStatistics} of the pool for the
+	 *         current thread, starting the pool if necessary
+	 */
+	public ContextPoolStatistics getStatistics() {
+		getOrStartPool();
+		return threadLocalStatistics.get();
+	}
+
+	/**
+	 * @return the {@link ContextPoolStatistics} of every pool
+	 */
+	public List<ContextPoolStatistics> getAllStatistics() {
+		synchronized ( threadLocalPools ) {
+			return Collections.unmodifiableList( new ArrayList<>( statistics ) );
+		}
+	}
+
 	private void checkPoolIsOpen() {
 		if ( closed ) {
 			throw new IllegalStateException("This Pool has been closed");
@@ -50,11 +50,149 @@ public interface Settings extends AvailableSettings {
 	 */
 	String POOL_IDLE_TIMEOUT = "hibernate.vertx.pool.idle_timeout";
 
+	/**
+	 * The number of connections opened in advance by the pool belonging
+	 * to each Vert.x event loop when the {@code SessionFactory} is created.
+	 * The frequently-executed SQL statements of each entity are prepared
+	 * on these connections. By default, no connections are opened in advance.
+	 *
+	 * @see org.hibernate.reactive.pool.impl.DefaultSqlClientPool#warmUp(java.util.Collection)
+	 */
+	String POOL_WARMUP_SIZE = "hibernate.vertx.pool.warmup_size";
+
+	/**
+	 * The maximum time, in milliseconds, that the creation of the
+	 * {@code SessionFactory} waits for the warm-up specified by
+	 * {@link #POOL_WARMUP_SIZE} to complete. If the warm-up takes
+	 * longer, it continues in the background. The default is 30 seconds.
+	 */
+	String POOL_WARMUP_TIMEOUT = "hibernate.vertx.pool.warmup_timeout";
+
+	/**
+	 * When enabled, the connection pool size specified by
+	 * {@link #POOL_SIZE} is a global budget shared between the
+	 * pools belonging to the different Vert.x event loops, instead
+	 * of the size of each of those pools.
+	 *
+	 * @see org.hibernate.reactive.pool.impl.SharedConnectionBudget
+	 */
+	String POOL_SHARED_BUDGET = "hibernate.vertx.pool.shared_budget";
+
+	/**
+	 * A comma-separated list of JDBC URLs or database URIs of read replicas
+	 * of the database specified by {@link #URL}, for use with
+	 * {@link org.hibernate.reactive.pool.impl.ReplicaRoutingSqlClientPool}.
+	 */
+	String REPLICA_URLS = "hibernate.vertx.pool.replica_urls";
+
+	/**
+	 * When enabled, and when batching is enabled via {@link #STATEMENT_BATCH_SIZE},
+	 * the batches of statements resulting from a flush are sent back-to-back,
+	 * and their results are awaited only at the end of the flush.
+	 * Batches are only pipelined within a transaction, which is rolled back
+	 * if one of the batches fails.
+	 *
+	 * @see org.hibernate.reactive.pool.BatchingConnection
+	 */
+	String BATCH_PIPELINING = "hibernate.reactive.batch_pipelining";
+
+	/**
+	 * Specifies the number of ids remaining in the current block allocated
+	 * by a sequence or table generator at which the next block is fetched
+	 * in the background. By default, the next block is only fetched when
+	 * the current block is exhausted.
+	 *
+	 * @see org.hibernate.reactive.id.impl.BlockingIdentifierGenerator
+	 */
+	String ID_BLOCK_LOW_WATER_MARK = "hibernate.reactive.id.block_low_water_mark";
+
+	/**
+	 * Specifies the node id used by the {@code "snowflake"} identifier
+	 * generator, a number between 0 and 1023, which must be different for
+	 * each process generating identifiers for the same tables. The default
+	 * is 0. It may be overridden by the generator parameter {@code node_id}.
+	 *
+	 * @see org.hibernate.reactive.id.impl.SnowflakeReactiveIdentifierGenerator
+	 */
+	String ID_NODE_ID = "hibernate.reactive.id.node_id";
+
+	/**
+	 * When enabled, a sequence generator with no explicit {@code optimizer}
+	 * parameter interprets the values of its sequence using the optimizer
+	 * Hibernate ORM would choose: {@code pooled} when the increment size is
+	 * greater than 1, unless {@code hibernate.id.optimizer.pooled.preferred}
+	 * says otherwise. Disabled by default, in which case the values are
+	 * interpreted as for {@code pooled-lo}.
+	 * <p>
+	 * Migration note: {@code pooled} maps each value of the sequence to the
+	 * block ending at that value, while {@code pooled-lo} maps it to the
+	 * block starting there, so enabling this setting for a sequence which
+	 * was already in use would hand out ids which were already used.
+	 * Before enabling it, advance the sequence by one increment.
+	 *
+	 * @see org.hibernate.reactive.id.impl.SequenceReactiveIdentifierGenerator
+	 */
+	String SEQUENCE_GENERATOR_ORM_OPTIMIZER = "hibernate.reactive.id.sequence_generator.orm_optimizer";
+
+	/**
+	 * When enabled, a table generator obtains each new hi value using a
+	 * separate connection from the pool, in its own short transaction,
+	 * instead of using the connection and transaction of the session, so
+	 * that the row of the generator table is not locked until the session
+	 * commits. Disabled by default.
+	 *
+	 * @see org.hibernate.reactive.id.impl.TableReactiveIdentifierGenerator
+	 */
+	String TABLE_GENERATOR_ISOLATED = "hibernate.reactive.id.table_generator.isolated";
+
+	/**
+	 * Specifies the maximum number of attempts a table generator makes to
+	 * obtain a new hi value when the row of the generator table is updated
+	 * concurrently. There is a short random delay, which grows with each
+	 * attempt, before each retry. The default is 10.
+	 *
+	 * @see org.hibernate.reactive.id.impl.TableReactiveIdentifierGenerator
+	 */
+	String TABLE_GENERATOR_MAX_RETRIES = "hibernate.reactive.id.table_generator.max_retries";
+
+	/**
+	 * When enabled, and when batching is enabled via {@link #STATEMENT_BATCH_SIZE},
+	 * a batch of inserts is rewritten as a smaller number of multi-row
+	 * {@code insert ... values (...), (...)} statements.
+	 *
+	 * @see org.hibernate.reactive.pool.impl.MultiRowInsertRewriter
+	 */
+	String BATCH_REWRITE_INSERTS = "hibernate.reactive.batch_rewrite_inserts";
+
+	/**
+	 * Selects an asynchronous {@link org.hibernate.reactive.cache.ReactiveRegionFactory},
+	 * which is consulted in place of the regions of the ORM second-level cache:
+	 * either {@code local}, for the bundled in-process implementation, or the
+	 * name of a class implementing the interface.
+	 *
+	 * @see org.hibernate.reactive.cache.impl.ReactiveRegionFactoryInitiator
+	 */
+	String CACHE_REGION_FACTORY = "hibernate.reactive.cache.region_factory";
+
+	/**
+	 * Specifies the maximum number of entries held by each region of the
+	 * {@code local} {@link #CACHE_REGION_FACTORY}. The least recently used
+	 * entry is evicted when a region is full. The default is 10000.
+	 *
+	 * @see org.hibernate.reactive.cache.impl.LocalReactiveRegionFactory
+	 */
+	String CACHE_MAX_ENTRIES = "hibernate.reactive.cache.max_entries";
+
 	/**
 	 * Specifies a {@link org.hibernate.reactive.pool.impl.SqlClientPoolConfiguration} class.
 	 */
 	String SQL_CLIENT_POOL_CONFIG = "hibernate.vertx.pool.configuration_class";
 
+	/**
+	 * Specifies a {@link org.hibernate.reactive.pool.impl.SqlClientPoolMetrics} class.
+	 */
+	String SQL_CLIENT_POOL_METRICS = "hibernate.vertx.pool.metrics_class";
+
 	/**
 	 * Specifies a {@link org.hibernate.reactive.pool.impl.SqlClientPoolConfiguration} class.
 	 */
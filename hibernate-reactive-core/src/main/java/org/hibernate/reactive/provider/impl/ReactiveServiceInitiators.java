@@ -21,7 +21,9 @@
 import org.hibernate.jmx.internal.JmxServiceInitiator;
 import org.hibernate.persister.internal.PersisterFactoryInitiator;
 import org.hibernate.property.access.internal.PropertyAccessStrategyResolverInitiator;
+import org.hibernate.reactive.cache.impl.ReactiveRegionFactoryInitiator;
 import org.hibernate.reactive.pool.impl.SqlClientPoolConfigurationInitiator;
+import org.hibernate.reactive.pool.impl.SqlClientPoolMetricsInitiator;
 import org.hibernate.reactive.provider.service.NoJdbcMultiTenantConnectionProviderInitiator;
 import org.hibernate.reactive.provider.service.ReactiveMarkerServiceInitiator;
 import org.hibernate.reactive.provider.service.NoJdbcConnectionProviderInitiator;
@@ -65,6 +67,7 @@ private static List<StandardServiceInitiator> buildInitialServiceInitiatorList()
 
         // Exclusive to Hibernate Reactive:
         serviceInitiators.add( SqlClientPoolConfigurationInitiator.INSTANCE );
+        serviceInitiators.add( SqlClientPoolMetricsInitiator.INSTANCE );
         serviceInitiators.add( ReactiveConnectionPoolInitiator.INSTANCE );
 
         //Custom for Hibernate Reactive:
@@ -114,6 +117,9 @@ private static List<StandardServiceInitiator> buildInitialServiceInitiatorList()
 
         serviceInitiators.add( RegionFactoryInitiator.INSTANCE );
 
+        // Exclusive to Hibernate Reactive:
+        serviceInitiators.add( ReactiveRegionFactoryInitiator.INSTANCE );
+
         serviceInitiators.add( TransactionCoordinatorBuilderInitiator.INSTANCE );
 
         serviceInitiators.add( ManagedBeanRegistryInitiator.INSTANCE );
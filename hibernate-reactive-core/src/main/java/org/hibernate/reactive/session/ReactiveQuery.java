@@ -22,10 +22,13 @@
 import javax.persistence.NoResultException;
 import javax.persistence.NonUniqueResultException;
 import javax.persistence.Parameter;
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CompletionStage;
 
+import static org.hibernate.reactive.util.impl.CompletionStages.completedFuture;
 import static org.hibernate.reactive.util.impl.CompletionStages.returnOrRethrow;
+import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
 
 /**
  * An internal contract between the reactive session implementation
@@ -37,6 +40,13 @@
 @Incubating
 public interface ReactiveQuery<R> {
 
+	/**
+	 * The number of results fetched at a time when the results of a
+	 * query are streamed, if no {@linkplain #setFetchSize(int) fetch
+	 * size} was specified.
+	 */
+	int DEFAULT_FETCH_SIZE = 100;
+
 	void setParameterMetadata(InterpretedParameterMetadata parameterMetadata);
 
 	CompletionStage<R> getReactiveSingleResult();
@@ -54,6 +64,35 @@ default CompletionStage<R> getReactiveSingleResultOrNull() {
 		} );
 	}
 
+	/**
+	 * Execute the query, obtaining a {@link ReactiveScroll} which
+	 * fetches the results in chunks of the given size. By default,
+	 * the whole result list is fetched at once, as a single chunk.
+	 */
+	default CompletionStage<ReactiveScroll<R>> getReactiveResultScroll(int fetchSize) {
+		return getReactiveResultList().thenApply( list -> new ReactiveScroll<R>() {
+			private boolean fetched;
+
+			@Override
+			public CompletionStage<List<R>> next() {
+				List<R> chunk = fetched ? Collections.emptyList() : list;
+				fetched = true;
+				return completedFuture( chunk );
+			}
+
+			@Override
+			public boolean hasMore() {
+				return !fetched;
+			}
+
+			@Override
+			public CompletionStage<Void> close() {
+				fetched = true;
+				return voidFuture();
+			}
+		} );
+	}
+
 	CompletionStage<Integer> executeReactiveUpdate();
 
 	ReactiveQuery<R> setParameter(int position, Object value);
@@ -70,6 +109,10 @@ default CompletionStage<R> getReactiveSingleResultOrNull() {
 
 	int getFirstResult();
 
+	ReactiveQuery<R> setFetchSize(int fetchSize);
+
+	Integer getFetchSize();
+
 	ReactiveQuery<R> setReadOnly(boolean readOnly);
 
 	boolean isReadOnly();
@@ -36,6 +36,8 @@ public interface ReactiveQueryExecutor extends ReactiveConnectionSupplier {
     <T> CompletionStage<List<T>> reactiveList(String query, QueryParameters parameters);
     <T> CompletionStage<List<T>> reactiveList(NativeSQLQuerySpecification spec, QueryParameters parameters);
 
+    <T> CompletionStage<ReactiveScroll<T>> reactiveScroll(String query, QueryParameters parameters, int fetchSize);
+
     CompletionStage<Integer> executeReactiveUpdate(String expandedQuery, QueryParameters parameters);
     CompletionStage<Integer> executeReactiveUpdate(NativeSQLQuerySpecification specification,
                                                    QueryParameters parameters);
@@ -0,0 +1,67 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.session;
+
+import com.ibm.asyncutil.iteration.AsyncTrampoline;
+import org.hibernate.Incubating;
+
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+
+import static org.hibernate.reactive.util.impl.CompletionStages.returnNullorRethrow;
+import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
+
+/**
+ * The results of a query, fetched incrementally from a database
+ * cursor in chunks. An internal contract between the reactive
+ * session implementation and the streaming operations of the
+ * {@link org.hibernate.reactive.stage.Stage.Query} and
+ * {@link org.hibernate.reactive.mutiny.Mutiny.Query} APIs.
+ * <p>
+ * The cursor must be {@linkplain #close() closed} once the
+ * results are no longer needed, and no other operation may be
+ * performed by the session while the cursor is open.
+ *
+ * @see ReactiveQuery#getReactiveResultScroll(int)
+ */
+@Incubating
+public interface ReactiveScroll<R> {
+
+	/**
+	 * Fetch and hydrate the next chunk of results.
+	 *
+	 * @return the next chunk, which is empty if there are no more results
+	 */
+	CompletionStage<List<R>> next();
+
+	/**
+	 * @return {@code false} if it's known that there are no more results
+	 */
+	boolean hasMore();
+
+	/**
+	 * Close the underlying database cursor.
+	 */
+	CompletionStage<Void> close();
+
+	/**
+	 * Fetch each chunk of results in turn, passing it to the given
+	 * function, and waiting for the stage returned by the function
+	 * to complete before fetching the next chunk. The scroll is
+	 * closed when the last chunk has been processed, or when the
+	 * function fails.
+	 */
+	default CompletionStage<Void> forEachChunk(Function<List<R>, CompletionStage<?>> consumer) {
+		return AsyncTrampoline.asyncWhile(
+				() -> next()
+						.thenCompose( chunk -> chunk.isEmpty() ? voidFuture() : consumer.apply( chunk ).thenCompose( v -> voidFuture() ) )
+						.thenApply( v -> hasMore() )
+		)
+				.handle( (v, e) -> e )
+				.thenCompose( e -> close().<Void>handle( (v, ce) -> returnNullorRethrow( e == null ? ce : e ) ) );
+	}
+}
@@ -17,6 +17,7 @@
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.event.internal.MergeContext;
 import org.hibernate.internal.util.collections.IdentitySet;
+import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.reactive.engine.ReactiveActionQueue;
 
 import javax.persistence.EntityGraph;
@@ -54,6 +55,19 @@ public interface ReactiveSession extends ReactiveQueryExecutor {
 
 	CompletionStage<Void> reactivePersist(Object object, IdentitySet copiedAlready);
 
+	/**
+	 * Persist the given entities, reserving the generated identifiers
+	 * of the instances of each entity all at once.
+	 */
+	CompletionStage<Void> reactivePersistAll(Object... entities);
+
+	/**
+	 * Obtain an identifier reserved for a new instance of the given
+	 * entity by {@link #reactivePersistAll(Object...)}, or null if
+	 * there is no such identifier.
+	 */
+	Serializable takeReservedIdentifier(EntityPersister persister);
+
 	CompletionStage<Void> reactivePersistOnFlush(Object entity, IdentitySet copiedAlready);
 
 	CompletionStage<Void> reactiveRemove(Object entity);
@@ -110,6 +124,9 @@ <T> CompletionStage<T> reactiveFind(Class<T> entityClass, Object id,
 	Integer getBatchSize();
 	void setBatchSize(Integer batchSize);
 
+	boolean isFetchCoalescing();
+	void setFetchCoalescing(boolean enabled);
+
 	<T> T getReference(Class<T> entityClass, Object id);
 
 	void detach(Object entity);
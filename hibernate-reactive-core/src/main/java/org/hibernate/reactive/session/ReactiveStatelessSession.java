@@ -40,6 +40,8 @@ public interface ReactiveStatelessSession extends ReactiveQueryExecutor {
 
     CompletionStage<Void> reactiveInsertAll(Object... entities);
 
+    CompletionStage<Void> reactiveBulkInsert(Object... entities);
+
     CompletionStage<Void> reactiveUpdateAll(Object... entities);
 
     CompletionStage<Void> reactiveDeleteAll(Object... entities);
@@ -0,0 +1,172 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.session.impl;
+
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.persister.collection.QueryableCollection;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.persister.entity.OuterJoinLoadable;
+import org.hibernate.reactive.loader.collection.impl.ReactiveDynamicBatchingCollectionInitializerBuilder;
+import org.hibernate.reactive.loader.entity.impl.InternalMultiLoadOptions;
+import org.hibernate.reactive.loader.entity.impl.ReactiveDynamicBatchingEntityLoaderBuilder;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.BiFunction;
+
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+
+import static org.hibernate.reactive.util.impl.CompletionStages.loop;
+import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
+
+/**
+ * Collects requests to fetch unfetched proxies and collections which
+ * arrive during a single task on the Vert.x event loop, and, once the
+ * task completes, dispatches them as one batched load per entity type
+ * or collection role, using the dynamic batching loaders.
+ * <p>
+ * The batches are executed one after the other, since the session may
+ * only perform one operation at a time, and the requests are completed
+ * only once every batch has been loaded, so that no request resumes
+ * work on the session while the dispatch is still using it. Requests
+ * which arrive while a dispatch is in progress are held until it
+ * completes.
+ *
+ * @see ReactiveSessionImpl#setFetchCoalescing(boolean)
+ */
+class FetchCoalescer {
+
+	private final ReactiveSessionImpl session;
+
+	private Map<EntityPersister, Map<Serializable, CompletableFuture<Void>>> entities = new LinkedHashMap<>();
+	private Map<CollectionPersister, Map<Serializable, CompletableFuture<Void>>> collections = new LinkedHashMap<>();
+	private boolean scheduled;
+	private boolean dispatching;
+
+	FetchCoalescer(ReactiveSessionImpl session) {
+		this.session = session;
+	}
+
+	/**
+	 * @return a stage which completes when the entity with the given id has
+	 *         been loaded into the persistence context, if it exists
+	 */
+	CompletionStage<Void> fetchEntity(EntityPersister persister, Serializable id) {
+		return enqueue( entities, persister, id );
+	}
+
+	/**
+	 * @return a stage which completes when the collection with the given key,
+	 *         which is already associated with the session, has been initialized
+	 */
+	CompletionStage<Void> fetchCollection(CollectionPersister persister, Serializable key) {
+		return enqueue( collections, persister, key );
+	}
+
+	private <P> CompletionStage<Void> enqueue(
+			Map<P, Map<Serializable, CompletableFuture<Void>>> pending,
+			P persister,
+			Serializable key) {
+		CompletableFuture<Void> result = pending.computeIfAbsent( persister, p -> new LinkedHashMap<>() )
+				.computeIfAbsent( key, k -> new CompletableFuture<>() );
+		schedule();
+		return result;
+	}
+
+	private void schedule() {
+		if ( !scheduled && !dispatching ) {
+			scheduled = true;
+			Context context = Vertx.currentContext();
+			if ( context == null ) {
+				// there's no event loop task to wait for
+				dispatch();
+			}
+			else {
+				context.runOnContext( v -> dispatch() );
+			}
+		}
+	}
+
+	private void dispatch() {
+		scheduled = false;
+		dispatching = true;
+
+		Map<EntityPersister, Map<Serializable, CompletableFuture<Void>>> entityBatches = entities;
+		Map<CollectionPersister, Map<Serializable, CompletableFuture<Void>>> collectionBatches = collections;
+		entities = new LinkedHashMap<>();
+		collections = new LinkedHashMap<>();
+
+		List<Runnable> completions = new ArrayList<>();
+		loop( entityBatches.entrySet(), batch -> load( batch, this::loadEntities, completions ) )
+				.thenCompose( v -> loop( collectionBatches.entrySet(), batch -> load( batch, this::loadCollections, completions ) ) )
+				.whenComplete( (v, x) -> {
+					dispatching = false;
+					completions.forEach( Runnable::run );
+					if ( x != null ) {
+						// has no effect on the requests already completed
+						entityBatches.values().forEach( requests -> fail( requests, x ) );
+						collectionBatches.values().forEach( requests -> fail( requests, x ) );
+					}
+					if ( !entities.isEmpty() || !collections.isEmpty() ) {
+						schedule();
+					}
+				} );
+	}
+
+	/**
+	 * Load a single batch, and add the completion of the stage of every
+	 * request in it to the given list. A failure is reported to the
+	 * requests in the batch, but does not stop the other batches from
+	 * being loaded.
+	 */
+	private static <P> CompletionStage<Void> load(
+			Map.Entry<P, Map<Serializable, CompletableFuture<Void>>> batch,
+			BiFunction<P, Serializable[], CompletionStage<Void>> loader,
+			List<Runnable> completions) {
+		Map<Serializable, CompletableFuture<Void>> requests = batch.getValue();
+		CompletionStage<Void> loaded;
+		try {
+			loaded = loader.apply( batch.getKey(), requests.keySet().toArray( new Serializable[0] ) );
+		}
+		catch (RuntimeException e) {
+			CompletableFuture<Void> failure = new CompletableFuture<>();
+			failure.completeExceptionally( e );
+			loaded = failure;
+		}
+		return loaded.handle( (v, x) -> {
+			completions.add( () -> {
+				if ( x == null ) {
+					requests.values().forEach( request -> request.complete( null ) );
+				}
+				else {
+					fail( requests, x );
+				}
+			} );
+			return null;
+		} );
+	}
+
+	private static void fail(Map<Serializable, CompletableFuture<Void>> requests, Throwable failure) {
+		requests.values().forEach( request -> request.completeExceptionally( failure ) );
+	}
+
+	private CompletionStage<Void> loadEntities(EntityPersister persister, Serializable[] ids) {
+		return ReactiveDynamicBatchingEntityLoaderBuilder.INSTANCE
+				.multiLoad( (OuterJoinLoadable) persister, ids, session, new InternalMultiLoadOptions( session.getCacheMode() ) )
+				.thenCompose( list -> voidFuture() );
+	}
+
+	private CompletionStage<Void> loadCollections(CollectionPersister persister, Serializable[] keys) {
+		return ReactiveDynamicBatchingCollectionInitializerBuilder.INSTANCE
+				.batchLoad( (QueryableCollection) persister, keys, session );
+	}
+}
@@ -7,6 +7,7 @@
 
 import org.hibernate.Filter;
 import org.hibernate.HibernateException;
+import org.hibernate.QueryException;
 import org.hibernate.action.internal.BulkOperationCleanupAction;
 import org.hibernate.engine.query.spi.EntityGraphQueryHint;
 import org.hibernate.engine.query.spi.HQLQueryPlan;
@@ -19,6 +20,7 @@
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.internal.util.collections.IdentitySet;
 import org.hibernate.reactive.session.ReactiveQueryExecutor;
+import org.hibernate.reactive.session.ReactiveScroll;
 import org.hibernate.reactive.util.impl.CompletionStages;
 
 import java.util.ArrayList;
@@ -27,6 +29,8 @@
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import static org.hibernate.reactive.cache.impl.ReactiveEntityCacheHelper.evictAll;
+
 /**
  * A reactific {@link HQLQueryPlan}
  */
@@ -163,6 +167,29 @@ private void needsLimitLoop(QueryParameters queryParameters,
 		}
 	}
 
+	/**
+	 * @param <T> the type of the query results
+	 *
+	 * @see HQLQueryPlan#performScroll(QueryParameters, SharedSessionContractImplementor)
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> CompletionStage<ReactiveScroll<T>> performReactiveScroll(QueryParameters queryParameters,
+																		SharedSessionContractImplementor session,
+																		int fetchSize)
+			throws HibernateException {
+		if ( log.isTraceEnabled() ) {
+			log.tracev( "Iterate: {0}", getSourceQuery() );
+			queryParameters.traceParameters( session.getFactory() );
+		}
+
+		final QueryTranslator[] translators = getTranslators();
+		if ( translators.length != 1 ) {
+			throw new QueryException( "implicit polymorphism not supported for streamed queries" );
+		}
+		return ( (ReactiveQueryTranslatorImpl) translators[0] ).reactiveScroll( session, queryParameters, fetchSize )
+				.thenApply( scroll -> (ReactiveScroll<T>) scroll );
+	}
+
 	public CompletionStage<Integer> performExecuteReactiveUpdate(QueryParameters queryParameters,
 																 ReactiveQueryExecutor session) {
 		if ( log.isTraceEnabled() ) {
@@ -182,8 +209,11 @@ public CompletionStage<Integer> performExecuteReactiveUpdate(QueryParameters que
 							session.getSharedContract(),
 							translator.getQuerySpaces()
 					) );
-					return ((ReactiveQueryTranslatorImpl) translator)
-							.executeReactiveUpdate( queryParameters, session );
+					// like the BulkOperationCleanupAction, evict the
+					// asynchronous regions before executing the update
+					return evictAll( translator.getQuerySpaces(), session.getFactory() )
+							.thenCompose( v -> ((ReactiveQueryTranslatorImpl) translator)
+									.executeReactiveUpdate( queryParameters, session ) );
 				}
 		);
 	}
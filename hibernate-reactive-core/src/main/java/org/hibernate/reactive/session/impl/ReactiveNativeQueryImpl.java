@@ -142,6 +142,12 @@ public ReactiveNativeQueryImpl<R> setFirstResult(int firstResult) {
 		return this;
 	}
 
+	@Override
+	public ReactiveNativeQueryImpl<R> setFetchSize(int fetchSize) {
+		super.setFetchSize(fetchSize);
+		return this;
+	}
+
 	@Override
 	public ReactiveNativeQueryImpl<R> setReadOnly(boolean readOnly) {
 		super.setReadOnly(readOnly);
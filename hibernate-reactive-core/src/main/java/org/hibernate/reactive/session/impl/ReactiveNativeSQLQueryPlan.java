@@ -17,6 +17,8 @@
 
 import java.util.concurrent.CompletionStage;
 
+import static org.hibernate.reactive.cache.impl.ReactiveEntityCacheHelper.evictAll;
+
 public class ReactiveNativeSQLQueryPlan extends NativeSQLQueryPlan {
 
 	private final String sourceQuery;
@@ -67,7 +69,11 @@ public CompletionStage<Integer> performExecuteReactiveUpdate(QueryParameters que
 				.addSqlHintOrComment( queryParameters.getFilteredSQL(), queryParameters, commentsEnabled );
 
 		sql = process( session, sql, params );
-		return session.getReactiveConnection().update( sql, params );
+		final String finalSql = sql;
+		// like the BulkOperationCleanupAction, evict the
+		// asynchronous regions before executing the update
+		return evictAll( getCustomQuery().getQuerySpaces(), session.getFactory() )
+				.thenCompose( v -> session.getReactiveConnection().update( finalSql, params ) );
 	}
 
 	private String process(ReactiveQueryExecutor session, String sql, Object[] params) {
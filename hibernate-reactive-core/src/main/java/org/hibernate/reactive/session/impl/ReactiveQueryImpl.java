@@ -21,6 +21,7 @@
 import org.hibernate.query.internal.QueryImpl;
 import org.hibernate.reactive.session.ReactiveQuery;
 import org.hibernate.reactive.session.ReactiveQueryExecutor;
+import org.hibernate.reactive.session.ReactiveScroll;
 import org.hibernate.transform.ResultTransformer;
 
 import javax.persistence.EntityGraph;
@@ -111,6 +112,22 @@ public CompletionStage<List<R>> getReactiveResultList() {
 				.handle( (count, error) -> convertQueryException( count, error, this ) );
 	}
 
+	@Override
+	public CompletionStage<ReactiveScroll<R>> getReactiveResultScroll(int fetchSize) {
+		if ( type!=null && type!=QueryType.SELECT ) {
+			throw new UnsupportedOperationException("not a select query");
+		}
+		if ( getMaxResults() == 0 ) {
+			return ReactiveQuery.super.getReactiveResultScroll( fetchSize );
+		}
+		beforeQuery();
+		String expanded = expandedQuery();
+		return reactiveProducer()
+				.<R>reactiveScroll( expanded, makeReactiveQueryParametersForExecution(expanded), fetchSize )
+				.whenComplete( (scroll, err) -> afterQuery() )
+				.handle( (scroll, error) -> convertQueryException( scroll, error, this ) );
+	}
+
 	private CompletionStage<List<R>> doReactiveList() {
 		if ( getMaxResults() == 0 ) {
 			return completedFuture( Collections.emptyList() );
@@ -218,6 +235,12 @@ public ReactiveQueryImpl<R> setFirstResult(int firstResult) {
 		return this;
 	}
 
+	@Override
+	public ReactiveQueryImpl<R> setFetchSize(int fetchSize) {
+		super.setFetchSize(fetchSize);
+		return this;
+	}
+
 	@Override
 	public ReactiveQueryImpl<R> setReadOnly(boolean readOnly) {
 		super.setReadOnly(readOnly);
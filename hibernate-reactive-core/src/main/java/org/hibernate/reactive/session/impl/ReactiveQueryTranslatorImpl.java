@@ -12,6 +12,7 @@
 import java.util.concurrent.CompletionStage;
 
 import org.hibernate.HibernateException;
+import org.hibernate.QueryException;
 import org.hibernate.engine.query.spi.EntityGraphQueryHint;
 import org.hibernate.engine.spi.QueryParameters;
 import org.hibernate.engine.spi.RowSelection;
@@ -36,6 +37,7 @@
 import org.hibernate.reactive.pool.ReactiveConnection;
 import org.hibernate.reactive.pool.impl.Parameters;
 import org.hibernate.reactive.session.ReactiveQueryExecutor;
+import org.hibernate.reactive.session.ReactiveScroll;
 import org.hibernate.reactive.util.impl.CompletionStages;
 
 import org.jboss.logging.Logger;
@@ -169,6 +171,22 @@ public CompletionStage<List<Object>> reactiveList(SharedSessionContractImplement
 				} );
 	}
 
+	/**
+	 * Execute the query using a database cursor. Since the rows for
+	 * a single entity with a fetched collection might be split across
+	 * two chunks, queries with collection fetches are not supported.
+	 */
+	public CompletionStage<ReactiveScroll<Object>> reactiveScroll(SharedSessionContractImplementor session,
+																  QueryParameters queryParameters,
+																  int fetchSize)
+			throws HibernateException {
+		errorIfDML();
+		if ( containsCollectionFetches() ) {
+			throw new QueryException( "Cannot stream the results of a query with collection fetches", getQueryString() );
+		}
+		return queryLoader.reactiveScroll( session, queryParameters, fetchSize );
+	}
+
 	/**
 	 * The reactive version of
 	 * {@link QueryTranslatorImpl#executeUpdate(QueryParameters, SharedSessionContractImplementor)}.
@@ -0,0 +1,241 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.session.impl;
+
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import org.hibernate.reactive.session.ReactiveScroll;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * A {@link Publisher} of the results of a query, which are fetched
+ * from a {@link ReactiveScroll} one chunk at a time, and only when
+ * the subscriber has requested more results than have already been
+ * fetched.
+ * <p>
+ * The scroll is opened when the subscriber first requests a result,
+ * and is closed when the last result has been emitted, when a fetch
+ * fails, or when the subscription is cancelled. Every operation on
+ * the scroll is performed on the Vert.x context in which the scroll
+ * was opened.
+ */
+public class ReactiveScrollPublisher<R> implements Publisher<R> {
+
+	private final Supplier<CompletionStage<ReactiveScroll<R>>> scrollSupplier;
+	private final Executor executor;
+
+	/**
+	 * @param scrollSupplier opens the scroll
+	 * @param executor runs the operations which precede the opening of the
+	 *                 scroll on a Vert.x context
+	 */
+	public ReactiveScrollPublisher(Supplier<CompletionStage<ReactiveScroll<R>>> scrollSupplier, Executor executor) {
+		this.scrollSupplier = scrollSupplier;
+		this.executor = executor;
+	}
+
+	@Override
+	public void subscribe(Subscriber<? super R> subscriber) {
+		Objects.requireNonNull( subscriber, "subscriber" );
+		subscriber.onSubscribe( new ScrollSubscription<>( subscriber, scrollSupplier, executor ) );
+	}
+
+	/**
+	 * A subscription which serializes all its work using the
+	 * usual "work in progress" counter: only the thread which
+	 * increments the counter from zero runs {@link #drain()}.
+	 */
+	private static final class ScrollSubscription<R> implements Subscription {
+
+		private final Subscriber<? super R> subscriber;
+		private final Supplier<CompletionStage<ReactiveScroll<R>>> scrollSupplier;
+		private final Executor executor;
+
+		private final AtomicLong requested = new AtomicLong();
+		private final AtomicInteger wip = new AtomicInteger();
+		private volatile boolean cancelled;
+
+		// written when a fetch completes, read by drain()
+		private volatile ReactiveScroll<R> scroll;
+		private volatile Context context;
+		private volatile List<R> fetched;
+		private volatile Throwable failure;
+		// a request for a non-positive number of results, rule 3.9
+		private volatile IllegalArgumentException invalidRequest;
+
+		// only accessed by drain()
+		private final ArrayDeque<R> buffer = new ArrayDeque<>();
+		private boolean fetching;
+		private boolean terminated;
+
+		ScrollSubscription(
+				Subscriber<? super R> subscriber,
+				Supplier<CompletionStage<ReactiveScroll<R>>> scrollSupplier,
+				Executor executor) {
+			this.subscriber = subscriber;
+			this.scrollSupplier = scrollSupplier;
+			this.executor = executor;
+		}
+
+		@Override
+		public void request(long n) {
+			if ( n <= 0 ) {
+				invalidRequest = new IllegalArgumentException( "request for a non-positive number of results: " + n );
+			}
+			else {
+				requested.getAndUpdate( r -> r + n < 0 ? Long.MAX_VALUE : r + n );
+			}
+			schedule();
+		}
+
+		@Override
+		public void cancel() {
+			cancelled = true;
+			schedule();
+		}
+
+		private void schedule() {
+			if ( wip.getAndIncrement() == 0 ) {
+				execute( this::drainLoop );
+			}
+		}
+
+		private void execute(Runnable runnable) {
+			final Context context = this.context;
+			if ( context == null ) {
+				executor.execute( runnable );
+			}
+			else if ( Vertx.currentContext() == context ) {
+				runnable.run();
+			}
+			else {
+				context.runOnContext( v -> runnable.run() );
+			}
+		}
+
+		private void drainLoop() {
+			int missed = 1;
+			do {
+				if ( !terminated ) {
+					drain();
+				}
+				missed = wip.addAndGet( -missed );
+			}
+			while ( missed != 0 );
+		}
+
+		private void drain() {
+			final List<R> chunk = fetched;
+			if ( chunk != null ) {
+				fetched = null;
+				fetching = false;
+				buffer.addAll( chunk );
+			}
+			final Throwable error = failure;
+			if ( error != null ) {
+				failure = null;
+				fetching = false;
+				terminate( error );
+				return;
+			}
+			if ( invalidRequest != null ) {
+				// signal the error once a fetch in progress
+				// has completed, and the scroll can be closed
+				if ( !fetching ) {
+					buffer.clear();
+					terminate( invalidRequest );
+				}
+				return;
+			}
+			if ( cancelled ) {
+				// wait for a fetch in progress, since we can't
+				// close the scroll while it's using the connection
+				if ( !fetching ) {
+					terminated = true;
+					buffer.clear();
+					close();
+				}
+				return;
+			}
+
+			while ( !buffer.isEmpty() && requested.get() > 0 ) {
+				subscriber.onNext( buffer.poll() );
+				requested.getAndUpdate( r -> r == Long.MAX_VALUE ? r : r - 1 );
+				if ( cancelled ) {
+					return;
+				}
+			}
+
+			if ( buffer.isEmpty() && !fetching ) {
+				final ReactiveScroll<R> scroll = this.scroll;
+				if ( scroll != null && !scroll.hasMore() ) {
+					terminate( null );
+				}
+				else if ( requested.get() > 0 ) {
+					fetching = true;
+					fetch( scroll );
+				}
+			}
+		}
+
+		private void fetch(ReactiveScroll<R> current) {
+			final CompletionStage<List<R>> next = current == null
+					? scrollSupplier.get().thenCompose( opened -> {
+						context = Vertx.currentContext();
+						scroll = opened;
+						return opened.next();
+					} )
+					: current.next();
+			next.whenComplete( (chunk, error) -> {
+				if ( error == null ) {
+					fetched = chunk;
+				}
+				else {
+					failure = error;
+				}
+				schedule();
+			} );
+		}
+
+		private void terminate(Throwable error) {
+			terminated = true;
+			final ReactiveScroll<R> scroll = this.scroll;
+			if ( scroll == null ) {
+				signal( error );
+			}
+			else {
+				scroll.close().whenComplete( (v, e) -> signal( error == null ? e : error ) );
+			}
+		}
+
+		private void signal(Throwable error) {
+			if ( error == null ) {
+				subscriber.onComplete();
+			}
+			else {
+				subscriber.onError( error );
+			}
+		}
+
+		private void close() {
+			final ReactiveScroll<R> scroll = this.scroll;
+			if ( scroll != null ) {
+				scroll.close();
+			}
+		}
+	}
+}
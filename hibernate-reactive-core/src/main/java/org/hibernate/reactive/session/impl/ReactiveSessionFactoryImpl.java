@@ -7,9 +7,14 @@
 
 import org.hibernate.boot.spi.MetadataImplementor;
 import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.SessionFactoryImpl;
+import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.reactive.mutiny.Mutiny;
 import org.hibernate.reactive.mutiny.impl.MutinySessionFactoryImpl;
+import org.hibernate.reactive.persister.entity.impl.ReactiveAbstractEntityPersister;
+import org.hibernate.reactive.pool.ReactiveConnectionPool;
+import org.hibernate.reactive.pool.impl.DefaultSqlClientPool;
 import org.hibernate.reactive.stage.Stage;
 import org.hibernate.reactive.stage.impl.StageSessionFactoryImpl;
 import org.hibernate.type.LocalDateTimeType;
@@ -17,9 +22,17 @@
 import org.hibernate.type.LocalTimeType;
 import org.hibernate.type.OffsetDateTimeType;
 
+import io.vertx.core.Context;
+
 import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import static java.util.Collections.singleton;
 
@@ -40,6 +53,51 @@ public ReactiveSessionFactoryImpl(MetadataImplementor metadata, SessionFactoryOp
 		contributions.put( Types.TIME, singleton( LocalTimeType.class.getName() ) );
 		contributions.put( Types.DATE, singleton( LocalDateType.class.getName() ) );
 		contributions.put( Types.JAVA_OBJECT, singleton( ObjectType.class.getName() ) );
+
+		warmUpConnectionPool();
+	}
+
+	/**
+	 * If {@link org.hibernate.reactive.provider.Settings#POOL_WARMUP_SIZE}
+	 * is set, open connections in advance, and prepare the SQL statements
+	 * of every entity on them. We wait for the warm-up to complete, for at
+	 * most the warm-up timeout, unless we're on an event loop thread.
+	 */
+	private void warmUpConnectionPool() {
+		ReactiveConnectionPool pool = getServiceRegistry().getService( ReactiveConnectionPool.class );
+		if ( pool instanceof DefaultSqlClientPool && ( (DefaultSqlClientPool) pool ).getWarmUpSize() > 0 ) {
+			DefaultSqlClientPool sqlClientPool = (DefaultSqlClientPool) pool;
+			List<String> statements = new ArrayList<>();
+			for ( EntityPersister persister : getMetamodel().entityPersisters().values() ) {
+				if ( persister instanceof ReactiveAbstractEntityPersister ) {
+					statements.addAll( ( (ReactiveAbstractEntityPersister) persister ).getPreparableStatements() );
+				}
+			}
+			CompletableFuture<Void> warmUp = sqlClientPool.warmUp( statements )
+					.toCompletableFuture()
+					.whenComplete( (v, e) -> {
+						if ( e != null ) {
+							CoreLogging.messageLogger( ReactiveSessionFactoryImpl.class )
+									.warnf( e, "HRX000024: Failed to warm up the connection pool" );
+						}
+					} );
+			if ( !Context.isOnEventLoopThread() ) {
+				try {
+					warmUp.get( sqlClientPool.getWarmUpTimeout(), TimeUnit.MILLISECONDS );
+				}
+				catch (ExecutionException e) {
+					// already logged
+				}
+				catch (TimeoutException e) {
+					CoreLogging.messageLogger( ReactiveSessionFactoryImpl.class )
+							.warnf( "HRX000028: Connection pool warm-up did not complete in %d ms, continuing in the background",
+									sqlClientPool.getWarmUpTimeout() );
+				}
+				catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+		}
 	}
 
 	@Override
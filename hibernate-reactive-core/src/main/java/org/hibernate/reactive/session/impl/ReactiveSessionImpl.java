@@ -81,14 +81,15 @@
 import org.hibernate.reactive.event.ReactiveResolveNaturalIdEventListener;
 import org.hibernate.reactive.event.impl.DefaultReactiveAutoFlushEventListener;
 import org.hibernate.reactive.event.impl.DefaultReactiveInitializeCollectionEventListener;
+import org.hibernate.reactive.id.ReactiveIdentifierGenerator;
 import org.hibernate.reactive.loader.custom.impl.ReactiveCustomLoader;
 import org.hibernate.reactive.persister.entity.impl.ReactiveEntityPersister;
-import org.hibernate.reactive.pool.BatchingConnection;
 import org.hibernate.reactive.pool.ReactiveConnection;
 import org.hibernate.reactive.session.Criteria;
 import org.hibernate.reactive.session.CriteriaQueryOptions;
 import org.hibernate.reactive.session.ReactiveNativeQuery;
 import org.hibernate.reactive.session.ReactiveQuery;
+import org.hibernate.reactive.session.ReactiveScroll;
 import org.hibernate.reactive.session.ReactiveSession;
 import org.hibernate.reactive.util.impl.CompletionStages;
 
@@ -97,6 +98,11 @@
 import javax.persistence.Tuple;
 import javax.persistence.metamodel.Attribute;
 import java.io.Serializable;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -109,7 +115,9 @@
 import io.vertx.core.Context;
 
 import static org.hibernate.engine.spi.PersistenceContext.NaturalIdHelper.INVALID_NATURAL_ID_REFERENCE;
+import static org.hibernate.reactive.cache.impl.ReactiveEntityCacheHelper.evictAll;
 import static org.hibernate.reactive.common.InternalStateAssertions.assertUseOnEventLoop;
+import static org.hibernate.reactive.id.impl.IdentifierGeneration.generateIds;
 import static org.hibernate.reactive.session.impl.SessionUtil.checkEntityFound;
 import static org.hibernate.reactive.util.impl.CompletionStages.*;
 
@@ -128,14 +136,18 @@ public class ReactiveSessionImpl extends SessionImpl implements ReactiveSession,
 	//Lazily initialized
 	private transient ExceptionConverter exceptionConverter;
 
+	// identifiers reserved by reactivePersistAll(), for each entity
+	private transient Map<EntityPersister, Deque<Serializable>> reservedIdentifiers;
+
+	// non-null when fetch coalescing is enabled
+	private transient FetchCoalescer fetchCoalescer;
+
 	public ReactiveSessionImpl(SessionFactoryImpl delegate, SessionCreationOptions options,
 							   ReactiveConnection connection) {
 		super( delegate, options );
 		assert Context.isOnEventLoopThread() : "This needs to be run on the Vert.x event loop";
 		this.associatedWorkThread = Thread.currentThread();
-		Integer batchSize = getConfiguredJdbcBatchSize();
-		reactiveConnection = batchSize==null || batchSize<2 ? connection :
-				new BatchingConnection( connection, batchSize );
+		reactiveConnection = SessionUtil.batchingConnection( this, connection, getConfiguredJdbcBatchSize() );
 	}
 
 	@Override
@@ -245,7 +257,11 @@ public <T> CompletionStage<T> reactiveFetch(T association, boolean unproxy) {
 			else {
 				String entityName = initializer.getEntityName();
 				Serializable identifier = initializer.getIdentifier();
-				return reactiveImmediateLoad( entityName, identifier )
+				CompletionStage<Void> batch = fetchCoalescer == null
+						? voidFuture()
+						: fetchCoalescer.fetchEntity( getFactory().getMetamodel().entityPersister( entityName ), identifier );
+				// once the batch is loaded, the entity is found in the persistence context
+				return batch.thenCompose( v -> reactiveImmediateLoad( entityName, identifier ) )
 						.thenApply( entity -> {
 							checkEntityFound( this, entityName, identifier, entity );
 							initializer.setSession( this );
@@ -260,7 +276,17 @@ else if ( association instanceof PersistentCollection ) {
 				return completedFuture( association );
 			}
 			else {
-				return reactiveInitializeCollection( persistentCollection, false )
+				CompletionStage<Void> batch = fetchCoalescer == null
+						// the batch loader only initializes collections in this session
+						|| getPersistenceContextInternal().getCollectionEntry( persistentCollection ) == null
+						? voidFuture()
+						: fetchCoalescer.fetchCollection(
+								getFactory().getMetamodel().collectionPersister( persistentCollection.getRole() ),
+								persistentCollection.getKey()
+						);
+				return batch.thenCompose( v -> persistentCollection.wasInitialized()
+								? voidFuture()
+								: reactiveInitializeCollection( persistentCollection, false ) )
 						// don't reassociate the collection instance, because
 						// its owner isn't associated with this session
 						.thenApply( v -> association );
@@ -445,6 +471,25 @@ public <T> CompletionStage<List<T>> reactiveList(String query, QueryParameters p
 				.thenApply( list -> (List<T>) list );
 	}
 
+	@Override
+	public <T> CompletionStage<ReactiveScroll<T>> reactiveScroll(String query, QueryParameters parameters, int fetchSize) {
+		checkOpenOrWaitingForAutoClose();
+		pulseTransactionCoordinator();
+		parameters.validateParameters();
+
+		HQLQueryPlan plan = parameters.getQueryPlan();
+		ReactiveHQLQueryPlan reactivePlan = plan == null
+				? getQueryPlan( query, false )
+				: (ReactiveHQLQueryPlan) plan;
+
+		return reactiveAutoFlushIfRequired( reactivePlan.getQuerySpaces() )
+				.thenCompose( v -> reactivePlan.<T>performReactiveScroll( parameters, this, fetchSize ) )
+				.whenComplete( (scroll, x) -> {
+					afterOperation( x == null );
+					delayedAfterCompletion();
+				} );
+	}
+
 	@Override
 	public <T> CompletionStage<List<T>> reactiveList(NativeSQLQuerySpecification spec, QueryParameters parameters) {
 		return listReactiveCustomQuery( getNativeQueryPlan( spec ).getCustomQuery(), parameters)
@@ -657,6 +702,12 @@ public CompletionStage<Integer> executeReactiveUpdate(NativeSQLQuerySpecificatio
 	@Override
 	public void addBulkCleanupAction(BulkOperationCleanupAction action) {
 		getReactiveActionQueue().addAction( action );
+		// evict the asynchronous regions again after the transaction
+		// completes, just as the action does for the ORM regions
+		List<Serializable> spaces = Arrays.asList( action.getPropertySpaces() );
+		getReactiveActionQueue().registerProcess(
+				(boolean success, ReactiveSession s) -> evictAll( spaces, getFactory() )
+		);
 	}
 
 	@Override
@@ -665,6 +716,48 @@ public CompletionStage<Void> reactivePersist(Object entity) {
 		return firePersist( new PersistEvent( null, entity, this ) );
 	}
 
+	@Override
+	public CompletionStage<Void> reactivePersistAll(Object... entities) {
+		checkOpen();
+		return reserveIdentifiers( entities )
+				.thenCompose( v -> loop( entities, this::reactivePersist ) )
+				.whenComplete( (v, e) -> reservedIdentifiers = null );
+	}
+
+	/**
+	 * Reserve generated identifiers for the new instances of each entity
+	 * occurring more than once in the given array, so that they may be
+	 * obtained from the generator all at once.
+	 */
+	private CompletionStage<Void> reserveIdentifiers(Object[] entities) {
+		Map<EntityPersister, List<Object>> newInstances = new IdentityHashMap<>();
+		for ( Object entity : entities ) {
+			if ( entity != null && !( entity instanceof HibernateProxy ) ) {
+				EntityPersister persister = getEntityPersister( null, entity );
+				if ( persister.getIdentifierGenerator() instanceof ReactiveIdentifierGenerator
+						&& !persister.isIdentifierAssignedByInsert()
+						&& persister.getIdentifier( entity, this ) == null ) {
+					newInstances.computeIfAbsent( persister, p -> new ArrayList<>() ).add( entity );
+				}
+			}
+		}
+		reservedIdentifiers = new IdentityHashMap<>();
+		return loop( newInstances.entrySet(), entry -> entry.getValue().size() < 2
+				? voidFuture()
+				: generateIds( entry.getValue(), entry.getKey(), this, this )
+						.thenAccept( ids -> reservedIdentifiers.put( entry.getKey(), new ArrayDeque<>( ids ) ) )
+		);
+	}
+
+	@Override
+	public Serializable takeReservedIdentifier(EntityPersister persister) {
+		if ( reservedIdentifiers == null ) {
+			return null;
+		}
+		Deque<Serializable> ids = reservedIdentifiers.get( persister );
+		return ids == null ? null : ids.poll();
+	}
+
 	@Override
 	public CompletionStage<Void> reactivePersist(Object object, IdentitySet copiedAlready) {
 		checkOpenOrWaitingForAutoClose();
@@ -1310,7 +1403,9 @@ public boolean isSessionCheckingEnabled() {
 
 		@Override
 		public boolean isSecondLevelCacheCheckingEnabled() {
-			return cacheMode == CacheMode.NORMAL || cacheMode == CacheMode.GET;
+			// the cache mode of the session applies unless it was overridden
+			final CacheMode effectiveCacheMode = cacheMode == null ? getCacheMode() : cacheMode;
+			return effectiveCacheMode == CacheMode.NORMAL || effectiveCacheMode == CacheMode.GET;
 		}
 
 		public ReactiveMultiIdentifierLoadAccessImpl<T> enableSessionCheck(boolean enabled) {
@@ -1338,12 +1433,10 @@ public ReactiveMultiIdentifierLoadAccessImpl<T> enableOrderedReturn(boolean enab
 			return this;
 		}
 
-		@SuppressWarnings("unchecked")
 		public CompletionStage<List<T>> multiLoad(Object... ids) {
 			Serializable[] sids = new Serializable[ids.length];
 			System.arraycopy(ids, 0, sids, 0, ids.length);
-			return perform( () -> (CompletionStage)
-					((ReactiveEntityPersister) entityPersister).reactiveMultiLoad( sids, ReactiveSessionImpl.this, this ) );
+			return perform( () -> reactiveMultiLoad( sids ) );
 		}
 
 		public CompletionStage<List<T>> perform(Supplier<CompletionStage<List<T>>> executor) {
@@ -1378,10 +1471,16 @@ public CompletionStage<List<T>> perform(Supplier<CompletionStage<List<T>>> execu
 					} );
 		}
 
-		@SuppressWarnings("unchecked")
 		public <K extends Serializable> CompletionStage<List<T>> multiLoad(List<K> ids) {
-			return perform( () -> (CompletionStage<List<T>>)
-					entityPersister.multiLoad( ids.toArray(new Serializable[0]), ReactiveSessionImpl.this, this ) );
+			return perform( () -> reactiveMultiLoad( ids.toArray( new Serializable[0] ) ) );
+		}
+
+		@SuppressWarnings("unchecked")
+		private CompletionStage<List<T>> reactiveMultiLoad(Serializable[] ids) {
+			return ( (ReactiveEntityPersister) entityPersister )
+					.reactiveMultiLoad( ids, ReactiveSessionImpl.this, this )
+					// the entities are instances of T
+					.thenApply( list -> (List<T>) list );
 		}
 	}
 
@@ -1533,6 +1632,21 @@ public void setBatchSize(Integer batchSize) {
 		setJdbcBatchSize(batchSize);
 	}
 
+	@Override
+	public boolean isFetchCoalescing() {
+		return fetchCoalescer != null;
+	}
+
+	@Override
+	public void setFetchCoalescing(boolean enabled) {
+		if ( !enabled ) {
+			fetchCoalescer = null;
+		}
+		else if ( fetchCoalescer == null ) {
+			fetchCoalescer = new FetchCoalescer( this );
+		}
+	}
+
 	@Override @SuppressWarnings("unchecked")
 	public <T> Class<? extends T> getEntityClass(T entity) {
 		if ( entity instanceof HibernateProxy ) {
@@ -48,17 +48,21 @@
 import org.hibernate.reactive.session.CriteriaQueryOptions;
 import org.hibernate.reactive.session.ReactiveNativeQuery;
 import org.hibernate.reactive.session.ReactiveQuery;
+import org.hibernate.reactive.session.ReactiveScroll;
 import org.hibernate.reactive.session.ReactiveStatelessSession;
 import org.hibernate.tuple.entity.EntityMetamodel;
 
 import javax.persistence.EntityGraph;
 import javax.persistence.Tuple;
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletionStage;
+import java.util.function.Predicate;
 
 import static org.hibernate.reactive.id.impl.IdentifierGeneration.assignIdIfNecessary;
 import static org.hibernate.reactive.id.impl.IdentifierGeneration.generateId;
+import static org.hibernate.reactive.id.impl.IdentifierGeneration.generateIds;
 import static org.hibernate.reactive.session.impl.SessionUtil.checkEntityFound;
 import static org.hibernate.reactive.util.impl.CompletionStages.completedFuture;
 import static org.hibernate.reactive.util.impl.CompletionStages.loop;
@@ -75,7 +79,7 @@ public class ReactiveStatelessSessionImpl extends StatelessSessionImpl
     private ReactiveConnection reactiveConnection;
     private final boolean allowBytecodeProxy;
 
-    private final ReactiveStatelessSession batchingHelperSession;
+    private final ReactiveStatelessSessionImpl batchingHelperSession;
 
     private final PersistenceContext persistenceContext;
 
@@ -97,9 +101,7 @@ private ReactiveStatelessSessionImpl(SessionFactoryImpl factory,
                                          ReactiveConnection connection,
                                          PersistenceContext persistenceContext) {
         super(factory, options);
-        Integer batchSize = getConfiguredJdbcBatchSize();
-        reactiveConnection = batchSize==null || batchSize<2 ? connection :
-                new BatchingConnection( connection, batchSize );
+        reactiveConnection = SessionUtil.batchingConnection( this, connection, getConfiguredJdbcBatchSize() );
         allowBytecodeProxy = getFactory().getSessionFactoryOptions().isEnhancementAsProxyEnabled();
         this.persistenceContext = persistenceContext;
         batchingHelperSession = this;
@@ -179,32 +181,139 @@ public CompletionStage<Void> reactiveInsert(Object entity) {
         ReactiveEntityPersister persister = getEntityPersister( null, entity );
         return generateId( entity, persister, this, this )
                 .thenCompose( id -> {
-                    Object[] state = persister.getPropertyValues(entity);
-                    if ( persister.isVersioned() ) {
-                        boolean substitute = Versioning.seedVersion(
-                                state,
-                                persister.getVersionProperty(),
-                                persister.getVersionType(),
-                                this
-                        );
-                        if (substitute) {
-                            persister.setPropertyValues( entity, state );
-                        }
-                    }
-
+                    Object[] state = getStateForInsert( entity, persister );
                     if ( persister.isIdentifierAssignedByInsert() ) {
                         return persister.insertReactive( state, entity, this )
-                                .thenAccept( generatedId -> assignIdIfNecessary( entity, generatedId, persister,this ) );
+                                .thenAccept( generatedId -> {
+                                    Serializable generated = assignIdIfNecessary( generatedId, entity, persister, this );
+                                    persister.setIdentifier( entity, generated, this );
+                                } );
                     }
                     else {
-                        id = assignIdIfNecessary( id, entity, persister,this );
+                        return reactiveInsert( entity, id, persister );
+                    }
+                } );
+    }
+
+    private CompletionStage<Void> reactiveInsert(Object entity, Serializable generatedId, ReactiveEntityPersister persister) {
+        Object[] state = getStateForInsert( entity, persister );
+        Serializable id = assignIdIfNecessary( generatedId, entity, persister,this );
+        persister.setIdentifier( entity, id, this );
+        return persister.insertReactive( id, state, entity, this )
+                .thenApply( v-> null );
+    }
+
+    private Object[] getStateForInsert(Object entity, ReactiveEntityPersister persister) {
+        Object[] state = persister.getPropertyValues(entity);
+        if ( persister.isVersioned() ) {
+            boolean substitute = Versioning.seedVersion(
+                    state,
+                    persister.getVersionProperty(),
+                    persister.getVersionType(),
+                    this
+            );
+            if (substitute) {
+                persister.setPropertyValues( entity, state );
+            }
+        }
+        return state;
+    }
+
+    /**
+     * Insert several instances of the same entity, reserving all their
+     * generated identifiers at once, or, if the identifiers are generated
+     * by an identity column, using a single multi-row insert when possible.
+     */
+    private CompletionStage<Void> reactiveInsertBatch(List<Object> entities) {
+        if ( entities.size() == 1 ) {
+            return reactiveInsert( entities.get(0) );
+        }
+        checkOpen();
+        ReactiveEntityPersister persister = getEntityPersister( null, entities.get(0) );
+        if ( persister.isIdentityInsertBatchable() ) {
+            return reactiveInsertIdentityBatch( entities );
+        }
+        if ( persister.isIdentifierAssignedByInsert() ) {
+            return loop( entities, this::reactiveInsert );
+        }
+        return generateIds( entities, persister, this, this )
+                .thenCompose( ids -> loop( 0, entities.size(),
+                        i -> reactiveInsert( entities.get(i), ids.get(i), persister ) ) );
+    }
+
+    /**
+     * Insert several instances of the same entity, whose identifiers
+     * are generated by an identity column, using a single multi-row
+     * insert, and assign the generated identifiers to the instances.
+     */
+    private CompletionStage<Void> reactiveInsertIdentityBatch(List<Object> entities) {
+        if ( entities.size() == 1 ) {
+            return reactiveInsert( entities.get(0) );
+        }
+        checkOpen();
+        ReactiveEntityPersister persister = getEntityPersister( null, entities.get(0) );
+        List<Object[]> states = new ArrayList<>( entities.size() );
+        for ( Object entity : entities ) {
+            states.add( getStateForInsert( entity, persister ) );
+        }
+        return persister.insertReactive( states, entities, this )
+                .thenAccept( generatedIds -> {
+                    for ( int i = 0; i < entities.size(); i++ ) {
+                        Object entity = entities.get(i);
+                        Serializable id = assignIdIfNecessary( generatedIds.get(i), entity, persister, this );
                         persister.setIdentifier( entity, id, this );
-                        return persister.insertReactive( id, state, entity, this )
-                                .thenApply( v-> null );
                     }
                 } );
     }
 
+    /**
+     * Insert several instances of the same entity using multi-row
+     * inserts which are all sent without waiting for the results.
+     */
+    private CompletionStage<Void> reactiveBulkInsertBatch(List<Object> entities) {
+        if ( entities.size() == 1 ) {
+            return reactiveInsert( entities.get(0) );
+        }
+        checkOpen();
+        ReactiveEntityPersister persister = getEntityPersister( null, entities.get(0) );
+        if ( persister.isIdentifierAssignedByInsert() ) {
+            return reactiveInsertIdentityBatch( entities );
+        }
+        return generateIds( entities, persister, this, this )
+                .thenCompose( generatedIds -> {
+                    List<Serializable> ids = new ArrayList<>( entities.size() );
+                    List<Object[]> states = new ArrayList<>( entities.size() );
+                    for ( int i = 0; i < entities.size(); i++ ) {
+                        Object entity = entities.get(i);
+                        Serializable id = assignIdIfNecessary( generatedIds.get(i), entity, persister, this );
+                        persister.setIdentifier( entity, id, this );
+                        ids.add( id );
+                        states.add( getStateForInsert( entity, persister ) );
+                    }
+                    return persister.bulkInsertReactive( ids, states, entities, this );
+                } );
+    }
+
+    /**
+     * Split the given entities into runs of consecutive instances
+     * of the same entity which may be inserted together.
+     */
+    private List<List<Object>> insertBatches(Predicate<ReactiveEntityPersister> batchable, Object... entities) {
+        List<List<Object>> batches = new ArrayList<>();
+        List<Object> batch = null;
+        ReactiveEntityPersister batchPersister = null;
+        for ( Object entity : entities ) {
+            ReactiveEntityPersister persister = getEntityPersister( null, entity );
+            if ( batch == null || persister != batchPersister || !batchable.test( persister ) ) {
+                batch = new ArrayList<>();
+                batches.add( batch );
+                batchPersister = persister;
+            }
+            batch.add( entity );
+        }
+        return batches;
+    }
+
     @Override
     public CompletionStage<Void> reactiveDelete(Object entity) {
         checkOpen();
@@ -272,7 +381,15 @@ public CompletionStage<Void> reactiveRefresh(Object entity, LockMode lockMode) {
 
     @Override
     public CompletionStage<Void> reactiveInsertAll(Object... entities) {
-        return loop(entities, batchingHelperSession::reactiveInsert)
+        return loop(insertBatches(persister -> true, entities),
+                    batchingHelperSession::reactiveInsertBatch)
+                .thenCompose( v -> batchingHelperSession.getReactiveConnection().executeBatch() );
+    }
+
+    @Override
+    public CompletionStage<Void> reactiveBulkInsert(Object... entities) {
+        return loop(insertBatches(ReactiveEntityPersister::isBulkInsertSupported, entities),
+                    batchingHelperSession::reactiveBulkInsertBatch)
                 .thenCompose( v -> batchingHelperSession.getReactiveConnection().executeBatch() );
     }
 
@@ -396,6 +513,39 @@ public <T> CompletionStage<List<T>> reactiveList(String query, QueryParameters p
                 .thenApply( list -> (List<T>) list );
     }
 
+    @Override
+    public <T> CompletionStage<ReactiveScroll<T>> reactiveScroll(String query, QueryParameters parameters, int fetchSize) {
+        checkOpen();
+        parameters.validateParameters();
+
+        HQLQueryPlan plan = parameters.getQueryPlan();
+        ReactiveHQLQueryPlan reactivePlan = plan == null
+                ? getQueryPlan( query, false )
+                : (ReactiveHQLQueryPlan) plan;
+
+        return reactivePlan.<T>performReactiveScroll( parameters, this, fetchSize )
+                .thenApply( scroll -> new ReactiveScroll<T>() {
+                    // like reactiveList(), clear the persistence
+                    // context once each chunk has been loaded
+                    @Override
+                    public CompletionStage<List<T>> next() {
+                        return scroll.next()
+                                .whenComplete( (list, x) -> getPersistenceContext().clear() );
+                    }
+
+                    @Override
+                    public boolean hasMore() {
+                        return scroll.hasMore();
+                    }
+
+                    @Override
+                    public CompletionStage<Void> close() {
+                        return scroll.close()
+                                .whenComplete( (v, x) -> afterOperation( x == null ) );
+                    }
+                } );
+    }
+
     @Override
     public <T> CompletionStage<List<T>> reactiveList(NativeSQLQuerySpecification spec, QueryParameters parameters) {
         checkOpen();
@@ -5,7 +5,12 @@
  */
 package org.hibernate.reactive.session.impl;
 
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.reactive.pool.BatchingConnection;
+import org.hibernate.reactive.pool.ReactiveConnection;
+import org.hibernate.reactive.provider.Settings;
 
 import java.io.Serializable;
 
@@ -21,4 +26,22 @@ public static void checkEntityFound(SharedSessionContractImplementor session, St
 		}
 	}
 
+	/**
+	 * Wrap the given connection in a {@link BatchingConnection},
+	 * if batching is enabled.
+	 */
+	public static ReactiveConnection batchingConnection(SharedSessionContractImplementor session,
+														ReactiveConnection connection, Integer batchSize) {
+		if ( batchSize == null || batchSize < 2 ) {
+			return connection;
+		}
+		ConfigurationService configuration = session.getFactory().getServiceRegistry()
+				.getService( ConfigurationService.class );
+		boolean pipelining = configuration
+				.getSetting( Settings.BATCH_PIPELINING, StandardConverters.BOOLEAN, false );
+		boolean rewriteInserts = configuration
+				.getSetting( Settings.BATCH_REWRITE_INSERTS, StandardConverters.BOOLEAN, false );
+		return new BatchingConnection( connection, batchSize, pipelining, rewriteInserts );
+	}
+
 }
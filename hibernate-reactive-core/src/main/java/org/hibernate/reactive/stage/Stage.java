@@ -22,6 +22,7 @@
 import org.hibernate.reactive.common.ResultSetMapping;
 import org.hibernate.reactive.session.ReactiveSession;
 import org.hibernate.reactive.util.impl.CompletionStages;
+import org.reactivestreams.Publisher;
 
 import javax.persistence.EntityGraph;
 import javax.persistence.Parameter;
@@ -103,6 +104,12 @@ public interface Stage {
 		 */
 		Query<R> setFirstResult(int firstResult);
 
+		/**
+		 * Set the number of results fetched from the database at a time
+		 * when the results are obtained via {@link #getResultStream()}.
+		 */
+		Query<R> setFetchSize(int fetchSize);
+
 		/**
 		 * @return the maximum number results, or {@link Integer#MAX_VALUE}
 		 *          if not set
@@ -155,6 +162,26 @@ public interface Stage {
 		 */
 		CompletionStage<List<R>> getResultList();
 
+		/**
+		 * Execute this query, returning the query results as a reactive
+		 * streams {@link Publisher}. The results are fetched incrementally
+		 * from a database cursor, in chunks of the {@linkplain #setFetchSize(int)
+		 * fetch size}, only as they're requested by the subscriber, and
+		 * entities are loaded into the session as each chunk is fetched. If
+		 * the query has multiple results per row, the results are returned
+		 * in an instance of {@code Object[]}.
+		 * <p>
+		 * The query is executed when the first result is requested, and no
+		 * other operation may be performed by the session until the stream
+		 * completes or the subscription is cancelled. Queries which fetch
+		 * collections may not be streamed.
+		 *
+		 * @return the resulting rows as a {@link Publisher}
+		 *
+		 * @see javax.persistence.Query#getResultStream()
+		 */
+		Publisher<R> getResultStream();
+
 		/**
 		 * Asynchronously execute this delete, update, or insert query,
 		 * returning the updated row count.
@@ -1035,6 +1062,27 @@ <R> Query<R> createNativeQuery(String queryString,
 		 */
 		Integer getBatchSize();
 
+		/**
+		 * Enable or disable coalescing of calls to {@link #fetch(Object)}.
+		 * When enabled, unfetched proxies and collections passed to
+		 * {@code fetch()} during the same task on the Vert.x event loop
+		 * are not fetched immediately, but are collected and then loaded
+		 * together, using one batched query per entity type or collection
+		 * role, once the task completes. This is useful when many sibling
+		 * associations are fetched at once, for example, by the field
+		 * resolvers of a GraphQL query.
+		 *
+		 * @param enabled {@code true} to coalesce calls to {@code fetch()}
+		 */
+		@Incubating
+		Session setFetchCoalescing(boolean enabled);
+		/**
+		 * Determine if calls to {@link #fetch(Object)} are coalesced.
+		 *
+		 * @see #setFetchCoalescing(boolean)
+		 */
+		boolean isFetchCoalescing();
+
 		/**
 		 * Enable the named filter for this session.
 		 *
@@ -1249,6 +1297,27 @@ interface StatelessSession extends AutoCloseable {
 		 */
 		<R> Query<R> createQuery(CriteriaDelete<R> criteriaDelete);
 
+		/**
+		 * Execute the given query, which must have been created by this
+		 * session, and pass its results to the given function in chunks
+		 * of the given size. The results are fetched from a database
+		 * cursor one chunk at a time, and the next chunk is not fetched
+		 * until the {@link CompletionStage} returned by the function for the current chunk
+		 * has completed, so that the results of a query over a huge
+		 * table may be processed with a bounded amount of memory.
+		 * <p>
+		 * The entities in a chunk are detached, and no reference to them
+		 * is held by the session once the chunk has been passed to the
+		 * function. Queries which fetch collections may not be scrolled.
+		 *
+		 * @param query the query to execute
+		 * @param chunkSize the number of results in each chunk
+		 * @param chunkConsumer a function which processes a chunk of results
+		 *
+		 * @see Query#getResultStream()
+		 */
+		<R> CompletionStage<Void> scroll(Query<R> query, int chunkSize, Function<List<R>, CompletionStage<?>> chunkConsumer);
+
 		/**
 		 * Insert a row.
 		 *
@@ -1267,6 +1336,21 @@ interface StatelessSession extends AutoCloseable {
 		 */
 		CompletionStage<Void> insert(Object... entities);
 
+		/**
+		 * Insert multiple rows, using the fastest mechanism available.
+		 * On PostgreSQL and CockroachDB, consecutive instances of the
+		 * same entity are written using multi-row inserts, which are
+		 * all sent to the database before any result is awaited. On
+		 * other databases, this is equivalent to {@link #insert(Object...)}.
+		 * <p>
+		 * Intended for loading very large numbers of rows.
+		 *
+		 * @param entities new transient instances
+		 *
+		 * @see org.hibernate.StatelessSession#insert(Object)
+		 */
+		CompletionStage<Void> bulkInsert(Object... entities);
+
 		/**
 		 * Delete a row.
 		 *
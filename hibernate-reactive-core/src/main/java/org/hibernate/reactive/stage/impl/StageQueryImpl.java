@@ -11,6 +11,7 @@
 import org.hibernate.LockOptions;
 import org.hibernate.reactive.session.ReactiveQuery;
 import org.hibernate.reactive.stage.Stage;
+import org.reactivestreams.Publisher;
 
 import javax.persistence.Parameter;
 import java.util.List;
@@ -74,6 +75,12 @@ public Stage.Query<R> setFirstResult(int firstResult) {
 		return this;
 	}
 
+	@Override
+	public Stage.Query<R> setFetchSize(int fetchSize) {
+		delegate.setFetchSize( fetchSize );
+		return this;
+	}
+
 	@Override
 	public int getFirstResult() {
 		return delegate.getFirstResult();
@@ -190,4 +197,20 @@ public CompletionStage<List<R>> getResultList() {
 		return stage( v -> delegate.getReactiveResultList() );
 	}
 
+	/**
+	 * @see Stage.StatelessSession#scroll(Stage.Query, int, Function)
+	 */
+	CompletionStage<Void> scroll(int chunkSize, Function<List<R>, CompletionStage<?>> chunkConsumer) {
+		return stage( v -> delegate.getReactiveResultScroll( chunkSize )
+				.thenCompose( scroll -> scroll.forEachChunk( chunkConsumer ) ) );
+	}
+
+	@Override
+	public Publisher<R> getResultStream() {
+		final Integer fetchSize = delegate.getFetchSize();
+		return factory.publisher( () -> delegate.getReactiveResultScroll(
+				fetchSize == null ? ReactiveQuery.DEFAULT_FETCH_SIZE : fetchSize
+		) );
+	}
+
 }
@@ -12,11 +12,14 @@
 import org.hibernate.internal.SessionFactoryImpl;
 import org.hibernate.reactive.pool.ReactiveConnection;
 import org.hibernate.reactive.pool.ReactiveConnectionPool;
+import org.hibernate.reactive.session.ReactiveScroll;
 import org.hibernate.reactive.session.impl.ReactiveCriteriaBuilderImpl;
+import org.hibernate.reactive.session.impl.ReactiveScrollPublisher;
 import org.hibernate.reactive.session.impl.ReactiveSessionImpl;
 import org.hibernate.reactive.session.impl.ReactiveStatelessSessionImpl;
 import org.hibernate.reactive.stage.Stage;
 import org.hibernate.reactive.vertx.VertxInstance;
+import org.reactivestreams.Publisher;
 
 import javax.persistence.criteria.CriteriaBuilder;
 import javax.persistence.metamodel.Metamodel;
@@ -24,6 +27,7 @@
 import java.util.concurrent.Executor;
 import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
 
@@ -58,6 +62,10 @@ <T> CompletionStage<T> stage(Function<Void, CompletionStage<T>> stageSupplier) {
 		return voidFuture().thenComposeAsync(stageSupplier, vertxExecutor);
 	}
 
+	<T> Publisher<T> publisher(Supplier<CompletionStage<ReactiveScroll<T>>> scrollSupplier) {
+		return new ReactiveScrollPublisher<>( scrollSupplier, vertxExecutor );
+	}
+
 	@Override
 	public Stage.Session openSession() {
 		SessionCreationOptions options = options();
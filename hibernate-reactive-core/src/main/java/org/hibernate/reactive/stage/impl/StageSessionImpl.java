@@ -131,7 +131,7 @@ public CompletionStage<Void> persist(Object entity) {
 
 	@Override
 	public CompletionStage<Void> persist(Object... entity) {
-		return stage( v -> applyToAll( delegate::reactivePersist, entity ) );
+		return stage( v -> delegate.reactivePersistAll( entity ) );
 	}
 
 	@Override
@@ -342,6 +342,17 @@ public Integer getBatchSize() {
 		return delegate.getBatchSize();
 	}
 
+	@Override
+	public Stage.Session setFetchCoalescing(boolean enabled) {
+		delegate.setFetchCoalescing(enabled);
+		return this;
+	}
+
+	@Override
+	public boolean isFetchCoalescing() {
+		return delegate.isFetchCoalescing();
+	}
+
 	@Override
 	public Stage.Session detach(Object entity) {
 		delegate.detach(entity);
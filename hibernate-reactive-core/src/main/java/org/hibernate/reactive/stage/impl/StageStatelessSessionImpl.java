@@ -17,6 +17,7 @@
 import javax.persistence.criteria.CriteriaDelete;
 import javax.persistence.criteria.CriteriaQuery;
 import javax.persistence.criteria.CriteriaUpdate;
+import java.util.List;
 import java.util.concurrent.CompletionStage;
 import java.util.function.Function;
 
@@ -62,6 +63,11 @@ public <R> Stage.Query<R> createQuery(String queryString) {
         return new StageQueryImpl<>( delegate.createReactiveQuery(queryString), factory );
     }
 
+    @Override
+    public <R> CompletionStage<Void> scroll(Stage.Query<R> query, int chunkSize, Function<List<R>, CompletionStage<?>> chunkConsumer) {
+        return ( (StageQueryImpl<R>) query ).scroll( chunkSize, chunkConsumer );
+    }
+
     @Override
     public <R> Stage.Query<R> createQuery(String queryString, Class<R> resultType) {
         return new StageQueryImpl<>( delegate.createReactiveQuery(queryString, resultType), factory );
@@ -111,6 +117,11 @@ public CompletionStage<Void> insert(Object... entities) {
         return stage( w -> delegate.reactiveInsertAll(entities) );
     }
 
+    @Override
+    public CompletionStage<Void> bulkInsert(Object... entities) {
+        return stage( w -> delegate.reactiveBulkInsert(entities) );
+    }
+
     @Override
     public CompletionStage<Void> delete(Object entity) {
         return stage( w -> delegate.reactiveDelete(entity) );
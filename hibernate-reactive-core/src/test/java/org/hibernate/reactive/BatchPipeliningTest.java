@@ -0,0 +1,253 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.Objects;
+import java.util.concurrent.CompletionStage;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.persistence.OptimisticLockException;
+import javax.persistence.Table;
+import javax.persistence.Version;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.provider.Settings;
+
+import org.junit.After;
+import org.junit.Test;
+
+import io.vertx.ext.unit.TestContext;
+
+/**
+ * Test the flush of different kinds of statements with
+ * {@link Settings#BATCH_PIPELINING} enabled.
+ */
+public class BatchPipeliningTest extends BaseReactiveTest {
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.addAnnotatedClass( Writer.class );
+		configuration.addAnnotatedClass( Novel.class );
+		configuration.setProperty( AvailableSettings.STATEMENT_BATCH_SIZE, "3" );
+		configuration.setProperty( Settings.BATCH_PIPELINING, "true" );
+		return configuration;
+	}
+
+	@After
+	public void cleanDb(TestContext context) {
+		test( context, getSessionFactory()
+				.withTransaction( (s, t) -> s.createQuery( "delete from Novel" ).executeUpdate()
+						.thenCompose( v -> s.createQuery( "delete from Writer" ).executeUpdate() ) ) );
+	}
+
+	@Test
+	public void testInterleavedInserts(TestContext context) {
+		Writer tolkien = new Writer( 1, "J.R.R. Tolkien" );
+		Writer pratchett = new Writer( 2, "Terry Pratchett" );
+
+		test( context, getSessionFactory()
+				.withTransaction( (s, t) -> s.persist(
+						tolkien,
+						new Novel( 1, "The Hobbit", tolkien ),
+						new Novel( 2, "The Silmarillion", tolkien ),
+						pratchett,
+						new Novel( 3, "Guards! Guards!", pratchett ),
+						new Novel( 4, "Small Gods", pratchett ),
+						new Novel( 5, "Mort", pratchett ),
+						new Novel( 6, "Eric", pratchett )
+				) )
+				.thenCompose( v -> countNovels() )
+				.thenAccept( count -> context.assertEquals( 6L, count ) )
+				.thenCompose( v -> getSessionFactory().withSession( s -> s.find( Novel.class, 6 ) ) )
+				.thenAccept( novel -> {
+					context.assertEquals( "Eric", novel.getTitle() );
+					context.assertEquals( pratchett.getName(), novel.getAuthor().getName() );
+				} )
+		);
+	}
+
+	@Test
+	public void testUpdatesAndDeletesInOneFlush(TestContext context) {
+		Writer pratchett = new Writer( 2, "Terry Pratchett" );
+
+		test( context, getSessionFactory()
+				.withTransaction( (s, t) -> s.persist(
+						pratchett,
+						new Novel( 1, "Guards! Guards!", pratchett ),
+						new Novel( 2, "Small Gods", pratchett )
+				) )
+				.thenCompose( v -> getSessionFactory().withTransaction( (s, t) -> s
+						.find( Novel.class, 1 )
+						.thenAccept( novel -> novel.setTitle( "Men at Arms" ) )
+						.thenCompose( vv -> s.find( Novel.class, 2 ) )
+						.thenCompose( s::remove )
+						.thenCompose( vv -> s.persist( new Novel( 3, "Mort", s.getReference( Writer.class, 2 ) ) ) )
+				) )
+				.thenCompose( v -> countNovels() )
+				.thenAccept( count -> context.assertEquals( 2L, count ) )
+				.thenCompose( v -> getSessionFactory().withSession( s -> s.find( Novel.class, 1 ) ) )
+				.thenAccept( novel -> context.assertEquals( "Men at Arms", novel.getTitle() ) )
+		);
+	}
+
+	@Test
+	public void testExpectationVerified(TestContext context) {
+		Writer pratchett = new Writer( 2, "Terry Pratchett" );
+
+		test( context, getSessionFactory()
+				.withTransaction( (s, t) -> s.persist( pratchett, new Novel( 1, "Mort", pratchett ) ) )
+				.thenCompose( v -> getSessionFactory().withSession( s -> s
+						.find( Novel.class, 1 )
+						.thenCompose( novel -> getSessionFactory()
+								// concurrent update bumps the version
+								.withTransaction( (s2, t2) -> s2.find( Novel.class, 1 )
+										.thenAccept( n -> n.setTitle( "Eric" ) ) )
+								.thenAccept( vv -> novel.setTitle( "Sourcery" ) ) )
+						.thenCompose( vv -> s.persist( new Writer( 3, "Neil Gaiman" ) ) )
+						.thenCompose( vv -> s.flush() )
+						.handle( (vv, e) -> {
+							context.assertNotNull( e );
+							context.assertEquals( OptimisticLockException.class, e.getCause().getClass() );
+							return null;
+						} )
+				) )
+		);
+	}
+
+	@Test
+	public void testNothingCommittedAfterFailedBatch(TestContext context) {
+		Writer pratchett = new Writer( 2, "Terry Pratchett" );
+		Writer gaiman = new Writer( 3, "Neil Gaiman" );
+
+		test( context, getSessionFactory()
+				.withTransaction( (s, t) -> s.persist( pratchett ) )
+				.thenCompose( v -> getSessionFactory()
+						.withTransaction( (s, t) -> s.persist(
+								// the batch of writers fails with a duplicate key
+								new Writer( 2, "Terry Pratchett" ),
+								gaiman,
+								new Novel( 1, "Good Omens", gaiman ),
+								new Novel( 2, "Coraline", gaiman )
+						) )
+						.handle( (vv, e) -> {
+							context.assertNotNull( e );
+							return null;
+						} ) )
+				.thenCompose( v -> countNovels() )
+				.thenAccept( count -> context.assertEquals( 0L, count ) )
+				.thenCompose( v -> getSessionFactory().withSession( s -> s.find( Writer.class, 3 ) ) )
+				.thenAccept( context::assertNull )
+		);
+	}
+
+	private CompletionStage<Long> countNovels() {
+		return getSessionFactory().withSession(
+				s -> s.createQuery( "select count(*) from Novel", Long.class ).getSingleResult()
+		);
+	}
+
+	@Entity(name = "Writer")
+	@Table(name = "Writer")
+	public static class Writer {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Writer() {
+		}
+
+		public Writer(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( this == o ) {
+				return true;
+			}
+			if ( o == null || getClass() != o.getClass() ) {
+				return false;
+			}
+			Writer writer = (Writer) o;
+			return Objects.equals( name, writer.name );
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash( name );
+		}
+	}
+
+	@Entity(name = "Novel")
+	@Table(name = "Novel")
+	public static class Novel {
+		@Id
+		private Integer id;
+		@Version
+		private Integer version;
+		private String title;
+		@ManyToOne
+		private Writer author;
+
+		public Novel() {
+		}
+
+		public Novel(Integer id, String title, Writer author) {
+			this.id = id;
+			this.title = title;
+			this.author = author;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getTitle() {
+			return title;
+		}
+
+		public void setTitle(String title) {
+			this.title = title;
+		}
+
+		public Writer getAuthor() {
+			return author;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( this == o ) {
+				return true;
+			}
+			if ( o == null || getClass() != o.getClass() ) {
+				return false;
+			}
+			Novel novel = (Novel) o;
+			return Objects.equals( title, novel.title );
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash( title );
+		}
+	}
+}
@@ -0,0 +1,186 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import javax.persistence.DiscriminatorValue;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.pool.impl.MultiRowInsertRewriter;
+import org.hibernate.reactive.provider.Settings;
+
+import org.junit.After;
+import org.junit.Test;
+
+import io.vertx.ext.unit.TestContext;
+
+/**
+ * Test batched inserts with {@link Settings#BATCH_REWRITE_INSERTS} enabled.
+ */
+public class BatchRewriteInsertsTest extends BaseReactiveTest {
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.addAnnotatedClass( Planet.class );
+		configuration.addAnnotatedClass( DwarfPlanet.class );
+		configuration.setProperty( AvailableSettings.STATEMENT_BATCH_SIZE, "5" );
+		configuration.setProperty( Settings.BATCH_REWRITE_INSERTS, "true" );
+		return configuration;
+	}
+
+	@After
+	public void cleanDb(TestContext context) {
+		test( context, getSessionFactory()
+				.withTransaction( (s, t) -> s.createQuery( "delete from Planet" ).executeUpdate() ) );
+	}
+
+	@Test
+	public void testRewrittenInserts(TestContext context) {
+		List<Planet> planets = new ArrayList<>();
+		String[] names = { "Mercury", "Venus", "Earth", "Mars", "Jupiter", "Saturn", "Uranus", "Neptune" };
+		for ( int i = 0; i < names.length; i++ ) {
+			planets.add( new Planet( i + 1, names[i] ) );
+		}
+
+		test( context, getSessionFactory()
+				.withTransaction( (s, t) -> s.persist( planets.toArray() ) )
+				.thenCompose( v -> countPlanets() )
+				.thenAccept( count -> context.assertEquals( (long) names.length, count ) )
+				.thenCompose( v -> getSessionFactory().withSession( s -> s.find( Planet.class, 7 ) ) )
+				.thenAccept( planet -> context.assertEquals( "Uranus", planet.getName() ) )
+		);
+	}
+
+	@Test
+	public void testRewrittenInsertsWithDiscriminator(TestContext context) {
+		test( context, getSessionFactory()
+				.withTransaction( (s, t) -> s.persist(
+						new DwarfPlanet( 10, "Ceres" ),
+						new DwarfPlanet( 11, "Pluto" ),
+						new DwarfPlanet( 12, "Haumea" ),
+						new Planet( 13, "Earth" ),
+						new DwarfPlanet( 14, "Eris" )
+				) )
+				.thenCompose( v -> getSessionFactory().withSession(
+						s -> s.createQuery( "select count(*) from DwarfPlanet", Long.class ).getSingleResult()
+				) )
+				.thenAccept( count -> context.assertEquals( 4L, count ) )
+				.thenCompose( v -> getSessionFactory().withSession( s -> s.find( Planet.class, 11 ) ) )
+				.thenAccept( planet -> {
+					context.assertTrue( planet instanceof DwarfPlanet );
+					context.assertEquals( "Pluto", planet.getName() );
+				} )
+		);
+	}
+
+	@Test
+	public void testRewrittenInsertsStopAtFailureOutsideTransaction(TestContext context) {
+		List<Planet> planets = new ArrayList<>();
+		String[] names = { "Mercury", "Venus", "Earth", "Mars", "Jupiter" };
+		for ( int i = 0; i < names.length; i++ ) {
+			planets.add( new Planet( i + 1, names[i] ) );
+		}
+
+		test( context, getSessionFactory()
+				.withTransaction( (s, t) -> s.persist( new Planet( 1, "Mercury" ) ) )
+				// inserted as chunks of 4 rows and 1 row, the first of which fails
+				.thenCompose( v -> getSessionFactory().withSession(
+						s -> s.persist( planets.toArray() ).thenCompose( vv -> s.flush() )
+				) )
+				.handle( (v, e) -> {
+					context.assertNotNull( e );
+					return null;
+				} )
+				.thenCompose( v -> countPlanets() )
+				.thenAccept( count -> context.assertEquals( 1L, count ) )
+				.thenCompose( v -> getSessionFactory().withSession( s -> s.find( Planet.class, 5 ) ) )
+				.thenAccept( context::assertNull )
+		);
+	}
+
+	@Test
+	public void testRewriter(TestContext context) {
+		MultiRowInsertRewriter rewriter =
+				MultiRowInsertRewriter.parse( "insert into Planet (name, DTYPE, id) values ($1, 'Planet', $2)" );
+		context.assertNotNull( rewriter );
+
+		List<Object[]> batch = new ArrayList<>();
+		for ( int i = 0; i < 3; i++ ) {
+			batch.add( new Object[] { "name" + i, i } );
+		}
+		List<MultiRowInsertRewriter.Chunk> chunks = rewriter.split( batch );
+		context.assertEquals( 2, chunks.size() );
+		context.assertEquals(
+				"insert into Planet (name, DTYPE, id) values ($1, 'Planet', $2), ($3, 'Planet', $4)",
+				chunks.get( 0 ).getSql()
+		);
+		context.assertEquals( 4, chunks.get( 0 ).getParameters().length );
+		context.assertEquals( "insert into Planet (name, DTYPE, id) values ($1, 'Planet', $2)", chunks.get( 1 ).getSql() );
+		context.assertEquals( 2, chunks.get( 1 ).getStart() );
+
+		context.assertNull( MultiRowInsertRewriter.parse( "update Planet set name = ? where id = ?" ) );
+		context.assertNull( MultiRowInsertRewriter.parse( "insert into Planet (name, id) values (?, ?) returning id" ) );
+
+		// the rewriters are cached
+		String sql = "insert into Planet (name, id) values (?, ?)";
+		context.assertNotNull( MultiRowInsertRewriter.forSql( sql ) );
+		context.assertTrue( MultiRowInsertRewriter.forSql( sql ) == MultiRowInsertRewriter.forSql( sql ) );
+		context.assertNull( MultiRowInsertRewriter.forSql( "update Planet set name = ? where id = ?" ) );
+	}
+
+	private CompletionStage<Long> countPlanets() {
+		return getSessionFactory().withSession(
+				s -> s.createQuery( "select count(*) from Planet", Long.class ).getSingleResult()
+		);
+	}
+
+	@Entity(name = "Planet")
+	@Table(name = "Planet")
+	public static class Planet {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Planet() {
+		}
+
+		public Planet(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "DwarfPlanet")
+	@DiscriminatorValue("Dwarf")
+	public static class DwarfPlanet extends Planet {
+
+		public DwarfPlanet() {
+		}
+
+		public DwarfPlanet(Integer id, String name) {
+			super( id, name );
+		}
+	}
+}
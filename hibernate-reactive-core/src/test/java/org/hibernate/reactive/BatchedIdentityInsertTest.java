@@ -0,0 +1,114 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.testing.DatabaseSelectionRule;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import io.vertx.ext.unit.TestContext;
+
+import static org.hibernate.reactive.containers.DatabaseConfiguration.DBType.COCKROACHDB;
+import static org.hibernate.reactive.containers.DatabaseConfiguration.DBType.POSTGRESQL;
+
+/**
+ * Test the insertion of several entities with identity columns
+ * using a single {@code insert ... returning} statement.
+ */
+public class BatchedIdentityInsertTest extends BaseReactiveTest {
+
+	private static final int ENTITY_NUMBER = 50;
+
+	@Rule
+	public DatabaseSelectionRule rule = DatabaseSelectionRule.runOnlyFor( POSTGRESQL, COCKROACHDB );
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.addAnnotatedClass( Ticket.class );
+		configuration.addAnnotatedClass( Seat.class );
+		return configuration;
+	}
+
+	@Test
+	public void testIdentityInsertAll(TestContext context) {
+		List<Object> entities = new ArrayList<>();
+		for ( int i = 0; i < ENTITY_NUMBER; i++ ) {
+			entities.add( new Ticket( "T" + i ) );
+			if ( i % 10 == 0 ) {
+				// breaks the run of tickets
+				entities.add( new Seat( "S" + i ) );
+			}
+		}
+
+		test( context, getSessionFactory()
+				.withStatelessSession( s -> s.insert( entities.toArray() ) )
+				.thenCompose( v -> getSessionFactory().withSession( s -> s
+						.createQuery( "from Ticket", Ticket.class ).getResultList() ) )
+				.thenAccept( list -> {
+					context.assertEquals( ENTITY_NUMBER, list.size() );
+					for ( Object entity : entities ) {
+						if ( entity instanceof Ticket ) {
+							Ticket ticket = (Ticket) entity;
+							context.assertNotNull( ticket.id );
+							Ticket loaded = list.stream()
+									.filter( t -> t.id.equals( ticket.id ) )
+									.findFirst()
+									.orElse( null );
+							context.assertNotNull( loaded );
+							// ids were assigned in the order of the rows
+							context.assertEquals( ticket.code, loaded.code );
+						}
+						else {
+							context.assertNotNull( ( (Seat) entity ).id );
+						}
+					}
+				} )
+		);
+	}
+
+	@Entity(name = "Ticket")
+	@Table(name = "Ticket")
+	public static class Ticket {
+		@Id
+		@GeneratedValue(strategy = GenerationType.IDENTITY)
+		Long id;
+		String code;
+
+		public Ticket() {
+		}
+
+		public Ticket(String code) {
+			this.code = code;
+		}
+	}
+
+	@Entity(name = "Seat")
+	@Table(name = "Seat")
+	public static class Seat {
+		@Id
+		@GeneratedValue(strategy = GenerationType.IDENTITY)
+		Integer id;
+		String label;
+
+		public Seat() {
+		}
+
+		public Seat(String label) {
+			this.label = label;
+		}
+	}
+}
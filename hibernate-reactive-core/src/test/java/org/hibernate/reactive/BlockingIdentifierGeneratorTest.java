@@ -0,0 +1,210 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.reactive.id.impl.BlockingIdentifierGenerator;
+import org.hibernate.reactive.pool.ReactiveConnection;
+import org.hibernate.reactive.pool.ReactiveConnectionPool;
+import org.hibernate.reactive.session.ReactiveConnectionSupplier;
+
+import org.junit.After;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test the allocation of ids by {@link BlockingIdentifierGenerator}
+ * from many threads at once, with a fake sequence in place of the
+ * database.
+ */
+public class BlockingIdentifierGeneratorTest {
+
+	private static final int BLOCK_SIZE = 50;
+	private static final int THREADS = 16;
+	private static final int IDS_PER_THREAD = 2_000;
+
+	private final ExecutorService database = Executors.newSingleThreadExecutor();
+	private final ExecutorService threads = Executors.newFixedThreadPool( THREADS );
+
+	@After
+	public void shutdown() {
+		database.shutdownNow();
+		threads.shutdownNow();
+	}
+
+	@Test
+	public void testConcurrentAllocation() throws Exception {
+		FakeSequenceGenerator generator = new FakeSequenceGenerator();
+		Set<Long> ids = ConcurrentHashMap.newKeySet();
+
+		List<Future<?>> results = new ArrayList<>();
+		for ( int t = 0; t < THREADS; t++ ) {
+			results.add( threads.submit( () -> {
+				List<CompletableFuture<Long>> generated = new ArrayList<>();
+				for ( int i = 0; i < IDS_PER_THREAD; i++ ) {
+					generated.add( generator.generate( null, null ).toCompletableFuture() );
+				}
+				generated.forEach( id -> ids.add( id.join() ) );
+			} ) );
+		}
+		for ( Future<?> result : results ) {
+			result.get();
+		}
+
+		assertThat( ids ).hasSize( THREADS * IDS_PER_THREAD );
+		assertThat( generator.maxInFlight.get() ).isEqualTo( 1 );
+		// every id in every block is used
+		assertThat( generator.fetches.get() ).isEqualTo( THREADS * IDS_PER_THREAD / BLOCK_SIZE );
+	}
+
+	@Test
+	public void testFailedFetch() {
+		FakeSequenceGenerator generator = new FakeSequenceGenerator();
+		generator.fail = true;
+		assertThat( generator.generate( null, null ).toCompletableFuture() ).isCompletedExceptionally();
+
+		// the generator recovers once the database does
+		generator.fail = false;
+		assertThat( generator.generate( null, null ).toCompletableFuture().join() ).isEqualTo( 1L );
+		assertThat( generator.generate( null, null ).toCompletableFuture().join() ).isEqualTo( 2L );
+	}
+
+	@Test
+	public void testPrefetch() throws Exception {
+		FakeSequenceGenerator generator = new FakeSequenceGenerator();
+		FakePool pool = new FakePool();
+		generator.enablePrefetch( 10, pool );
+
+		for ( long i = 1; i <= BLOCK_SIZE - 10; i++ ) {
+			assertThat( generator.generate( null, null ).toCompletableFuture().join() ).isEqualTo( i );
+		}
+		assertThat( generator.fetches.get() ).isEqualTo( 1 );
+
+		// the low-water mark triggers a fetch using a connection from the pool
+		assertThat( generator.generate( null, null ).toCompletableFuture().join() ).isEqualTo( BLOCK_SIZE - 9L );
+		// wait for the fetch, and the callbacks it ran on the database thread
+		database.submit( () -> {} ).get();
+		assertThat( generator.fetches.get() ).isEqualTo( 2 );
+		assertThat( pool.connections.get() ).isEqualTo( 1 );
+
+		// the next block is swapped in without waiting for the database
+		for ( long i = BLOCK_SIZE - 8; i <= BLOCK_SIZE; i++ ) {
+			generator.generate( null, null ).toCompletableFuture().join();
+		}
+		CompletableFuture<Long> id = generator.generate( null, null ).toCompletableFuture();
+		assertThat( id ).isCompleted();
+		assertThat( id.join() ).isEqualTo( BLOCK_SIZE + 1L );
+		assertThat( generator.fetches.get() ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void testGenerateAll() {
+		FakeSequenceGenerator generator = new FakeSequenceGenerator();
+		assertThat( generator.generate( null, null ).toCompletableFuture().join() ).isEqualTo( 1L );
+
+		// the rest of the current block, and then two new blocks
+		List<Long> ids = generator.generateAll( null, Collections.nCopies( 120, null ) )
+				.toCompletableFuture().join();
+		assertThat( ids ).hasSize( 120 );
+		assertThat( ids.get( 0 ) ).isEqualTo( 2L );
+		assertThat( ids.get( 119 ) ).isEqualTo( 121L );
+		assertThat( generator.fetches.get() ).isEqualTo( 3 );
+	}
+
+	@Test
+	public void testSmallBatchesUseWholeBlocks() {
+		FakeSequenceGenerator generator = new FakeSequenceGenerator();
+		List<Long> ids = new ArrayList<>();
+		for ( int i = 0; i < BLOCK_SIZE; i++ ) {
+			ids.addAll( generator.generateAll( null, Collections.nCopies( 2, null ) )
+					.toCompletableFuture().join() );
+		}
+		assertThat( ids ).hasSize( 2 * BLOCK_SIZE );
+		assertThat( ids.get( 0 ) ).isEqualTo( 1L );
+		assertThat( ids.get( 2 * BLOCK_SIZE - 1 ) ).isEqualTo( 2L * BLOCK_SIZE );
+		// the rest of each block fetched was used by the following batches
+		assertThat( generator.fetches.get() ).isEqualTo( 2 );
+	}
+
+	private class FakeSequenceGenerator extends BlockingIdentifierGenerator {
+		final AtomicInteger fetches = new AtomicInteger();
+		final AtomicInteger inFlight = new AtomicInteger();
+		final AtomicInteger maxInFlight = new AtomicInteger();
+		volatile boolean fail;
+
+		@Override
+		protected void enablePrefetch(int lowWaterMark, ReactiveConnectionPool connectionPool) {
+			super.enablePrefetch( lowWaterMark, connectionPool );
+		}
+
+		@Override
+		protected int getBlockSize() {
+			return BLOCK_SIZE;
+		}
+
+		@Override
+		protected CompletionStage<Long> nextHiValue(ReactiveConnectionSupplier session) {
+			if ( fail ) {
+				CompletableFuture<Long> failure = new CompletableFuture<>();
+				failure.completeExceptionally( new IllegalStateException( "database is down" ) );
+				return failure;
+			}
+			int current = inFlight.incrementAndGet();
+			maxInFlight.accumulateAndGet( current, Math::max );
+			return CompletableFuture.supplyAsync( () -> {
+				inFlight.decrementAndGet();
+				return (long) fetches.getAndIncrement() * BLOCK_SIZE + 1;
+			}, database );
+		}
+	}
+
+	/**
+	 * A pool of connections which are never actually used by
+	 * the fake generator.
+	 */
+	private static class FakePool implements ReactiveConnectionPool {
+		final AtomicInteger connections = new AtomicInteger();
+
+		@Override
+		public CompletionStage<ReactiveConnection> getConnection() {
+			connections.incrementAndGet();
+			// the only operation the generator performs is close()
+			return CompletableFuture.completedFuture( (ReactiveConnection) Proxy.newProxyInstance(
+					ReactiveConnection.class.getClassLoader(),
+					new Class<?>[] { ReactiveConnection.class },
+					(proxy, method, args) -> null
+			) );
+		}
+
+		@Override
+		public CompletionStage<ReactiveConnection> getConnection(String tenantId) {
+			return getConnection();
+		}
+
+		@Override
+		public ReactiveConnection getProxyConnection() {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public ReactiveConnection getProxyConnection(String tenantId) {
+			throw new UnsupportedOperationException();
+		}
+	}
+}
@@ -0,0 +1,126 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.hibernate.cfg.Configuration;
+
+import org.junit.Test;
+
+import io.vertx.ext.unit.TestContext;
+
+public class BulkInsertTest extends BaseReactiveTest {
+
+	private static final int ENTITY_NUMBER = 1000;
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.addAnnotatedClass( Measurement.class );
+		configuration.addAnnotatedClass( Sensor.class );
+		return configuration;
+	}
+
+	@Test
+	public void testBulkInsertWithStage(TestContext context) {
+		List<Object> entities = new ArrayList<>();
+		entities.add( new Sensor( "thermometer" ) );
+		for ( int i = 0; i < ENTITY_NUMBER; i++ ) {
+			entities.add( new Measurement( i, i * 0.5 ) );
+		}
+		entities.add( new Sensor( "barometer" ) );
+
+		test( context, getSessionFactory()
+				.withStatelessSession( s -> s.bulkInsert( entities.toArray() ) )
+				.thenCompose( v -> getSessionFactory().withSession( s -> s
+						.createQuery( "select count(*) from Measurement", Long.class ).getSingleResult() ) )
+				.thenAccept( count -> context.assertEquals( (long) ENTITY_NUMBER, count ) )
+				.thenCompose( v -> getSessionFactory().withSession( s -> s.find( Measurement.class, 777 ) ) )
+				.thenAccept( measurement -> context.assertEquals( 388.5, measurement.reading ) )
+				.thenAccept( v -> {
+					context.assertNotNull( ( (Sensor) entities.get( 0 ) ).id );
+					context.assertNotNull( ( (Sensor) entities.get( ENTITY_NUMBER + 1 ) ).id );
+				} )
+		);
+	}
+
+	@Test
+	public void testBulkInsertStopsAtFailureOutsideTransaction(TestContext context) {
+		List<Object> entities = new ArrayList<>();
+		for ( int i = 0; i < ENTITY_NUMBER; i++ ) {
+			entities.add( new Measurement( i, i * 0.5 ) );
+		}
+
+		test( context, getSessionFactory()
+				.withTransaction( (s, t) -> s.persist( new Measurement( 0, 0.0 ) ) )
+				// the first statement fails, so the others are never sent
+				.thenCompose( v -> getSessionFactory().withStatelessSession( s -> s.bulkInsert( entities.toArray() ) ) )
+				.handle( (v, e) -> {
+					context.assertNotNull( e );
+					return null;
+				} )
+				.thenCompose( v -> getSessionFactory().withSession( s -> s
+						.createQuery( "select count(*) from Measurement", Long.class ).getSingleResult() ) )
+				.thenAccept( count -> context.assertEquals( 1L, count ) )
+		);
+	}
+
+	@Test
+	public void testBulkInsertWithMutiny(TestContext context) {
+		Object[] sensors = { new Sensor( "hygrometer" ), new Sensor( "anemometer" ), new Sensor( "pluviometer" ) };
+
+		test( context, getMutinySessionFactory()
+				.withStatelessSession( s -> s.bulkInsert( sensors ) )
+				.chain( () -> getMutinySessionFactory().withSession( s -> s
+						.createQuery( "select count(*) from Sensor", Long.class ).getSingleResult() ) )
+				.invoke( count -> {
+					context.assertEquals( 3L, count );
+					for ( Object sensor : sensors ) {
+						context.assertNotNull( ( (Sensor) sensor ).id );
+					}
+				} )
+		);
+	}
+
+	@Entity(name = "Measurement")
+	@Table(name = "Measurement")
+	public static class Measurement {
+		@Id
+		Integer id;
+		Double reading;
+
+		public Measurement() {
+		}
+
+		public Measurement(Integer id, Double reading) {
+			this.id = id;
+			this.reading = reading;
+		}
+	}
+
+	@Entity(name = "Sensor")
+	@Table(name = "Sensor")
+	public static class Sensor {
+		@Id
+		@GeneratedValue(strategy = GenerationType.IDENTITY)
+		Long id;
+		String kind;
+
+		public Sensor() {
+		}
+
+		public Sensor(String kind) {
+			this.kind = kind;
+		}
+	}
+}
@@ -141,6 +141,42 @@ public void testLoadFromCachedQueryResultFromCache2(TestContext context) {
 		);
 	}
 
+	@Test
+	public void testCachedIdsUsedWhenEntitiesNotCached(TestContext context) {
+		test( context, getMutinySessionFactory().withSession( CachedQueryResultsTest::findall2 )
+				// change the database behind the back of Hibernate
+				.call( () -> Uni.createFrom().completionStage( connection()
+						.thenCompose( c -> c.update( "INSERT INTO known_fruits(id, name) VALUES (4, 'Apple')" ) ) ) )
+				.chain( () -> getMutinySessionFactory().withSession( CachedQueryResultsTest::findall2 ) )
+				.invoke( list -> {
+					// the ids come from the cached query results, but the
+					// entities, which aren't cached, from the database
+					context.assertEquals( 3, list.size() );
+					int i = 0;
+					for ( Fruit entity : list ) {
+						context.assertEquals( entity, FRUITS[i++] );
+					}
+				} )
+		);
+	}
+
+	@Test
+	public void testQueryExecutedWhenCachedEntityDeleted(TestContext context) {
+		test( context, getMutinySessionFactory().withSession( CachedQueryResultsTest::findall2 )
+				// change the database behind the back of Hibernate
+				.call( () -> Uni.createFrom().completionStage( connection()
+						.thenCompose( c -> c.update( "DELETE FROM known_fruits WHERE name = 'Tomato'" ) ) ) )
+				.chain( () -> getMutinySessionFactory().withSession( CachedQueryResultsTest::findall2 ) )
+				.invoke( list -> {
+					// one of the cached ids refers to an entity which no longer
+					// exists, and so the query was executed again
+					context.assertEquals( 2, list.size() );
+					context.assertEquals( FRUITS[0], list.get( 0 ) );
+					context.assertEquals( FRUITS[1], list.get( 1 ) );
+				} )
+		);
+	}
+
 	@Entity(name = "Fruit")
 	@Table(name = "known_fruits")
 	@NamedQuery(name = Fruit.FIND_ALL
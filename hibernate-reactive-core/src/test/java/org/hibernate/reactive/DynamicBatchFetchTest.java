@@ -0,0 +1,138 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.persistence.CascadeType;
+import javax.persistence.Entity;
+import javax.persistence.FetchType;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.persistence.OneToMany;
+import javax.persistence.Table;
+
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.loader.BatchFetchStyle;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import io.vertx.ext.unit.TestContext;
+
+import static org.hibernate.Hibernate.isInitialized;
+
+/**
+ * Test batch fetching with {@link BatchFetchStyle#DYNAMIC}, where the size
+ * of the batch varies from one query to the next. On PostgreSQL, the batch
+ * of ids is bound as a single array parameter.
+ */
+public class DynamicBatchFetchTest extends BaseReactiveTest {
+
+	private static final int CATALOGS = 7;
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.addAnnotatedClass( Catalog.class );
+		configuration.addAnnotatedClass( Product.class );
+		configuration.setProperty( AvailableSettings.BATCH_FETCH_STYLE, BatchFetchStyle.DYNAMIC.name() );
+		return configuration;
+	}
+
+	@Before
+	public void populateDb(TestContext context) {
+		List<Catalog> catalogs = new ArrayList<>();
+		for ( int i = 1; i <= CATALOGS; i++ ) {
+			Catalog catalog = new Catalog( i, "Catalog " + i );
+			for ( int j = 1; j <= i; j++ ) {
+				catalog.products.add( new Product( "P" + i + "-" + j, catalog ) );
+			}
+			catalogs.add( catalog );
+		}
+		test( context, getSessionFactory()
+				.withTransaction( (s, t) -> s.persist( catalogs.toArray() ) )
+		);
+	}
+
+	@Test
+	public void testFindWithBatchesOfDifferentSizes(TestContext context) {
+		test( context, getSessionFactory()
+				.withSession( s -> s.find( Product.class, "P3-1", "P3-2", "P3-3" )
+						.thenAccept( products -> {
+							context.assertEquals( 3, products.size() );
+							context.assertEquals( "P3-2", products.get( 1 ).code );
+						} )
+						.thenCompose( v -> s.find( Product.class, "P5-1", "P5-2", "P5-3", "P5-4", "P5-5", "P9-9" ) )
+						.thenAccept( products -> {
+							context.assertEquals( 6, products.size() );
+							context.assertEquals( "P5-5", products.get( 4 ).code );
+							context.assertNull( products.get( 5 ) );
+						} ) )
+		);
+	}
+
+	@Test
+	public void testCollectionBatches(TestContext context) {
+		test( context, getSessionFactory()
+				.withSession( s -> s.createQuery( "from Catalog order by id", Catalog.class )
+						.getResultList()
+						.thenCompose( catalogs -> s.fetch( catalogs.get( 0 ).products )
+								.thenAccept( products -> {
+									context.assertEquals( 1, products.size() );
+									// the batch size is smaller than the number of catalogs
+									context.assertTrue( isInitialized( catalogs.get( 4 ).products ) );
+									context.assertFalse( isInitialized( catalogs.get( 5 ).products ) );
+								} )
+								.thenCompose( v -> s.fetch( catalogs.get( 6 ).products ) )
+								.thenAccept( products -> {
+									context.assertEquals( 7, products.size() );
+									context.assertTrue( isInitialized( catalogs.get( 5 ).products ) );
+									context.assertEquals( 6, catalogs.get( 5 ).products.size() );
+								} ) ) )
+		);
+	}
+
+	@Entity(name = "Catalog")
+	@Table(name = "Catalog")
+	public static class Catalog {
+		@Id
+		Integer id;
+		String name;
+
+		@OneToMany(mappedBy = "catalog", cascade = CascadeType.PERSIST, fetch = FetchType.LAZY)
+		@BatchSize(size = 5)
+		List<Product> products = new ArrayList<>();
+
+		public Catalog() {
+		}
+
+		public Catalog(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Product")
+	@Table(name = "Product")
+	public static class Product {
+		@Id
+		String code;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		Catalog catalog;
+
+		public Product() {
+		}
+
+		public Product(String code, Catalog catalog) {
+			this.code = code;
+			this.catalog = catalog;
+		}
+	}
+}
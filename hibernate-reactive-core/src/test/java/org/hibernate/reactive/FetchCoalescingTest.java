@@ -0,0 +1,191 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import javax.persistence.CascadeType;
+import javax.persistence.Entity;
+import javax.persistence.FetchType;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.persistence.OneToMany;
+import javax.persistence.Table;
+
+import org.hibernate.LockMode;
+import org.hibernate.cfg.Configuration;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import io.smallrye.mutiny.Uni;
+import io.vertx.ext.unit.TestContext;
+
+import static org.hibernate.Hibernate.isInitialized;
+
+/**
+ * Test the coalescing of calls to {@link org.hibernate.reactive.stage.Stage.Session#fetch}
+ * and {@link org.hibernate.reactive.mutiny.Mutiny.Session#fetch} enabled by
+ * {@code setFetchCoalescing(true)}. Neither association has a {@code @BatchSize},
+ * so the siblings of a fetched association are only initialized along with it
+ * when the fetches are coalesced.
+ */
+public class FetchCoalescingTest extends BaseReactiveTest {
+
+	private static final int SHELVES = 3;
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.addAnnotatedClass( Shelf.class );
+		configuration.addAnnotatedClass( Volume.class );
+		return configuration;
+	}
+
+	@Before
+	public void populateDb(TestContext context) {
+		List<Shelf> shelves = new ArrayList<>();
+		for ( int i = 1; i <= SHELVES; i++ ) {
+			Shelf shelf = new Shelf( i, "Shelf " + i );
+			shelf.volumes.add( new Volume( i * 10 + 1, "Volume " + i + ".1", shelf ) );
+			shelf.volumes.add( new Volume( i * 10 + 2, "Volume " + i + ".2", shelf ) );
+			shelves.add( shelf );
+		}
+		test( context, getSessionFactory()
+				.withTransaction( (s, t) -> s.persist( shelves.toArray() ) )
+		);
+	}
+
+	@Test
+	public void testCoalescedCollectionFetch(TestContext context) {
+		test( context, getSessionFactory()
+				.withSession( s -> s.setFetchCoalescing( true )
+						.createQuery( "from Shelf order by id", Shelf.class )
+						.getResultList()
+						.thenCompose( shelves -> {
+							List<CompletableFuture<List<Volume>>> fetches = shelves.stream()
+									.map( shelf -> s.fetch( shelf.volumes ).toCompletableFuture() )
+									.collect( Collectors.toList() );
+							return fetches.get( 0 )
+									.thenAccept( volumes -> {
+										context.assertEquals( 2, volumes.size() );
+										// the other collections were loaded by the same query
+										shelves.forEach( shelf -> context.assertTrue( isInitialized( shelf.volumes ) ) );
+									} )
+									.thenCompose( v -> CompletableFuture.allOf( fetches.toArray( new CompletableFuture[0] ) ) )
+									.thenAccept( v -> shelves.forEach(
+											shelf -> context.assertEquals( 2, shelf.volumes.size() )
+									) );
+						} ) )
+		);
+	}
+
+	@Test
+	public void testCoalescedProxyFetch(TestContext context) {
+		test( context, getSessionFactory()
+				.withSession( s -> s.setFetchCoalescing( true )
+						.createQuery( "from Volume where id in (11, 21, 31) order by id", Volume.class )
+						.getResultList()
+						.thenCompose( volumes -> {
+							volumes.forEach( volume -> context.assertFalse( isInitialized( volume.shelf ) ) );
+							List<CompletableFuture<Shelf>> fetches = volumes.stream()
+									.map( volume -> s.fetch( volume.shelf ).toCompletableFuture() )
+									.collect( Collectors.toList() );
+							return fetches.get( 0 )
+									.thenAccept( shelf -> {
+										context.assertEquals( "Shelf 1", shelf.getName() );
+										// the other shelves were loaded by the same query
+										volumes.forEach( volume -> context.assertEquals(
+												LockMode.READ, s.getLockMode( volume.shelf )
+										) );
+									} )
+									.thenCompose( v -> CompletableFuture.allOf( fetches.toArray( new CompletableFuture[0] ) ) )
+									.thenAccept( v -> {
+										for ( int i = 0; i < SHELVES; i++ ) {
+											context.assertEquals( "Shelf " + ( i + 1 ), fetches.get( i ).join().getName() );
+										}
+									} );
+						} ) )
+		);
+	}
+
+	@Test
+	public void testMutinyCoalescedFetch(TestContext context) {
+		test( context, getMutinySessionFactory()
+				.withSession( s -> s.setFetchCoalescing( true )
+						.createQuery( "from Shelf order by id", Shelf.class )
+						.getResultList()
+						.chain( shelves -> Uni.combine().all()
+								.unis( shelves.stream().map( shelf -> s.fetch( shelf.volumes ) ).collect( Collectors.toList() ) )
+								.combinedWith( lists -> lists ) )
+						.invoke( lists -> {
+							context.assertEquals( SHELVES, lists.size() );
+							lists.forEach( volumes -> context.assertEquals( 2, ( (List<?>) volumes ).size() ) );
+						} ) )
+		);
+	}
+
+	@Test
+	public void testFetchCoalescingDisabled(TestContext context) {
+		test( context, getSessionFactory()
+				.withSession( s -> {
+					context.assertFalse( s.isFetchCoalescing() );
+					return s.createQuery( "from Shelf order by id", Shelf.class )
+							.getResultList()
+							.thenCompose( shelves -> s.fetch( shelves.get( 0 ).volumes )
+									.thenAccept( volumes -> {
+										context.assertEquals( 2, volumes.size() );
+										context.assertFalse( isInitialized( shelves.get( 1 ).volumes ) );
+									} ) );
+				} )
+		);
+	}
+
+	@Entity(name = "Shelf")
+	@Table(name = "Shelf")
+	public static class Shelf {
+		@Id
+		Integer id;
+		String name;
+
+		@OneToMany(mappedBy = "shelf", cascade = CascadeType.PERSIST, fetch = FetchType.LAZY)
+		List<Volume> volumes = new ArrayList<>();
+
+		public Shelf() {
+		}
+
+		public Shelf(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public String getName() {
+			return name;
+		}
+	}
+
+	@Entity(name = "Volume")
+	@Table(name = "Volume")
+	public static class Volume {
+		@Id
+		Integer id;
+		String title;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		Shelf shelf;
+
+		public Volume() {
+		}
+
+		public Volume(Integer id, String title, Shelf shelf) {
+			this.id = id;
+			this.title = title;
+			this.shelf = shelf;
+		}
+	}
+}
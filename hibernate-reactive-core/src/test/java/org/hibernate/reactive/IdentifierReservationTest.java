@@ -0,0 +1,84 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.Set;
+import java.util.TreeSet;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.Id;
+import javax.persistence.SequenceGenerator;
+import javax.persistence.Table;
+
+import org.hibernate.cfg.Configuration;
+
+import org.junit.Test;
+
+import io.vertx.ext.unit.TestContext;
+
+/**
+ * Test that the identifiers of several new instances of an entity
+ * persisted or inserted together are all reserved at once.
+ *
+ * @see org.hibernate.reactive.id.ReactiveIdentifierGenerator#generateAll
+ */
+public class IdentifierReservationTest extends BaseReactiveTest {
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.addAnnotatedClass( Ticket.class );
+		return configuration;
+	}
+
+	@Test
+	public void testPersistAll(TestContext context) {
+		Ticket[] tickets = { new Ticket( "A" ), new Ticket( "B" ), new Ticket( "C" ), new Ticket( "D" ) };
+		test( context, getSessionFactory()
+				.withTransaction( (s, t) -> s.persist( (Object[]) tickets ) )
+				.thenCompose( v -> getSessionFactory().withSession(
+						s -> s.createQuery( "from Ticket", Ticket.class ).getResultList()
+				) )
+				.thenAccept( list -> {
+					context.assertEquals( tickets.length, list.size() );
+					Set<Long> ids = new TreeSet<>();
+					for ( Ticket ticket : tickets ) {
+						ids.add( ticket.id );
+					}
+					context.assertEquals( tickets.length, ids.size() );
+				} )
+		);
+	}
+
+	@Test
+	public void testInsertAll(TestContext context) {
+		Ticket[] tickets = { new Ticket( "E" ), new Ticket( "F" ), new Ticket( "G" ) };
+		test( context, getMutinySessionFactory()
+				.withStatelessSession( s -> s.insertAll( (Object[]) tickets ) )
+				.chain( () -> getMutinySessionFactory().withStatelessSession(
+						s -> s.get( Ticket.class, tickets[2].id )
+				) )
+				.invoke( ticket -> context.assertEquals( "G", ticket.code ) )
+		);
+	}
+
+	@Entity(name = "Ticket")
+	@Table(name = "Ticket")
+	@SequenceGenerator(name = "ticket_seq", sequenceName = "ticket_seq", allocationSize = 1)
+	public static class Ticket {
+		@Id
+		@GeneratedValue(generator = "ticket_seq")
+		Long id;
+		String code;
+
+		public Ticket() {
+		}
+
+		public Ticket(String code) {
+			this.code = code;
+		}
+	}
+}
@@ -0,0 +1,78 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.Id;
+import javax.persistence.SequenceGenerator;
+import javax.persistence.Table;
+
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.testing.DatabaseSelectionRule;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import io.vertx.ext.unit.TestContext;
+
+import static org.hibernate.reactive.containers.DatabaseConfiguration.DBType.MYSQL;
+
+/**
+ * Test that a sequence with an increment size greater than 1, and no
+ * explicit optimizer, is interpreted by the {@code pooled-lo} optimizer,
+ * as it always was by Hibernate Reactive. Two generators share the
+ * sequence, so that the ids they obtain reveal the interpretation.
+ *
+ * @see OrmSequenceOptimizerTest
+ */
+public class ImplicitSequenceOptimizerTest extends BaseReactiveTest {
+
+	// MySQL has no sequences
+	@Rule
+	public DatabaseSelectionRule rule = DatabaseSelectionRule.skipTestsFor( MYSQL );
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.addAnnotatedClass( Invoice.class );
+		configuration.addAnnotatedClass( CreditNote.class );
+		return configuration;
+	}
+
+	@Test
+	public void testPooledLoByDefault(TestContext context) {
+		Invoice invoice = new Invoice();
+		CreditNote note = new CreditNote();
+		test( context, getSessionFactory()
+				.withTransaction( (s, t) -> s.persist( invoice ) )
+				.thenCompose( v -> getSessionFactory().withTransaction( (s, t) -> s.persist( note ) ) )
+				.thenAccept( v -> {
+					// each value is the start of a block
+					context.assertEquals( 1L, invoice.id );
+					context.assertEquals( 6L, note.id );
+				} )
+		);
+	}
+
+	@Entity(name = "Invoice")
+	@Table(name = "Invoice")
+	@SequenceGenerator(name = "invoices", sequenceName = "document_seq", allocationSize = 5)
+	public static class Invoice {
+		@Id
+		@GeneratedValue(generator = "invoices")
+		Long id;
+	}
+
+	@Entity(name = "CreditNote")
+	@Table(name = "CreditNote")
+	@SequenceGenerator(name = "notes", sequenceName = "document_seq", allocationSize = 5)
+	public static class CreditNote {
+		@Id
+		@GeneratedValue(generator = "notes")
+		Long id;
+	}
+}
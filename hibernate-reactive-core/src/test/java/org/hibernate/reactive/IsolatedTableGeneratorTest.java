@@ -0,0 +1,87 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import javax.persistence.TableGenerator;
+
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.provider.Settings;
+
+import org.junit.Test;
+
+import io.vertx.ext.unit.TestContext;
+
+/**
+ * Test a table generator which obtains its hi values in a separate
+ * transaction, enabled by {@link Settings#TABLE_GENERATOR_ISOLATED}.
+ */
+public class IsolatedTableGeneratorTest extends BaseReactiveTest {
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.addAnnotatedClass( Receipt.class );
+		configuration.setProperty( Settings.TABLE_GENERATOR_ISOLATED, "true" );
+		return configuration;
+	}
+
+	@Test
+	public void testHiValueNotRolledBack(TestContext context) {
+		Receipt rolledBack = new Receipt( "rolled back" );
+		Receipt committed = new Receipt( "committed" );
+		test( context, getSessionFactory()
+				.withTransaction( (s, t) -> s.persist( rolledBack ).thenAccept( v -> t.markForRollback() ) )
+				.thenCompose( v -> getSessionFactory().withTransaction( (s, t) -> s.persist( committed ) ) )
+				// the hi value obtained by the rolled back transaction was not reused
+				.thenAccept( v -> context.assertTrue( committed.id > rolledBack.id ) )
+		);
+	}
+
+	@Test
+	public void testConcurrentSessions(TestContext context) {
+		Set<Integer> ids = new TreeSet<>();
+		CompletableFuture<?>[] sessions = new CompletableFuture<?>[5];
+		for ( int i = 0; i < sessions.length; i++ ) {
+			Receipt receipt = new Receipt( "receipt " + i );
+			CompletionStage<Void> session = getSessionFactory()
+					.withTransaction( (s, t) -> s.persist( receipt ) )
+					.thenAccept( v -> {
+						synchronized ( ids ) {
+							ids.add( receipt.id );
+						}
+					} );
+			sessions[i] = session.toCompletableFuture();
+		}
+		test( context, CompletableFuture.allOf( sessions )
+				.thenAccept( v -> context.assertEquals( sessions.length, ids.size() ) )
+		);
+	}
+
+	@Entity(name = "Receipt")
+	@Table(name = "Receipt")
+	@TableGenerator(name = "receipts", table = "receipt_ids", allocationSize = 1)
+	public static class Receipt {
+		@Id
+		@GeneratedValue(generator = "receipts")
+		Integer id;
+		String text;
+
+		public Receipt() {
+		}
+
+		public Receipt(String text) {
+			this.text = text;
+		}
+	}
+}
@@ -0,0 +1,120 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.persistence.Cacheable;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.cfg.Environment;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import io.vertx.ext.unit.TestContext;
+
+import static org.hibernate.annotations.CacheConcurrencyStrategy.NONSTRICT_READ_WRITE;
+
+/**
+ * Test that {@link org.hibernate.reactive.stage.Stage.Session#find(Class, Object...)}
+ * takes entities from the second-level cache, and only loads the rest from the
+ * database. The database is modified behind the back of Hibernate, so that an
+ * entity read from the cache is distinguishable from one read from the database.
+ */
+public class MultiLoadCacheTest extends BaseReactiveTest {
+
+	private static final int ARTICLES = 10;
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.addAnnotatedClass( Article.class );
+		configuration.setProperty( Environment.USE_SECOND_LEVEL_CACHE, "true" );
+		configuration.setProperty( Environment.CACHE_REGION_FACTORY, "org.hibernate.cache.jcache.JCacheRegionFactory" );
+		configuration.setProperty( "hibernate.javax.cache.provider", "org.ehcache.jsr107.EhcacheCachingProvider" );
+		configuration.setProperty( "hibernate.javax.cache.uri", "/ehcache.xml" );
+		return configuration;
+	}
+
+	@Before
+	public void populateDb(TestContext context) {
+		List<Article> articles = new ArrayList<>();
+		for ( int i = 1; i <= ARTICLES; i++ ) {
+			articles.add( new Article( i, "title " + i ) );
+		}
+		test( context, getSessionFactory()
+				.withTransaction( (s, t) -> s.persist( articles.toArray() ) )
+				// populate the cache
+				.thenCompose( v -> getSessionFactory().withSession(
+						s -> s.createQuery( "from Article", Article.class ).getResultList()
+				) )
+				.thenCompose( v -> connection() )
+				.thenCompose( connection -> connection.update( "update Article set title = 'changed'" ) )
+		);
+	}
+
+	@Test
+	public void testCachedEntitiesNotLoaded(TestContext context) {
+		org.hibernate.Cache cache = getSessionFactory().getCache();
+		cache.evict( Article.class, 4 );
+		cache.evict( Article.class, 7 );
+		test( context, getSessionFactory()
+				.withSession( s -> s.find( Article.class, 7, 1, 4, 2, 11, 4 ) )
+				.thenAccept( articles -> {
+					context.assertEquals( 6, articles.size() );
+					context.assertEquals( "changed", articles.get( 0 ).title );
+					context.assertEquals( "title 1", articles.get( 1 ).title );
+					context.assertEquals( "changed", articles.get( 2 ).title );
+					context.assertEquals( "title 2", articles.get( 3 ).title );
+					context.assertNull( articles.get( 4 ) );
+					context.assertSame( articles.get( 2 ), articles.get( 5 ) );
+					// the loaded entities were put in the cache
+					context.assertTrue( cache.contains( Article.class, 4 ) );
+					context.assertTrue( cache.contains( Article.class, 7 ) );
+				} )
+		);
+	}
+
+	@Test
+	public void testManagedEntitiesNotLoaded(TestContext context) {
+		test( context, getSessionFactory()
+				.withSession( s -> s.find( Article.class, 3 )
+						.thenCompose( article -> {
+							getSessionFactory().getCache().evictAll();
+							return s.find( Article.class, 5, 3 )
+									.thenAccept( articles -> {
+										// the managed instance is returned
+										context.assertSame( article, articles.get( 1 ) );
+										context.assertEquals( "title 3", articles.get( 1 ).title );
+										context.assertEquals( "changed", articles.get( 0 ).title );
+									} );
+						} ) )
+		);
+	}
+
+	@Entity(name = "Article")
+	@Table(name = "Article")
+	@Cacheable
+	@Cache(region = "reg.article", usage = NONSTRICT_READ_WRITE)
+	public static class Article {
+		@Id
+		Integer id;
+		String title;
+
+		public Article() {
+		}
+
+		public Article(Integer id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+	}
+}
@@ -0,0 +1,112 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.persistence.CollectionTable;
+import javax.persistence.ElementCollection;
+import javax.persistence.Entity;
+import javax.persistence.FetchType;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.hibernate.annotations.Fetch;
+import org.hibernate.annotations.FetchMode;
+import org.hibernate.cfg.Configuration;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import io.vertx.ext.unit.TestContext;
+
+import static org.hibernate.Hibernate.isInitialized;
+
+/**
+ * Test that the eager collections of the results of a query are
+ * initialized together, with one query per collection role.
+ */
+public class NonLazyCollectionBatchTest extends BaseReactiveTest {
+
+	private static final int RECIPES = 12;
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.addAnnotatedClass( Recipe.class );
+		return configuration;
+	}
+
+	@Before
+	public void populateDb(TestContext context) {
+		List<Recipe> recipes = new ArrayList<>();
+		for ( int i = 1; i <= RECIPES; i++ ) {
+			Recipe recipe = new Recipe( i, "Recipe " + i );
+			for ( int j = 1; j <= i % 4; j++ ) {
+				recipe.ingredients.add( "Ingredient " + i + "." + j );
+			}
+			recipe.tags.add( "tag " + i );
+			recipes.add( recipe );
+		}
+		test( context, getMutinySessionFactory()
+				.withTransaction( (s, t) -> s.persistAll( recipes.toArray() ) )
+		);
+	}
+
+	@Test
+	public void testEagerCollectionsOfQueryResults(TestContext context) {
+		test( context, getSessionFactory()
+				.withSession( s -> s.createQuery( "from Recipe order by id", Recipe.class ).getResultList() )
+				.thenAccept( recipes -> {
+					context.assertEquals( RECIPES, recipes.size() );
+					for ( Recipe recipe : recipes ) {
+						context.assertTrue( isInitialized( recipe.ingredients ) );
+						context.assertTrue( isInitialized( recipe.tags ) );
+						context.assertEquals( recipe.id % 4, recipe.ingredients.size() );
+						context.assertEquals( 1, recipe.tags.size() );
+						context.assertEquals( "tag " + recipe.id, recipe.tags.get( 0 ) );
+					}
+				} )
+		);
+	}
+
+	@Test
+	public void testEagerCollectionsOfFind(TestContext context) {
+		test( context, getSessionFactory()
+				.withSession( s -> s.find( Recipe.class, 3, 7, 11 ) )
+				.thenAccept( recipes -> {
+					context.assertEquals( 3, recipes.size() );
+					recipes.forEach( recipe -> context.assertEquals( 3, recipe.ingredients.size() ) );
+				} )
+		);
+	}
+
+	@Entity(name = "Recipe")
+	@Table(name = "Recipe")
+	public static class Recipe {
+		@Id
+		Integer id;
+		String name;
+
+		@ElementCollection(fetch = FetchType.EAGER)
+		@Fetch(FetchMode.SELECT)
+		@CollectionTable(name = "Recipe_ingredients")
+		List<String> ingredients = new ArrayList<>();
+
+		@ElementCollection(fetch = FetchType.EAGER)
+		@Fetch(FetchMode.SELECT)
+		@CollectionTable(name = "Recipe_tags")
+		List<String> tags = new ArrayList<>();
+
+		public Recipe() {
+		}
+
+		public Recipe(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,58 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.ImplicitSequenceOptimizerTest.CreditNote;
+import org.hibernate.reactive.ImplicitSequenceOptimizerTest.Invoice;
+import org.hibernate.reactive.provider.Settings;
+import org.hibernate.reactive.testing.DatabaseSelectionRule;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import io.vertx.ext.unit.TestContext;
+
+import static org.hibernate.reactive.containers.DatabaseConfiguration.DBType.MYSQL;
+
+/**
+ * Test that, when {@link Settings#SEQUENCE_GENERATOR_ORM_OPTIMIZER} is
+ * enabled, a sequence with an increment size greater than 1, and no
+ * explicit optimizer, is interpreted by the {@code pooled} optimizer,
+ * just as Hibernate ORM would interpret it.
+ */
+public class OrmSequenceOptimizerTest extends BaseReactiveTest {
+
+	// MySQL has no sequences
+	@Rule
+	public DatabaseSelectionRule rule = DatabaseSelectionRule.skipTestsFor( MYSQL );
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.addAnnotatedClass( Invoice.class );
+		configuration.addAnnotatedClass( CreditNote.class );
+		configuration.setProperty( Settings.SEQUENCE_GENERATOR_ORM_OPTIMIZER, "true" );
+		return configuration;
+	}
+
+	@Test
+	public void testPooled(TestContext context) {
+		Invoice invoice = new Invoice();
+		CreditNote note = new CreditNote();
+		test( context, getSessionFactory()
+				.withTransaction( (s, t) -> s.persist( invoice ) )
+				.thenCompose( v -> getSessionFactory().withTransaction( (s, t) -> s.persist( note ) ) )
+				.thenAccept( v -> {
+					// the initial value 1 is the start of the block which
+					// ends at the next value, 6, and the block obtained by
+					// the second generator ends at 11
+					context.assertEquals( 1L, invoice.id );
+					context.assertEquals( 7L, note.id );
+				} )
+		);
+	}
+}
@@ -0,0 +1,45 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import org.hibernate.dialect.PostgreSQL10Dialect;
+import org.hibernate.reactive.pool.impl.Parameters;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test the conversion of JDBC-style parameters by {@link Parameters}
+ */
+public class ParametersProcessingTest {
+
+	private final Parameters parameters = Parameters.instance( new PostgreSQL10Dialect() );
+
+	@Test
+	public void testParameters() {
+		assertThat( parameters.process( "select * from Book where id = ? and title = ?" ) )
+				.isEqualTo( "select * from Book where id = $1 and title = $2" );
+	}
+
+	@Test
+	public void testQuotedStrings() {
+		assertThat( parameters.process( "select '?', \"?\" from Book where id = ? and isbn = ?" ) )
+				.isEqualTo( "select '?', \"?\" from Book where id = $1 and isbn = $2" );
+	}
+
+	@Test
+	public void testDollarQuotedStrings() {
+		assertThat( parameters.process( "select $$what?$$, $tag$why? $$ $tag$ from Book where id = ?" ) )
+				.isEqualTo( "select $$what?$$, $tag$why? $$ $tag$ from Book where id = $1" );
+	}
+
+	@Test
+	public void testProcessedSqlIsCached() {
+		String sql = "update Book set title = ? where id = ?";
+		assertThat( parameters.process( sql ) ).isSameAs( parameters.process( sql ) );
+	}
+}
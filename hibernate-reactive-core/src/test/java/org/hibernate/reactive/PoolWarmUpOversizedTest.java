@@ -0,0 +1,60 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.provider.Settings;
+
+import org.junit.Test;
+
+import io.vertx.ext.unit.TestContext;
+
+/**
+ * Test that a {@link Settings#POOL_WARMUP_SIZE} larger than the pool
+ * size, and than the {@link Settings#POOL_SHARED_BUDGET shared budget},
+ * does not prevent the {@code SessionFactory} from starting.
+ */
+public class PoolWarmUpOversizedTest extends BaseReactiveTest {
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.addAnnotatedClass( Boiler.class );
+		configuration.setProperty( Settings.POOL_SIZE, "2" );
+		configuration.setProperty( Settings.POOL_SHARED_BUDGET, "true" );
+		configuration.setProperty( Settings.POOL_WARMUP_SIZE, "10" );
+		return configuration;
+	}
+
+	@Test
+	public void testWarmUpLimitedByPoolSize(TestContext context) {
+		test( context, getSessionFactory()
+				.withTransaction( (s, t) -> s.persist( new Boiler( 1, 60 ) ) )
+				.thenCompose( v -> getSessionFactory().withSession( s -> s.find( Boiler.class, 1 ) ) )
+				.thenAccept( boiler -> context.assertEquals( 60, boiler.temperature ) )
+		);
+	}
+
+	@Entity(name = "Boiler")
+	@Table(name = "Boiler")
+	public static class Boiler {
+		@Id
+		Integer id;
+		Integer temperature;
+
+		public Boiler() {
+		}
+
+		public Boiler(Integer id, Integer temperature) {
+			this.id = id;
+			this.temperature = temperature;
+		}
+	}
+}
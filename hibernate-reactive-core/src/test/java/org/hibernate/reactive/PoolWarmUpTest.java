@@ -0,0 +1,114 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.hibernate.cfg.Configuration;
+import org.hibernate.metamodel.spi.MetamodelImplementor;
+import org.hibernate.reactive.persister.entity.impl.ReactiveAbstractEntityPersister;
+import org.hibernate.reactive.pool.impl.ContextPoolStatistics;
+import org.hibernate.reactive.pool.impl.SqlClientPoolMetrics;
+import org.hibernate.reactive.provider.Settings;
+
+import org.junit.Test;
+
+import io.netty.util.concurrent.EventExecutor;
+import io.vertx.ext.unit.TestContext;
+
+/**
+ * Test the pool warm-up enabled by {@link Settings#POOL_WARMUP_SIZE}.
+ */
+public class PoolWarmUpTest extends BaseReactiveTest {
+
+	private static final int WARMUP_SIZE = 2;
+
+	@Override
+	protected Configuration constructConfiguration() {
+		// the configuration is constructed once for each test
+		CountingMetrics.reset();
+		Configuration configuration = super.constructConfiguration();
+		configuration.addAnnotatedClass( Thermostat.class );
+		configuration.setProperty( Settings.POOL_WARMUP_SIZE, String.valueOf( WARMUP_SIZE ) );
+		configuration.setProperty( Settings.SQL_CLIENT_POOL_METRICS, CountingMetrics.class.getName() );
+		return configuration;
+	}
+
+	@Test
+	public void testConnectionsOpenedInAdvance(TestContext context) {
+		// the connections were all obtained while building the SessionFactory,
+		// from the pool of each event loop
+		int eventLoops = 0;
+		for ( EventExecutor ignored : vertxContextRule.vertx().nettyEventLoopGroup() ) {
+			eventLoops++;
+		}
+		int warmedUp = 0;
+		for ( Map.Entry<String, AtomicInteger> pool : CountingMetrics.acquiredByContext.entrySet() ) {
+			if ( pool.getKey().startsWith( "vert.x-eventloop-thread-" ) ) {
+				context.assertEquals( WARMUP_SIZE, pool.getValue().get() );
+				warmedUp++;
+			}
+		}
+		context.assertEquals( eventLoops, warmedUp );
+		context.assertTrue( CountingMetrics.acquired.get() >= eventLoops * WARMUP_SIZE );
+		test( context, getSessionFactory()
+				.withTransaction( (s, t) -> s.persist( new Thermostat( 1, 21 ) ) )
+				.thenCompose( v -> getSessionFactory().withSession( s -> s.find( Thermostat.class, 1 ) ) )
+				.thenAccept( thermostat -> context.assertEquals( 21, thermostat.setting ) )
+		);
+	}
+
+	@Test
+	public void testPreparableStatements(TestContext context) {
+		MetamodelImplementor metamodel = (MetamodelImplementor) getSessionFactory().getMetamodel();
+		ReactiveAbstractEntityPersister persister =
+				(ReactiveAbstractEntityPersister) metamodel.entityPersister( Thermostat.class );
+		List<String> statements = persister.getPreparableStatements();
+		context.assertTrue( statements.stream().anyMatch( sql -> sql.startsWith( "select" ) ) );
+		context.assertTrue( statements.stream().anyMatch( sql -> sql.startsWith( "insert" ) ) );
+		context.assertTrue( statements.stream().anyMatch( sql -> sql.startsWith( "update" ) ) );
+		context.assertTrue( statements.stream().anyMatch( sql -> sql.startsWith( "delete" ) ) );
+	}
+
+	public static class CountingMetrics implements SqlClientPoolMetrics {
+		static final AtomicInteger acquired = new AtomicInteger();
+		static final Map<String, AtomicInteger> acquiredByContext = new ConcurrentHashMap<>();
+
+		static void reset() {
+			acquired.set( 0 );
+			acquiredByContext.clear();
+		}
+
+		@Override
+		public void connectionAcquired(ContextPoolStatistics statistics, long waitNanos) {
+			acquired.incrementAndGet();
+			acquiredByContext.computeIfAbsent( statistics.getContextName(), name -> new AtomicInteger() )
+					.incrementAndGet();
+		}
+	}
+
+	@Entity(name = "Thermostat")
+	@Table(name = "Thermostat")
+	public static class Thermostat {
+		@Id
+		Integer id;
+		Integer setting;
+
+		public Thermostat() {
+		}
+
+		public Thermostat(Integer id, Integer setting) {
+			this.id = id;
+			this.setting = setting;
+		}
+	}
+}
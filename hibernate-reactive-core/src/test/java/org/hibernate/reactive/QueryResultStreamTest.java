@@ -0,0 +1,150 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.hibernate.cfg.Configuration;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import io.smallrye.mutiny.Multi;
+import io.vertx.ext.unit.TestContext;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+/**
+ * Test streaming the results of a query from a database cursor,
+ * via {@link org.hibernate.reactive.mutiny.Mutiny.Query#getResultStream()}
+ * and {@link org.hibernate.reactive.stage.Stage.Query#getResultStream()}.
+ */
+public class QueryResultStreamTest extends BaseReactiveTest {
+
+	private static final int PAGES = 25;
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.addAnnotatedClass( Page.class );
+		return configuration;
+	}
+
+	@Before
+	public void populateDb(TestContext context) {
+		List<Page> pages = new ArrayList<>();
+		for ( int i = 1; i <= PAGES; i++ ) {
+			pages.add( new Page( i, "Page " + i ) );
+		}
+		test( context, getMutinySessionFactory()
+				.withTransaction( (s, t) -> s.persistAll( pages.toArray() ) )
+		);
+	}
+
+	@Test
+	public void testMutinyResultStream(TestContext context) {
+		test( context, getMutinySessionFactory()
+				.withSession( s -> s.createQuery( "from Page order by id", Page.class )
+						.setFetchSize( 10 )
+						.getResultStream()
+						.collectItems().asList()
+						.invoke( pages -> context.assertTrue( s.contains( pages.get( 0 ) ) ) ) )
+				.invoke( pages -> {
+					context.assertEquals( PAGES, pages.size() );
+					for ( int i = 0; i < PAGES; i++ ) {
+						context.assertEquals( i + 1, pages.get( i ).id );
+					}
+				} )
+		);
+	}
+
+	@Test
+	public void testMutinyResultStreamCancelled(TestContext context) {
+		test( context, getMutinySessionFactory()
+				.withSession( s -> s.createQuery( "from Page order by id", Page.class )
+						.setFetchSize( 4 )
+						.getResultStream()
+						.transform().byTakingFirstItems( 6 )
+						.collectItems().asList()
+						.invoke( pages -> context.assertEquals( 6, pages.size() ) )
+						// the session is usable once the stream is cancelled
+						.chain( pages -> s.find( Page.class, PAGES ) )
+						.invoke( page -> context.assertEquals( "Page " + PAGES, page.text ) ) )
+		);
+	}
+
+	@Test
+	public void testStageResultStream(TestContext context) {
+		test( context, getSessionFactory()
+				.withSession( s -> Multi.createFrom()
+						.publisher( s.createQuery( "select text from Page where id > 20 order by id", String.class )
+								.setFetchSize( 2 )
+								.getResultStream() )
+						.collectItems().asList()
+						.subscribeAsCompletionStage() )
+				.thenAccept( texts -> {
+					context.assertEquals( 5, texts.size() );
+					context.assertEquals( "Page 21", texts.get( 0 ) );
+					context.assertEquals( "Page 25", texts.get( 4 ) );
+				} )
+		);
+	}
+
+	@Test
+	public void testNonPositiveRequestSignalsError(TestContext context) {
+		test( context, getSessionFactory()
+				.withSession( s -> {
+					CompletableFuture<Throwable> error = new CompletableFuture<>();
+					s.createQuery( "from Page order by id", Page.class )
+							.getResultStream()
+							.subscribe( new Subscriber<Page>() {
+								@Override
+								public void onSubscribe(Subscription subscription) {
+									subscription.request( 0 );
+								}
+
+								@Override
+								public void onNext(Page page) {
+									error.completeExceptionally( new AssertionError( "unexpected result" ) );
+								}
+
+								@Override
+								public void onError(Throwable throwable) {
+									error.complete( throwable );
+								}
+
+								@Override
+								public void onComplete() {
+									error.completeExceptionally( new AssertionError( "unexpected completion" ) );
+								}
+							} );
+					return error;
+				} )
+				.thenAccept( error -> context.assertEquals( IllegalArgumentException.class, error.getClass() ) )
+		);
+	}
+
+	@Entity(name = "Page")
+	@Table(name = "Page")
+	public static class Page {
+		@Id
+		Integer id;
+		String text;
+
+		public Page() {
+		}
+
+		public Page(Integer id, String text) {
+			this.id = id;
+			this.text = text;
+		}
+	}
+}
@@ -0,0 +1,208 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import javax.persistence.Cacheable;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.cfg.Environment;
+import org.hibernate.reactive.cache.ReactiveCacheRegion;
+import org.hibernate.reactive.cache.impl.LocalCacheRegion;
+import org.hibernate.reactive.cache.impl.LocalReactiveRegionFactory;
+import org.hibernate.reactive.provider.Settings;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import io.vertx.ext.unit.TestContext;
+
+import static org.hibernate.annotations.CacheConcurrencyStrategy.NONSTRICT_READ_WRITE;
+
+/**
+ * Test that entities and query results are cached in the regions of the
+ * asynchronous {@link org.hibernate.reactive.cache.ReactiveRegionFactory}.
+ * The ORM regions are cleared, and the database is modified behind the
+ * back of Hibernate, so that a result read from an asynchronous region
+ * is distinguishable from one read from the database.
+ */
+public class ReactiveCacheRegionTest extends BaseReactiveTest {
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.addAnnotatedClass( Book.class );
+		configuration.setProperty( Environment.USE_SECOND_LEVEL_CACHE, "true" );
+		configuration.setProperty( Environment.USE_QUERY_CACHE, "true" );
+		configuration.setProperty( Environment.CACHE_REGION_FACTORY, "org.hibernate.cache.jcache.JCacheRegionFactory" );
+		configuration.setProperty( "hibernate.javax.cache.provider", "org.ehcache.jsr107.EhcacheCachingProvider" );
+		configuration.setProperty( "hibernate.javax.cache.uri", "/ehcache.xml" );
+		configuration.setProperty( Settings.CACHE_REGION_FACTORY, RecordingRegionFactory.class.getName() );
+		return configuration;
+	}
+
+	@Before
+	public void populateDb(TestContext context) {
+		test( context, getSessionFactory()
+				.withTransaction( (s, t) -> s.persist(
+						new Book( 1, "Hibernate in Action" ),
+						new Book( 2, "Java Persistence with Hibernate" ),
+						new Book( 3, "Vert.x in Action" )
+				) )
+		);
+	}
+
+	@Test
+	public void testFindUsesReactiveRegion(TestContext context) {
+		test( context, getSessionFactory()
+				.withSession( s -> s.find( Book.class, 1 ) )
+				.thenAccept( book -> context.assertEquals( 1, bookRegion().size() ) )
+				.thenCompose( v -> connection() )
+				.thenCompose( connection -> connection.update( "update CachedBook set title = 'changed'" ) )
+				.thenAccept( v -> getSessionFactory().getCache().evictAll() )
+				.thenCompose( v -> getSessionFactory().withSession( s -> s.find( Book.class, 1 ) ) )
+				// read from the asynchronous region
+				.thenAccept( book -> context.assertEquals( "Hibernate in Action", book.title ) )
+				.thenCompose( v -> getSessionFactory().withSession( s -> s.find( Book.class, 2 ) ) )
+				// read from the database
+				.thenAccept( book -> context.assertEquals( "changed", book.title ) )
+		);
+	}
+
+	@Test
+	public void testUpdateAndDeleteEvict(TestContext context) {
+		test( context, getSessionFactory()
+				.withSession( s -> s.find( Book.class, 1 ) )
+				.thenAccept( book -> context.assertEquals( 1, bookRegion().size() ) )
+				.thenCompose( v -> getSessionFactory().withTransaction(
+						(s, t) -> s.find( Book.class, 1 ).thenAccept( book -> book.title = "Hibernate Reactive in Action" )
+				) )
+				.thenAccept( v -> context.assertEquals( 0, bookRegion().size() ) )
+				.thenCompose( v -> getSessionFactory().withSession( s -> s.find( Book.class, 1 ) ) )
+				.thenAccept( book -> {
+					context.assertEquals( "Hibernate Reactive in Action", book.title );
+					context.assertEquals( 1, bookRegion().size() );
+				} )
+				.thenCompose( v -> getSessionFactory().withTransaction(
+						(s, t) -> s.find( Book.class, 1 ).thenCompose( s::remove )
+				) )
+				.thenAccept( v -> context.assertEquals( 0, bookRegion().size() ) )
+				.thenCompose( v -> getSessionFactory().withSession( s -> s.find( Book.class, 1 ) ) )
+				.thenAccept( context::assertNull )
+		);
+	}
+
+	@Test
+	public void testEvictedAfterRollback(TestContext context) {
+		test( context, getSessionFactory()
+				.withTransaction( (s, t) -> s.find( Book.class, 1 )
+						.thenAccept( book -> book.title = "Hibernate Reactive in Action" )
+						.thenCompose( v -> s.flush() )
+						.thenAccept( v -> s.clear() )
+						// the uncommitted state is cached
+						.thenCompose( v -> s.find( Book.class, 1 ) )
+						.thenAccept( book -> {
+							context.assertEquals( 1, bookRegion().size() );
+							t.markForRollback();
+						} )
+				)
+				.thenAccept( v -> context.assertEquals( 0, bookRegion().size() ) )
+				.thenCompose( v -> getSessionFactory().withSession( s -> s.find( Book.class, 1 ) ) )
+				.thenAccept( book -> context.assertEquals( "Hibernate in Action", book.title ) )
+		);
+	}
+
+	@Test
+	public void testBulkUpdateEvicts(TestContext context) {
+		test( context, getSessionFactory()
+				.withSession( s -> s.find( Book.class, 1 ) )
+				.thenAccept( book -> context.assertEquals( 1, bookRegion().size() ) )
+				.thenCompose( v -> getSessionFactory().withTransaction(
+						(s, t) -> s.createQuery( "update Book set title = 'changed'" ).executeUpdate()
+				) )
+				.thenAccept( v -> context.assertEquals( 0, bookRegion().size() ) )
+				.thenCompose( v -> getSessionFactory().withSession( s -> s.find( Book.class, 1 ) ) )
+				.thenAccept( book -> context.assertEquals( "changed", book.title ) )
+		);
+	}
+
+	@Test
+	public void testMultiLoadUsesReactiveRegion(TestContext context) {
+		test( context, getSessionFactory()
+				.withSession( s -> s.find( Book.class, 1 ) )
+				.thenCompose( v -> connection() )
+				.thenCompose( connection -> connection.update( "update CachedBook set title = 'changed'" ) )
+				.thenAccept( v -> getSessionFactory().getCache().evictAll() )
+				.thenCompose( v -> getSessionFactory().withSession( s -> s.find( Book.class, 1, 2 ) ) )
+				.thenAccept( books -> {
+					// read from the asynchronous region
+					context.assertEquals( "Hibernate in Action", books.get( 0 ).title );
+					// read from the database, and then cached
+					context.assertEquals( "changed", books.get( 1 ).title );
+					context.assertEquals( 2, bookRegion().size() );
+				} )
+		);
+	}
+
+	@Test
+	public void testCacheableQueryUsesReactiveRegion(TestContext context) {
+		test( context, getSessionFactory()
+				.withSession( s -> s.createQuery( "from Book order by id", Book.class )
+						.setCacheable( true )
+						.getResultList() )
+				.thenAccept( books -> context.assertEquals( 3, books.size() ) )
+				.thenCompose( v -> connection() )
+				.thenCompose( connection -> connection.update( "insert into CachedBook (id, title) values (4, 'Unknown')" ) )
+				.thenAccept( v -> getSessionFactory().getCache().evictAll() )
+				.thenCompose( v -> getSessionFactory().withSession( s -> s.createQuery( "from Book order by id", Book.class )
+						.setCacheable( true )
+						.getResultList() ) )
+				.thenAccept( books -> {
+					// the list of ids was read from the asynchronous region
+					context.assertEquals( 3, books.size() );
+					context.assertEquals( "Vert.x in Action", books.get( 2 ).title );
+				} )
+		);
+	}
+
+	private static LocalCacheRegion bookRegion() {
+		ReactiveCacheRegion region = RecordingRegionFactory.instance.getRegion( "reg.book" );
+		return (LocalCacheRegion) region;
+	}
+
+	/**
+	 * Remembers the instance created by Hibernate, so that the test can
+	 * inspect its regions.
+	 */
+	public static class RecordingRegionFactory extends LocalReactiveRegionFactory {
+		static volatile RecordingRegionFactory instance;
+
+		public RecordingRegionFactory() {
+			instance = this;
+		}
+	}
+
+	@Entity(name = "Book")
+	@Table(name = "CachedBook")
+	@Cacheable
+	@Cache(region = "reg.book", usage = NONSTRICT_READ_WRITE)
+	public static class Book {
+		@Id
+		Integer id;
+		String title;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+	}
+}
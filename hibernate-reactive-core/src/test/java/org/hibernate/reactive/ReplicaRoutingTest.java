@@ -0,0 +1,141 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.containers.DatabaseConfiguration;
+import org.hibernate.reactive.pool.ReactiveConnection;
+import org.hibernate.reactive.pool.impl.ReplicaRoutingSqlClientPool;
+import org.hibernate.reactive.provider.Settings;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import io.vertx.ext.unit.TestContext;
+
+/**
+ * Test that read-only queries are sent to a replica by the
+ * {@link ReplicaRoutingSqlClientPool}. The "replica" is the
+ * test database itself.
+ */
+public class ReplicaRoutingTest extends BaseReactiveTest {
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.addAnnotatedClass( Library.class );
+		configuration.setProperty( Settings.SQL_CLIENT_POOL, CountingReplicaRoutingPool.class.getName() );
+		configuration.setProperty( Settings.REPLICA_URLS, DatabaseConfiguration.getJdbcUrl() );
+		return configuration;
+	}
+
+	@Before
+	public void populateDb(TestContext context) {
+		test( context, getSessionFactory()
+				.withTransaction( (s, t) -> s.persist( new Library( 1, "Bodleian" ), new Library( 2, "Ambrosiana" ) ) )
+				.thenAccept( v -> {
+					CountingReplicaRoutingPool.replicaConnections.set( 0 );
+					CountingReplicaRoutingPool.primaryConnections.set( 0 );
+				} )
+		);
+	}
+
+	@Test
+	public void testReadOnlySession(TestContext context) {
+		test( context, getSessionFactory()
+				.withSession( s -> s.setDefaultReadOnly( true )
+						.find( Library.class, 1 )
+						.thenCompose( library -> {
+							context.assertEquals( "Bodleian", library.name );
+							return s.createQuery( "from Library order by id", Library.class ).getResultList();
+						} ) )
+				.thenAccept( list -> {
+					context.assertEquals( 2, list.size() );
+					// both queries used the same replica connection
+					context.assertEquals( 1, CountingReplicaRoutingPool.replicaConnections.get() );
+					// and the session never needed the primary database
+					context.assertEquals( 0, CountingReplicaRoutingPool.primaryConnections.get() );
+				} )
+		);
+	}
+
+	@Test
+	public void testReadOnlyQuery(TestContext context) {
+		test( context, getSessionFactory()
+				.withSession( s -> s.createQuery( "from Library where id = 2", Library.class )
+						.setReadOnly( true )
+						.getSingleResult() )
+				.thenAccept( library -> {
+					context.assertEquals( "Ambrosiana", library.name );
+					context.assertEquals( 1, CountingReplicaRoutingPool.replicaConnections.get() );
+				} )
+		);
+	}
+
+	@Test
+	public void testReadOnlyQueryInTransaction(TestContext context) {
+		test( context, getSessionFactory()
+				.withTransaction( (s, t) -> s.createQuery( "from Library where id = 2", Library.class )
+						.setReadOnly( true )
+						.getSingleResult() )
+				.thenAccept( library -> {
+					context.assertEquals( "Ambrosiana", library.name );
+					context.assertEquals( 0, CountingReplicaRoutingPool.replicaConnections.get() );
+				} )
+		);
+	}
+
+	@Test
+	public void testModifiableQuery(TestContext context) {
+		test( context, getSessionFactory()
+				.withSession( s -> s.find( Library.class, 1 ) )
+				.thenAccept( library -> {
+					context.assertEquals( "Bodleian", library.name );
+					context.assertEquals( 0, CountingReplicaRoutingPool.replicaConnections.get() );
+					context.assertEquals( 1, CountingReplicaRoutingPool.primaryConnections.get() );
+				} )
+		);
+	}
+
+	public static class CountingReplicaRoutingPool extends ReplicaRoutingSqlClientPool {
+		static final AtomicInteger replicaConnections = new AtomicInteger();
+		static final AtomicInteger primaryConnections = new AtomicInteger();
+
+		@Override
+		protected CompletionStage<ReactiveConnection> getPrimaryConnection() {
+			primaryConnections.incrementAndGet();
+			return super.getPrimaryConnection();
+		}
+
+		@Override
+		protected CompletionStage<ReactiveConnection> getReplicaConnection() {
+			replicaConnections.incrementAndGet();
+			return super.getReplicaConnection();
+		}
+	}
+
+	@Entity(name = "Library")
+	@Table(name = "Library")
+	public static class Library {
+		@Id
+		Integer id;
+		String name;
+
+		public Library() {
+		}
+
+		public Library(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,80 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.pool.ReactiveConnection;
+
+import org.junit.Test;
+
+import io.vertx.ext.unit.TestContext;
+
+/**
+ * Test reading values using {@link ReactiveConnection.Result#nextRow()}
+ */
+public class ResultRowViewTest extends BaseReactiveTest {
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.addAnnotatedClass( Counter.class );
+		return configuration;
+	}
+
+	@Test
+	public void testRowView(TestContext context) {
+		test( context, getSessionFactory()
+				.withTransaction( (s, t) -> s.persist(
+						new Counter( 1, "one", 10L, 100 ),
+						new Counter( 2, "two", null, 200 )
+				) )
+				.thenCompose( v -> connection() )
+				.thenCompose( connection -> connection.select( "select id, name, total, hits from Counter order by id" ) )
+				.thenAccept( result -> {
+					context.assertEquals( 2, result.size() );
+
+					ReactiveConnection.RowView row = result.nextRow();
+					context.assertEquals( 4, row.size() );
+					context.assertEquals( 1, row.getInt( 0 ) );
+					context.assertEquals( "one", row.getString( 1 ) );
+					context.assertEquals( 10L, row.getLong( 2 ) );
+					context.assertEquals( 100, row.getInt( 3 ) );
+
+					row = result.nextRow();
+					context.assertEquals( 2L, row.getLong( 0 ) );
+					context.assertTrue( row.isNull( 2 ) );
+					context.assertEquals( 0L, row.getLong( 2 ) );
+					context.assertNull( row.getValue( 2 ) );
+
+					context.assertFalse( result.hasNext() );
+				} )
+		);
+	}
+
+	@Entity(name = "Counter")
+	@Table(name = "Counter")
+	public static class Counter {
+		@Id
+		Integer id;
+		String name;
+		Long total;
+		Integer hits;
+
+		public Counter() {
+		}
+
+		public Counter(Integer id, String name, Long total, Integer hits) {
+			this.id = id;
+			this.name = name;
+			this.total = total;
+			this.hits = hits;
+		}
+	}
+}
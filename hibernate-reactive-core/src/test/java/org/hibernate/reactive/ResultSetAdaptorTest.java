@@ -0,0 +1,122 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.reactive.adaptor.impl.ResultSetAdaptor;
+
+import org.junit.Test;
+
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowIterator;
+import io.vertx.sqlclient.RowSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test that {@link ResultSetAdaptor} looks up the position of a column by
+ * its label just once, rather than once per row, using a fake
+ * {@link RowSet} in place of the results of a query.
+ */
+public class ResultSetAdaptorTest {
+
+	private static final List<String> COLUMNS = Arrays.asList( "id1_0_", "name2_0_" );
+	private static final int ROWS = 10_000;
+
+	private final AtomicInteger lookups = new AtomicInteger();
+
+	@Test
+	public void testColumnPositionsResolvedOnce() {
+		List<Object[]> values = new ArrayList<>();
+		for ( int i = 0; i < ROWS; i++ ) {
+			values.add( new Object[] { i, "name " + i } );
+		}
+		ResultSetAdaptor resultSet = new ResultSetAdaptor( rowSet( values ) );
+
+		int count = 0;
+		while ( resultSet.next() ) {
+			assertThat( resultSet.getInt( "id1_0_" ) ).isEqualTo( count );
+			assertThat( resultSet.getString( "name2_0_" ) ).isEqualTo( "name " + count );
+			assertThat( resultSet.wasNull() ).isFalse();
+			count++;
+		}
+		assertThat( count ).isEqualTo( ROWS );
+		assertThat( lookups.get() ).isEqualTo( COLUMNS.size() );
+	}
+
+	@Test
+	public void testUnknownColumn() {
+		List<Object[]> values = new ArrayList<>();
+		values.add( new Object[] { 1, "name" } );
+		ResultSetAdaptor resultSet = new ResultSetAdaptor( rowSet( values ) );
+
+		assertThat( resultSet.next() ).isTrue();
+		assertThat( resultSet.getString( "other" ) ).isNull();
+		assertThat( resultSet.wasNull() ).isTrue();
+		assertThat( resultSet.getLong( "other" ) ).isEqualTo( 0 );
+		assertThat( lookups.get() ).isEqualTo( 1 );
+	}
+
+	@SuppressWarnings("unchecked")
+	private RowSet<Row> rowSet(List<Object[]> values) {
+		return (RowSet<Row>) Proxy.newProxyInstance(
+				RowSet.class.getClassLoader(),
+				new Class[] { RowSet.class },
+				(proxy, method, args) -> {
+					switch ( method.getName() ) {
+						case "iterator":
+							return rowIterator( values.iterator() );
+						case "columnsNames":
+							return COLUMNS;
+						default:
+							throw new UnsupportedOperationException( method.getName() );
+					}
+				}
+		);
+	}
+
+	@SuppressWarnings("unchecked")
+	private RowIterator<Row> rowIterator(Iterator<Object[]> values) {
+		return (RowIterator<Row>) Proxy.newProxyInstance(
+				RowIterator.class.getClassLoader(),
+				new Class[] { RowIterator.class },
+				(proxy, method, args) -> {
+					switch ( method.getName() ) {
+						case "hasNext":
+							return values.hasNext();
+						case "next":
+							return row( values.next() );
+						default:
+							throw new UnsupportedOperationException( method.getName() );
+					}
+				}
+		);
+	}
+
+	private Row row(Object[] values) {
+		return (Row) Proxy.newProxyInstance(
+				Row.class.getClassLoader(),
+				new Class[] { Row.class },
+				(proxy, method, args) -> {
+					if ( method.getName().equals( "getColumnIndex" ) ) {
+						lookups.incrementAndGet();
+						return COLUMNS.indexOf( (String) args[0] );
+					}
+					if ( method.getName().startsWith( "get" ) && args.length == 1 && args[0] instanceof Integer ) {
+						// getValue(int), getString(int), ...
+						return values[(Integer) args[0]];
+					}
+					throw new UnsupportedOperationException( method.getName() );
+				}
+		);
+	}
+}
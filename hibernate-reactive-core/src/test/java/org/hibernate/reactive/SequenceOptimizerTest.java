@@ -0,0 +1,117 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.containers.DatabaseConfiguration;
+import org.hibernate.reactive.testing.DatabaseSelectionRule;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import io.vertx.ext.unit.TestContext;
+
+import static org.hibernate.reactive.util.impl.CompletionStages.loop;
+
+/**
+ * Test the interpretation of sequence values by the {@code pooled}
+ * and {@code hilo} optimizers.
+ */
+public class SequenceOptimizerTest extends BaseReactiveTest {
+
+	@Rule
+	public DatabaseSelectionRule rule = DatabaseSelectionRule.runOnlyFor( DatabaseConfiguration.DBType.POSTGRESQL );
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.addAnnotatedClass( PooledId.class );
+		configuration.addAnnotatedClass( HiLoId.class );
+		return configuration;
+	}
+
+	@Test
+	public void testPooledOptimizer(TestContext context) {
+		List<PooledId> entities = new ArrayList<>();
+		for ( int i = 0; i < 12; i++ ) {
+			entities.add( new PooledId() );
+		}
+		test( context, getSessionFactory()
+				.withTransaction( (s, t) -> loop( entities, entity -> s.persist( entity ) ) )
+				.thenAccept( v -> {
+					// the initial value 1 is the start of the block which ends
+					// at the next value, 11, and the block after that ends at 21
+					for ( int i = 0; i < entities.size(); i++ ) {
+						context.assertEquals( i + 1L, entities.get( i ).id );
+					}
+				} )
+				.thenCompose( v -> getSessionFactory().withSession(
+						s -> s.<Number>createNativeQuery( nextValSql( "pooled_seq" ) ).getSingleResult()
+				) )
+				.thenAccept( next -> context.assertEquals( 31L, next.longValue() ) )
+		);
+	}
+
+	@Test
+	public void testHiLoOptimizer(TestContext context) {
+		List<HiLoId> entities = new ArrayList<>();
+		for ( int i = 0; i < 12; i++ ) {
+			entities.add( new HiLoId() );
+		}
+		test( context, getSessionFactory()
+				.withTransaction( (s, t) -> loop( entities, entity -> s.persist( entity ) ) )
+				.thenAccept( v -> {
+					for ( int i = 0; i < entities.size(); i++ ) {
+						context.assertEquals( i + 1L, entities.get( i ).id );
+					}
+				} )
+				.thenCompose( v -> getSessionFactory().withSession(
+						s -> s.<Number>createNativeQuery( nextValSql( "hilo_seq" ) ).getSingleResult()
+				) )
+				// the sequence is incremented by 1 for each block of 10
+				.thenAccept( next -> context.assertEquals( 3L, next.longValue() ) )
+		);
+	}
+
+	private static String nextValSql(String sequence) {
+		return "select nextval('" + sequence + "')";
+	}
+
+	@Entity(name = "PooledId")
+	@Table(name = "PooledId")
+	public static class PooledId {
+		@Id
+		@GeneratedValue(generator = "pooled")
+		@GenericGenerator(name = "pooled", strategy = "enhanced-sequence", parameters = {
+				@Parameter(name = "sequence_name", value = "pooled_seq"),
+				@Parameter(name = "increment_size", value = "10"),
+				@Parameter(name = "optimizer", value = "pooled")
+		})
+		Long id;
+	}
+
+	@Entity(name = "HiLoId")
+	@Table(name = "HiLoId")
+	public static class HiLoId {
+		@Id
+		@GeneratedValue(generator = "hilo")
+		@GenericGenerator(name = "hilo", strategy = "enhanced-sequence", parameters = {
+				@Parameter(name = "sequence_name", value = "hilo_seq"),
+				@Parameter(name = "increment_size", value = "10"),
+				@Parameter(name = "optimizer", value = "hilo")
+		})
+		Long id;
+	}
+}
@@ -0,0 +1,185 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.pool.ReactiveConnectionPool;
+import org.hibernate.reactive.pool.impl.DefaultSqlClientPool;
+import org.hibernate.reactive.pool.impl.SharedConnectionBudget;
+import org.hibernate.reactive.provider.Settings;
+
+import org.junit.Test;
+
+import io.netty.channel.EventLoop;
+import io.netty.util.concurrent.EventExecutor;
+import io.vertx.core.impl.VertxInternal;
+import io.vertx.ext.unit.TestContext;
+
+public class SharedConnectionBudgetTest extends BaseReactiveTest {
+
+	private static final int BUDGET = 2;
+	private static final int SESSIONS = 5;
+
+	private ReactiveConnectionPool pool;
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.addAnnotatedClass( Guide.class );
+		configuration.setProperty( Settings.POOL_SIZE, String.valueOf( BUDGET ) );
+		configuration.setProperty( Settings.POOL_SHARED_BUDGET, "true" );
+		return configuration;
+	}
+
+	@Override
+	protected void configureServices(StandardServiceRegistry registry) {
+		super.configureServices( registry );
+		pool = registry.getService( ReactiveConnectionPool.class );
+	}
+
+	@Test
+	public void testConcurrentSessionsWaitForBudget(TestContext context) {
+		Guide guide = new Guide( 1L, "Hitchhiker's Guide" );
+
+		test( context, getSessionFactory()
+				.withTransaction( (s, t) -> s.persist( guide ) )
+				.thenCompose( v -> {
+					CompletableFuture<?>[] finds = new CompletableFuture<?>[SESSIONS];
+					for ( int i = 0; i < SESSIONS; i++ ) {
+						finds[i] = getSessionFactory()
+								.withSession( s -> s.find( Guide.class, guide.getId() ) )
+								.toCompletableFuture();
+					}
+					return CompletableFuture.allOf( finds );
+				} )
+				.thenAccept( v -> {
+					SharedConnectionBudget budget = ( (DefaultSqlClientPool) pool ).getConnectionBudget();
+					context.assertNotNull( budget );
+					context.assertEquals( BUDGET, budget.getBudget() );
+					context.assertEquals( 0, budget.getInUseCount() );
+					context.assertTrue( budget.getOpenCount() <= BUDGET );
+					context.assertEquals( 0, budget.getWaitingCount() );
+					context.assertTrue( budget.getWaitCount() > 0 );
+					context.assertEquals( (long) SESSIONS + 1, budget.getAcquisitionCount() );
+				} )
+		);
+	}
+
+	@Test
+	public void testBudgetNotExceeded(TestContext context) {
+		SharedConnectionBudget budget = ( (DefaultSqlClientPool) pool ).getConnectionBudget();
+
+		CompletionStage<?>[] finds = new CompletionStage<?>[SESSIONS];
+		for ( int i = 0; i < SESSIONS; i++ ) {
+			finds[i] = getSessionFactory()
+					.withSession( s -> s.find( Guide.class, 1L )
+							.thenAccept( g -> context.assertTrue( budget.getOpenCount() <= BUDGET ) ) );
+		}
+		test( context, CompletableFuture.allOf(
+				finds[0].toCompletableFuture(),
+				finds[1].toCompletableFuture(),
+				finds[2].toCompletableFuture(),
+				finds[3].toCompletableFuture(),
+				finds[4].toCompletableFuture()
+		) );
+	}
+
+	@Test
+	public void testBudgetSharedByEventLoops(TestContext context) {
+		SharedConnectionBudget budget = ( (DefaultSqlClientPool) pool ).getConnectionBudget();
+		VertxInternal vertx = (VertxInternal) vertxContextRule.vertx();
+
+		List<CompletableFuture<?>> finds = new ArrayList<>();
+		int eventLoops = 0;
+		for ( EventExecutor eventLoop : vertx.nettyEventLoopGroup() ) {
+			eventLoops++;
+			CompletableFuture<Object> find = new CompletableFuture<>();
+			vertx.createEventLoopContext( (EventLoop) eventLoop, null, getClass().getClassLoader() )
+					.runOnContext( v -> getSessionFactory()
+							.withSession( s -> s.find( Guide.class, 1L ) )
+							.whenComplete( (g, e) -> {
+								context.assertTrue( budget.getOpenCount() <= BUDGET );
+								if ( e == null ) {
+									find.complete( g );
+								}
+								else {
+									find.completeExceptionally( e );
+								}
+							} ) );
+			finds.add( find );
+		}
+		final int pools = eventLoops;
+		test( context, CompletableFuture.allOf( finds.toArray( new CompletableFuture[0] ) )
+				.thenAccept( v -> {
+					context.assertTrue( budget.getOpenCount() <= BUDGET );
+					context.assertEquals( 0, budget.getInUseCount() );
+					if ( pools > BUDGET ) {
+						// some pools had to give back their connections
+						context.assertTrue( budget.getRetirementCount() > 0 );
+					}
+				} )
+		);
+	}
+
+	@Entity(name = "Guide")
+	@Table(name = "Guide")
+	public static class Guide {
+		@Id
+		private Long id;
+		private String title;
+
+		public Guide() {
+		}
+
+		public Guide(Long id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+
+		public Long getId() {
+			return id;
+		}
+
+		public void setId(Long id) {
+			this.id = id;
+		}
+
+		public String getTitle() {
+			return title;
+		}
+
+		public void setTitle(String title) {
+			this.title = title;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( this == o ) {
+				return true;
+			}
+			if ( o == null || getClass() != o.getClass() ) {
+				return false;
+			}
+			Guide guide = (Guide) o;
+			return Objects.equals( title, guide.title );
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash( title );
+		}
+	}
+}
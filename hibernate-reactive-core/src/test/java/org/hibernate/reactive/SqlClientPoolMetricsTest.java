@@ -0,0 +1,102 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.pool.impl.ContextPoolStatistics;
+import org.hibernate.reactive.pool.impl.SqlClientPoolMetrics;
+import org.hibernate.reactive.provider.Settings;
+
+import org.junit.Test;
+
+import io.vertx.ext.unit.TestContext;
+
+/**
+ * Test that a {@link SqlClientPoolMetrics} configured via
+ * {@link Settings#SQL_CLIENT_POOL_METRICS} observes connections
+ * and statements.
+ */
+public class SqlClientPoolMetricsTest extends BaseReactiveTest {
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.addAnnotatedClass( Gauge.class );
+		configuration.setProperty( Settings.SQL_CLIENT_POOL_METRICS, CountingMetrics.class.getName() );
+		return configuration;
+	}
+
+	@Test
+	public void testMetrics(TestContext context) {
+		CountingMetrics.reset();
+		test( context, getSessionFactory()
+				.withTransaction( (s, t) -> s.persist( new Gauge( 1, "pressure" ) ) )
+				.thenCompose( v -> getSessionFactory().withSession( s -> s.find( Gauge.class, 1 ) ) )
+				.thenAccept( gauge -> {
+					context.assertEquals( "pressure", gauge.name );
+					context.assertTrue( CountingMetrics.acquired.get() >= 2 );
+					context.assertTrue( CountingMetrics.released.get() >= 1 );
+					context.assertEquals( 0, CountingMetrics.failed.get() );
+					context.assertTrue( CountingMetrics.executed.get() >= 2 );
+				} )
+		);
+	}
+
+	public static class CountingMetrics implements SqlClientPoolMetrics {
+		static final AtomicInteger acquired = new AtomicInteger();
+		static final AtomicInteger released = new AtomicInteger();
+		static final AtomicInteger failed = new AtomicInteger();
+		static final AtomicInteger executed = new AtomicInteger();
+
+		static void reset() {
+			acquired.set( 0 );
+			released.set( 0 );
+			failed.set( 0 );
+			executed.set( 0 );
+		}
+
+		@Override
+		public void connectionAcquired(ContextPoolStatistics statistics, long waitNanos) {
+			acquired.incrementAndGet();
+		}
+
+		@Override
+		public void connectionAcquisitionFailed(ContextPoolStatistics statistics, long waitNanos, Throwable failure) {
+			failed.incrementAndGet();
+		}
+
+		@Override
+		public void connectionReleased(ContextPoolStatistics statistics) {
+			released.incrementAndGet();
+		}
+
+		@Override
+		public void statementExecuted(String sql, long executionNanos, int rowsReturned, int rowsAffected) {
+			executed.incrementAndGet();
+		}
+	}
+
+	@Entity(name = "Gauge")
+	@Table(name = "Gauge")
+	public static class Gauge {
+		@Id
+		Integer id;
+		String name;
+
+		public Gauge() {
+		}
+
+		public Gauge(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,126 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.hibernate.cfg.Configuration;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import io.smallrye.mutiny.Uni;
+import io.vertx.ext.unit.TestContext;
+
+import static org.hibernate.reactive.util.impl.CompletionStages.loop;
+import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
+
+/**
+ * Test processing the results of a query in chunks using
+ * {@link org.hibernate.reactive.stage.Stage.StatelessSession#scroll}
+ * and {@link org.hibernate.reactive.mutiny.Mutiny.StatelessSession#scroll}.
+ */
+public class StatelessSessionScrollTest extends BaseReactiveTest {
+
+	private static final int ENTRIES = 30;
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.addAnnotatedClass( LogEntry.class );
+		return configuration;
+	}
+
+	@Before
+	public void populateDb(TestContext context) {
+		test( context, getSessionFactory()
+				.withStatelessSession( s -> loop( 1, ENTRIES + 1, i -> s.insert( new LogEntry( i, "entry " + i ) ) ) )
+		);
+	}
+
+	@Test
+	public void testStageScroll(TestContext context) {
+		List<Integer> chunkSizes = new ArrayList<>();
+		List<Integer> ids = new ArrayList<>();
+		test( context, getSessionFactory()
+				.withStatelessSession( s -> s.scroll(
+						s.createQuery( "from LogEntry order by id", LogEntry.class ),
+						7,
+						chunk -> {
+							chunkSizes.add( chunk.size() );
+							chunk.forEach( entry -> ids.add( entry.id ) );
+							return voidFuture();
+						}
+				) )
+				.thenAccept( v -> {
+					context.assertEquals( 5, chunkSizes.size() );
+					context.assertEquals( 2, chunkSizes.get( 4 ) );
+					context.assertEquals( ENTRIES, ids.size() );
+					for ( int i = 0; i < ENTRIES; i++ ) {
+						context.assertEquals( i + 1, ids.get( i ) );
+					}
+				} )
+		);
+	}
+
+	@Test
+	public void testStageScrollUpdatingEachChunk(TestContext context) {
+		test( context, getSessionFactory()
+				.withStatelessSession( s -> s.scroll(
+						s.createQuery( "from LogEntry where id <= 10", LogEntry.class ),
+						4,
+						chunk -> loop( chunk, entry -> {
+							entry.text = entry.text.toUpperCase();
+							return s.update( entry );
+						} )
+				) )
+				.thenCompose( v -> getSessionFactory().withStatelessSession(
+						s -> s.createQuery( "select count(*) from LogEntry where text like 'ENTRY%'", Long.class )
+								.getSingleResult()
+				) )
+				.thenAccept( count -> context.assertEquals( 10L, count ) )
+		);
+	}
+
+	@Test
+	public void testMutinyScroll(TestContext context) {
+		List<Integer> chunkSizes = new ArrayList<>();
+		test( context, getMutinySessionFactory()
+				.withStatelessSession( s -> s.scroll(
+						s.createQuery( "from LogEntry where id > 5", LogEntry.class ),
+						10,
+						chunk -> {
+							chunkSizes.add( chunk.size() );
+							return Uni.createFrom().voidItem();
+						}
+				) )
+				.invoke( v -> {
+					context.assertEquals( 3, chunkSizes.size() );
+					context.assertEquals( 5, chunkSizes.get( 2 ) );
+				} )
+		);
+	}
+
+	@Entity(name = "LogEntry")
+	@Table(name = "LogEntry")
+	public static class LogEntry {
+		@Id
+		Integer id;
+		String text;
+
+		public LogEntry() {
+		}
+
+		public LogEntry(Integer id, String text) {
+			this.id = id;
+			this.text = text;
+		}
+	}
+}
@@ -0,0 +1,106 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.Properties;
+import java.util.concurrent.CompletionException;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.boot.model.relational.Database;
+import org.hibernate.boot.model.relational.ExportableProducer;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.id.IdentifierGenerationException;
+import org.hibernate.id.enhanced.TableGenerator;
+import org.hibernate.reactive.id.impl.TableReactiveIdentifierGenerator;
+import org.hibernate.reactive.provider.Settings;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+import org.junit.Test;
+
+import io.vertx.ext.unit.TestContext;
+
+/**
+ * Test that a table generator gives up after
+ * {@link Settings#TABLE_GENERATOR_MAX_RETRIES} attempts to update a row
+ * which is always updated concurrently by someone else.
+ */
+public class TableGeneratorRetryTest extends BaseReactiveTest {
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.addAnnotatedClass( Ticket.class );
+		configuration.setProperty( Settings.TABLE_GENERATOR_MAX_RETRIES, "3" );
+		return configuration;
+	}
+
+	@Test
+	public void testRetriesExhausted(TestContext context) {
+		test( context, getSessionFactory()
+				// the first id is obtained by inserting the row
+				.withTransaction( (s, t) -> s.persist( new Ticket( "first" ) ) )
+				// the next one requires updating it
+				.thenCompose( v -> getSessionFactory().withTransaction( (s, t) -> s.persist( new Ticket( "second" ) ) ) )
+				.handle( (v, error) -> {
+					context.assertNotNull( error );
+					Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+					context.assertTrue( cause instanceof IdentifierGenerationException );
+					context.assertTrue( cause.getMessage().contains( "after 3 attempts" ) );
+					return null;
+				} )
+		);
+	}
+
+	/**
+	 * A table generator which always loses the race to update the row,
+	 * as if someone else had incremented the hi value in the meantime.
+	 * The table is exported by the ORM generator.
+	 */
+	public static class ContendedTableGenerator extends TableReactiveIdentifierGenerator
+			implements ExportableProducer {
+
+		private final TableGenerator table = new TableGenerator();
+
+		@Override
+		public void configure(Type type, Properties params, ServiceRegistry serviceRegistry) {
+			super.configure( type, params, serviceRegistry );
+			table.configure( type, params, serviceRegistry );
+		}
+
+		@Override
+		public void registerExportables(Database database) {
+			table.registerExportables( database );
+		}
+
+		@Override
+		protected Object[] updateParameters(long currentValue, long updatedValue) {
+			return super.updateParameters( currentValue - 1, updatedValue );
+		}
+	}
+
+	@Entity(name = "Ticket")
+	@Table(name = "Ticket")
+	@GenericGenerator(name = "tickets",
+			strategy = "org.hibernate.reactive.TableGeneratorRetryTest$ContendedTableGenerator")
+	public static class Ticket {
+		@Id
+		@GeneratedValue(generator = "tickets")
+		Long id;
+		String text;
+
+		public Ticket() {
+		}
+
+		public Ticket(String text) {
+			this.text = text;
+		}
+	}
+}
@@ -0,0 +1,151 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.id.IdentifierGenerator;
+import org.hibernate.metamodel.spi.MetamodelImplementor;
+
+import org.junit.Test;
+
+import io.vertx.ext.unit.TestContext;
+
+/**
+ * Test the client-side generators of time-ordered identifiers,
+ * {@code "snowflake"}, {@code "uuid7"} and {@code "ulid"}.
+ */
+public class TimeOrderedGeneratorTest extends BaseReactiveTest {
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.addAnnotatedClass( Flake.class );
+		configuration.addAnnotatedClass( Uuid7.class );
+		configuration.addAnnotatedClass( Ulid.class );
+		return configuration;
+	}
+
+	@Test
+	public void testSnowflake(TestContext context) {
+		Flake[] flakes = { new Flake( 1 ), new Flake( 2 ), new Flake( 3 ) };
+		test( context, getSessionFactory()
+				.withTransaction( (s, t) -> s.persist( (Object[]) flakes ) )
+				.thenCompose( v -> getSessionFactory().withSession(
+						s -> s.createQuery( "from Flake order by id", Flake.class ).getResultList()
+				) )
+				.thenAccept( list -> {
+					assertOrder( context, list.stream().mapToInt( flake -> flake.position ).toArray() );
+					// the node id is in bits 12 to 21
+					context.assertEquals( 5L, flakes[0].id >>> 12 & 0x3FF );
+				} )
+		);
+	}
+
+	@Test
+	public void testUuid7(TestContext context) {
+		test( context, getMutinySessionFactory()
+				.withStatelessSession( s -> s.insertAll( new Uuid7( 1 ), new Uuid7( 2 ), new Uuid7( 3 ) ) )
+				.chain( () -> getMutinySessionFactory().withStatelessSession(
+						s -> s.createQuery( "from Uuid7 order by id", Uuid7.class ).getResultList()
+				) )
+				.invoke( list -> {
+					assertOrder( context, list.stream().mapToInt( uuid -> uuid.position ).toArray() );
+					context.assertEquals( '7', list.get( 0 ).id.charAt( 14 ) );
+				} )
+		);
+	}
+
+	@Test
+	public void testUlid(TestContext context) {
+		test( context, getSessionFactory()
+				.withTransaction( (s, t) -> s.persist( new Ulid( 1 ), new Ulid( 2 ), new Ulid( 3 ) ) )
+				.thenCompose( v -> getSessionFactory().withSession(
+						s -> s.createQuery( "from Ulid order by id", Ulid.class ).getResultList()
+				) )
+				.thenAccept( list -> {
+					assertOrder( context, list.stream().mapToInt( ulid -> ulid.position ).toArray() );
+					context.assertEquals( 26, list.get( 0 ).id.length() );
+				} )
+		);
+	}
+
+	@Test
+	public void testSynchronousGeneration(TestContext context) {
+		IdentifierGenerator generator = ( (MetamodelImplementor) getSessionFactory().getMetamodel() )
+				.entityPersister( Flake.class )
+				.getIdentifierGenerator();
+		// client-side generators don't need the session
+		long first = (Long) generator.generate( null, new Flake( 1 ) );
+		long second = (Long) generator.generate( null, new Flake( 2 ) );
+		context.assertTrue( second > first );
+	}
+
+	private static void assertOrder(TestContext context, int[] positions) {
+		context.assertEquals( 3, positions.length );
+		for ( int i = 0; i < positions.length; i++ ) {
+			context.assertEquals( i + 1, positions[i] );
+		}
+	}
+
+	@Entity(name = "Flake")
+	@Table(name = "Flake")
+	public static class Flake {
+		@Id
+		@GeneratedValue(generator = "flake")
+		@GenericGenerator(name = "flake", strategy = "snowflake",
+				parameters = @Parameter(name = "node_id", value = "5"))
+		Long id;
+		int position;
+
+		public Flake() {
+		}
+
+		public Flake(int position) {
+			this.position = position;
+		}
+	}
+
+	@Entity(name = "Uuid7")
+	@Table(name = "Uuid7")
+	public static class Uuid7 {
+		@Id
+		@GeneratedValue(generator = "uuid7")
+		@GenericGenerator(name = "uuid7", strategy = "uuid7")
+		String id;
+		int position;
+
+		public Uuid7() {
+		}
+
+		public Uuid7(int position) {
+			this.position = position;
+		}
+	}
+
+	@Entity(name = "Ulid")
+	@Table(name = "Ulid")
+	public static class Ulid {
+		@Id
+		@GeneratedValue(generator = "ulid")
+		@GenericGenerator(name = "ulid", strategy = "ulid")
+		String id;
+		int position;
+
+		public Ulid() {
+		}
+
+		public Ulid(int position) {
+			this.position = position;
+		}
+	}
+}